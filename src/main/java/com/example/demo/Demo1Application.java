@@ -1,12 +1,20 @@
 package com.example.demo;
 
+import com.example.demo.cli.HeadlessApplication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class Demo1Application {
 
     public static void main(String[] args) {
+        // --headless: ejecución por línea de comandos sin web ni base de datos
+        if (Arrays.asList(args).contains("--headless")) {
+            HeadlessApplication.main(args);
+            return;
+        }
         SpringApplication.run(Demo1Application.class, args);
     }
 
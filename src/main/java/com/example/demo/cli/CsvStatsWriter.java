@@ -0,0 +1,67 @@
+package com.example.demo.cli;
+
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.history.GenerationStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Escribe el resumen de cada generación como una línea CSV en cuanto se registra, en la
+ * salida estándar y opcionalmente en un archivo. Cada línea se vacía al escribirla para que
+ * otro proceso pueda seguir la ejecución en vivo.
+ */
+final class CsvStatsWriter implements Consumer<GenerationStats>, Closeable {
+
+    static final String HEADER = "generation,size,best_binary,best_x,best_fitness,mean_fitness,min_fitness,diversity";
+
+    private final int L;
+    private final PrintStream stdout;
+    private final Writer file;
+
+    CsvStatsWriter(int L, PrintStream stdout, Path csvFile) throws IOException {
+        this.L = L;
+        this.stdout = stdout;
+        this.file = csvFile != null ? Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8) : null;
+        writeLine(HEADER);
+    }
+
+    @Override
+    public void accept(GenerationStats stats) {
+        // La UI numera las generaciones desde 1
+        writeLine((stats.getGeneration() + 1) + "," + stats.getSize() + ","
+                + Chromosome.of(stats.getBestGenes(), L) + "," + stats.getBestReal() + ","
+                + stats.getBestFitness() + "," + stats.getMeanFitness() + "," + stats.getMinFitness() + ","
+                + stats.getDiversity());
+    }
+
+    private void writeLine(String line) {
+        if (stdout != null) {
+            stdout.println(line);
+            stdout.flush();
+        }
+        if (file != null) {
+            try {
+                file.write(line);
+                file.write('\n');
+                file.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo escribir el CSV", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (file != null) {
+            file.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.cli;
+
+import com.example.demo.persistence.RunPersistenceService;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Punto de entrada headless (perfil {@code cli}): solo los paquetes del algoritmo, sin servidor
+ * web, vistas, JPA ni H2, con inicialización perezosa de beans.
+ *
+ * <p>En lugar de la autoconfiguración completa se importan solo las clases necesarias
+ * (propiedades y validación), así el arranque no evalúa cientos de condiciones.</p>
+ *
+ * <pre>
+ * java -jar demo1.jar --headless --params=run.properties [--population=poblacion.txt] [--csv=stats.csv]
+ * java -jar demo1.jar --headless --params=run.properties --node=1 --nodes=a:7101,b:7101,c:7101 [--port=7101]
+ * </pre>
+ *
+ * <p>Para trabajos cortos, {@code -XX:TieredStopAtLevel=1} reduce aún más el arranque (solo
+ * compilador C1); en ejecuciones largas conviene dejar el compilador completo.</p>
+ *
+ * <p>Código de salida: 0 si la ejecución termina (con o sin convergencia), 2 si los argumentos
+ * o parámetros no son válidos y 1 ante cualquier otro error.</p>
+ */
+@SpringBootConfiguration
+@Profile("cli")
+@ComponentScan(basePackages = {"com.example.demo.genetic", "com.example.demo.conversion"})
+@Import({RunPersistenceService.class, HeadlessRunner.class})
+@ImportAutoConfiguration({PropertyPlaceholderAutoConfiguration.class, ValidationAutoConfiguration.class})
+public class HeadlessApplication {
+
+    public static void main(String[] args) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HeadlessApplication.class)
+                .profiles("cli")
+                .web(WebApplicationType.NONE)
+                .lazyInitialization(true)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run(args);
+
+        int exitCode;
+        try {
+            context.getBean(HeadlessRunner.class).run();
+            exitCode = 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            exitCode = 2;
+        } catch (Exception e) {
+            System.err.println("Error al procesar: " + e.getMessage());
+            exitCode = 1;
+        }
+        int code = exitCode;
+        System.exit(SpringApplication.exit(context, () -> code));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.demo.cli;
+
+import com.example.demo.conversion.BinaryConverterService;
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.algorithm.EvolutionOutcome;
+import com.example.demo.genetic.algorithm.GeneticAlgorithmService;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.distributed.DistributedIslandService;
+import com.example.demo.genetic.distributed.NodeMessage;
+import com.example.demo.genetic.distributed.NodeResult;
+import com.example.demo.genetic.history.GenerationHistory;
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.history.SummaryHistorySink;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DataBinder;
+import org.springframework.validation.Validator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Ejecución sin interfaz web: parámetros desde un archivo .properties (mismos nombres que los
+ * campos del formulario), población inicial opcional desde un .txt de binarios y estadísticas
+ * por generación en CSV por la salida estándar y, si se indica, en un archivo.
+ *
+ * <p>Con {@code --node=N --nodes=host:puerto,...} el proceso es el nodo N de una ejecución
+ * distribuida ({@link DistributedIslandService#runNode}); el CSV es el de este nodo y el
+ * coordinador (nodo 0) añade al resumen el mejor individuo global.</p>
+ *
+ * <p>La salida estándar queda reservada al CSV; el resumen final va a la salida de error.</p>
+ */
+@Component
+@Profile("cli")
+public class HeadlessRunner {
+
+    private final GeneticAlgorithmService geneticAlgorithmService;
+    private final BinaryConverterService binaryConverterService;
+    private final ObjectProvider<DistributedIslandService> distributedIslandService;
+    private final Validator validator;
+    private final String paramsFile;
+    private final String populationFile;
+    private final String csvFile;
+    private final boolean stdout;
+    private final String node;
+
+    public HeadlessRunner(GeneticAlgorithmService geneticAlgorithmService,
+                          BinaryConverterService binaryConverterService,
+                          ObjectProvider<DistributedIslandService> distributedIslandService,
+                          Validator validator,
+                          @Value("${genetic.cli.params:}") String paramsFile,
+                          @Value("${genetic.cli.population:}") String populationFile,
+                          @Value("${genetic.cli.csv:}") String csvFile,
+                          @Value("${genetic.cli.stdout:true}") boolean stdout,
+                          @Value("${genetic.cli.node:}") String node) {
+        this.geneticAlgorithmService = geneticAlgorithmService;
+        this.binaryConverterService = binaryConverterService;
+        this.distributedIslandService = distributedIslandService;
+        this.validator = validator;
+        this.paramsFile = paramsFile;
+        this.populationFile = populationFile;
+        this.csvFile = csvFile;
+        this.stdout = stdout;
+        this.node = node;
+    }
+
+    /**
+     * Ejecuta el algoritmo con la configuración de la línea de comandos.
+     *
+     * @return true si la ejecución se detuvo por convergencia
+     * @throws IllegalArgumentException si faltan archivos o los parámetros no son válidos
+     */
+    public boolean run() throws IOException {
+        if (paramsFile.isBlank()) {
+            throw new IllegalArgumentException("Falta el archivo de parámetros (--params=archivo.properties)");
+        }
+        AlgorithmParameters params = loadParameters(Path.of(paramsFile));
+        if (!node.isBlank() && !node.trim().matches("\\d+")) {
+            throw new IllegalArgumentException("Número de nodo inválido (--node=0, 1, ...): " + node);
+        }
+
+        if (!populationFile.isBlank()) {
+            List<String> binaryNumbers = readBinaries(Path.of(populationFile));
+            params.setMode("file");
+            params.setFileBinaries(binaryConverterService.normalizeAllBinaries(binaryNumbers, params.getL()));
+        }
+
+        RunContext context = geneticAlgorithmService.createContext(params);
+        PrintStream out = stdout ? System.out : null;
+        Path csv = csvFile.isBlank() ? null : Path.of(csvFile);
+        try (CsvStatsWriter writer = new CsvStatsWriter(context.getL(), out, csv);
+             GenerationHistory history = new GenerationHistory(new SummaryHistorySink(), writer)) {
+            EvolutionOutcome outcome;
+            NodeMessage globalBest = null;
+            if (node.isBlank()) {
+                outcome = geneticAlgorithmService.runEvolution(context, history, "cli", null);
+            } else {
+                NodeResult result = distributedIslandService.getObject().runNode(params, history);
+                outcome = result.getOutcome();
+                globalBest = result.getGlobalBest();
+            }
+            GenerationStats last = history.getStats(history.size() - 1);
+            if (last != null) {
+                System.err.printf("%s en %d generaciones; mejor %s (x = %s, f(x) = %s)%n",
+                        outcome.isConverged() ? "Convergencia alcanzada"
+                                : outcome.isStopped() ? "Detenido por " + outcome.getStopReason() : "Sin convergencia",
+                        history.size(), Chromosome.of(last.getBestGenes(), context.getL()),
+                        last.getBestReal(), last.getBestFitness());
+            }
+            if (globalBest != null) {
+                System.err.printf("Mejor global: %s (f(x) = %s) del nodo %d%n",
+                        Chromosome.of(globalBest.getBestGenes(), context.getL()), globalBest.getBestFitness(),
+                        globalBest.getSourceNode());
+            }
+            return outcome.isConverged();
+        }
+    }
+
+    /**
+     * Carga y valida los parámetros con las mismas reglas que el formulario web.
+     */
+    private AlgorithmParameters loadParameters(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        AlgorithmParameters params = new AlgorithmParameters();
+        DataBinder binder = new DataBinder(params, "params");
+        binder.setValidator(validator);
+        binder.bind(new MutablePropertyValues(properties));
+        binder.validate();
+
+        BindingResult bindingResult = binder.getBindingResult();
+        if (bindingResult.hasErrors()) {
+            StringBuilder errors = new StringBuilder("Errores de validación:");
+            bindingResult.getAllErrors().forEach(error -> errors.append(" ").append(error.getDefaultMessage()));
+            throw new IllegalArgumentException(errors.toString());
+        }
+        return params;
+    }
+
+    private static List<String> readBinaries(Path path) throws IOException {
+        List<String> binaryNumbers = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                binaryNumbers.add(line.trim());
+            }
+        }
+        if (binaryNumbers.isEmpty()) {
+            throw new IllegalArgumentException("El archivo no contiene números binarios");
+        }
+        return binaryNumbers;
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.AlgorithmParameters;
-import com.example.demo.entities.Individual;
+import com.example.demo.genetic.algorithm.EvolutionOutcome;
 import com.example.demo.genetic.algorithm.ExecutionStatus;
 import com.example.demo.genetic.algorithm.GeneticAlgorithmService;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.algorithm.RunScheduler;
 import com.example.demo.conversion.BinaryConverterService;
+import com.example.demo.genetic.history.GenerationHistory;
+import com.example.demo.genetic.history.GenerationHistoryService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -18,7 +24,7 @@ import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.RejectedExecutionException;
 
 @Controller
 public class BinaryFileController {
@@ -26,13 +32,19 @@ public class BinaryFileController {
     private final GeneticAlgorithmService geneticAlgorithmService;
     private final BinaryConverterService binaryConverterService;
     private final ExecutionStatus executionStatus;
+    private final RunScheduler runScheduler;
+    private final GenerationHistoryService generationHistoryService;
 
     public BinaryFileController(GeneticAlgorithmService geneticAlgorithmService,
                                 BinaryConverterService binaryConverterService,
-                                ExecutionStatus executionStatus) {
+                                ExecutionStatus executionStatus,
+                                RunScheduler runScheduler,
+                                GenerationHistoryService generationHistoryService) {
         this.geneticAlgorithmService = geneticAlgorithmService;
         this.binaryConverterService = binaryConverterService;
         this.executionStatus = executionStatus;
+        this.runScheduler = runScheduler;
+        this.generationHistoryService = generationHistoryService;
     }
 
     @GetMapping("/")
@@ -45,6 +57,7 @@ public class BinaryFileController {
                                    BindingResult bindingResult,
                                    @RequestParam(required = false) MultipartFile file,
                                    HttpSession session,
+                                   HttpServletResponse response,
                                    Model model) {
 
         if (bindingResult.hasErrors()) {
@@ -83,56 +96,34 @@ public class BinaryFileController {
                 binaryNumbers = binaryConverterService.normalizeAllBinaries(binaryNumbers, params.getL());
             }
 
-            // ✅ INICIAR EJECUCIÓN EN HILO SEPARADO
+            params.setFileBinaries(binaryNumbers);
+            RunContext context = geneticAlgorithmService.createContext(params);
+
+            // ✅ ENCOLAR EJECUCIÓN EN EL PLANIFICADOR (pool acotado)
             String sessionId = session.getId();
-            executionStatus.startExecution(sessionId, params.getNumGenerations());
-
-            List<String> finalBinaryNumbers = binaryNumbers;
-            new Thread(() -> {
-                try {
-                    List<List<Individual>> generations = geneticAlgorithmService.runEvolutionWithStatus(
-                            finalBinaryNumbers,
-                            params.getXmin(),
-                            params.getXmax(),
-                            params.getL(),
-                            params.getFunctionType(),
-                            params.getSelectionType(),
-                            params.getCrossoverType(),
-                            params.getMutationType(),
-                            params.getPopulationSize(),
-                            params.getNumGenerations(),
-                            params.getMutationRate(),
-                            params.getCrossoverRate(),
-                            params.getMode(),
-                            sessionId,
-                            executionStatus
-                    );
-
-                    List<List<Double>> fitnessByGeneration = generations.stream()
-                            .map(gen -> gen.stream()
-                                    .map(Individual::getAdaptative)
-                                    .collect(Collectors.toList()))
-                            .collect(Collectors.toList());
-
-                    session.setAttribute("generations", generations);
-                    session.setAttribute("fitnessByGeneration", fitnessByGeneration);
-                    session.setAttribute("functionType", params.getFunctionType());
-                    session.setAttribute("xmin", params.getXmin());
-                    session.setAttribute("xmax", params.getXmax());
-                    session.setAttribute("L", params.getL());
-
-                    executionStatus.markCompleted(sessionId);
-
-                } catch (Exception e) {
-                    executionStatus.markCompleted(sessionId);
-                }
-            }).start();
+            runScheduler.submit(sessionId, params.getNumGenerations(), () -> {
+                // Solo el historial (estadísticas + almacenamiento de generaciones) queda en la sesión
+                GenerationHistory history = generationHistoryService.open(sessionId, context.getL(),
+                        context.getXmin(), context.getXmax());
+                EvolutionOutcome outcome = geneticAlgorithmService.runEvolution(context, history, sessionId, executionStatus);
+
+                session.setAttribute("history", history);
+                session.setAttribute("functionType", params.getFunctionType());
+                session.setAttribute("xmin", params.getXmin());
+                session.setAttribute("xmax", params.getXmax());
+                session.setAttribute("L", params.getL());
+                return outcome;
+            });
 
             return "redirect:/loading";
 
         } catch (IllegalArgumentException e) {
             model.addAttribute("error", "Error de validación: " + e.getMessage());
             return "error";
+        } catch (RejectedExecutionException e) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            model.addAttribute("error", "Ejecución rechazada: " + e.getMessage());
+            return "error";
         } catch (Exception e) {
             model.addAttribute("error", "Error al procesar: " + e.getMessage());
             return "error";
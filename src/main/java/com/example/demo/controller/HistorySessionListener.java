@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import com.example.demo.genetic.algorithm.ExecutionStatus;
+import com.example.demo.genetic.history.GenerationHistoryService;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Borra el historial de generaciones y el estado de ejecución de una sesión cuando esta expira.
+ */
+@Component
+public class HistorySessionListener implements HttpSessionListener {
+
+    private final GenerationHistoryService generationHistoryService;
+    private final ExecutionStatus executionStatus;
+
+    public HistorySessionListener(GenerationHistoryService generationHistoryService,
+                                  ExecutionStatus executionStatus) {
+        this.generationHistoryService = generationHistoryService;
+        this.executionStatus = executionStatus;
+    }
+
+    @Override
+    public void sessionDestroyed(HttpSessionEvent event) {
+        String sessionId = event.getSession().getId();
+        generationHistoryService.release(sessionId);
+        executionStatus.release(sessionId);
+    }
+}
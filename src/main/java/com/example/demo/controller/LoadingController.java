@@ -3,13 +3,17 @@ package com.example.demo.controller;
 // package com.example.demo.controller;
 
 import com.example.demo.genetic.algorithm.ExecutionStatus;
+import com.example.demo.genetic.island.IslandProgress;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.util.List;
+
 @Controller
 public class LoadingController {
 
@@ -29,27 +33,49 @@ public class LoadingController {
     @GetMapping("/api/execution-status")
     @ResponseBody
     public ExecutionProgress getExecutionStatus(@RequestParam String sessionId) {
+        executionStatus.touch(sessionId);
         boolean completed = executionStatus.isCompleted(sessionId);
         int currentGen = executionStatus.getCurrentGeneration(sessionId);
         int totalGen = executionStatus.getTotalGenerations(sessionId);
 
-        return new ExecutionProgress(completed, currentGen, totalGen);
+        return new ExecutionProgress(completed, currentGen, totalGen,
+                executionStatus.getStatus(sessionId), executionStatus.getError(sessionId),
+                executionStatus.getIslands(sessionId));
+    }
+
+    @PostMapping("/api/execution-cancel")
+    @ResponseBody
+    public ExecutionProgress cancelExecution(HttpSession session) {
+        // Solo la propia sesión puede cancelar su ejecución
+        String sessionId = session.getId();
+        executionStatus.requestCancel(sessionId);
+        return getExecutionStatus(sessionId);
     }
 
     public static class ExecutionProgress {
         private final boolean completed;
         private final int currentGeneration;
         private final int totalGenerations;
+        private final String status;
+        private final String error;
+        private final List<IslandProgress> islands;
 
-        public ExecutionProgress(boolean completed, int currentGeneration, int totalGenerations) {
+        public ExecutionProgress(boolean completed, int currentGeneration, int totalGenerations,
+                                 String status, String error, List<IslandProgress> islands) {
             this.completed = completed;
             this.currentGeneration = currentGeneration;
             this.totalGenerations = totalGenerations;
+            this.status = status;
+            this.error = error;
+            this.islands = islands;
         }
 
         // Getters
         public boolean isCompleted() { return completed; }
         public int getCurrentGeneration() { return currentGeneration; }
         public int getTotalGenerations() { return totalGenerations; }
+        public String getStatus() { return status; }
+        public String getError() { return error; }
+        public List<IslandProgress> getIslands() { return islands; }
     }
 }
@@ -1,13 +1,12 @@
 package com.example.demo.controller;
 
-import com.example.demo.entities.Individual;
 import com.example.demo.conversion.BinaryConverterService;
+import com.example.demo.genetic.history.GenerationHistory;
 import com.example.demo.visualization.ChartService;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
-import java.util.List;
 
 @Controller
 public class ResultsController {
@@ -26,24 +25,28 @@ public class ResultsController {
                               HttpSession session,
                               Model model) {
         try {
-            @SuppressWarnings("unchecked")
-            List<List<Individual>> generations = (List<List<Individual>>) session.getAttribute("generations");
-            @SuppressWarnings("unchecked")
-            List<List<Double>> fitnessByGeneration = (List<List<Double>>) session.getAttribute("fitnessByGeneration");
+            GenerationHistory history = (GenerationHistory) session.getAttribute("history");
             String functionType = (String) session.getAttribute("functionType");
             Double xmin = (Double) session.getAttribute("xmin");
             Double xmax = (Double) session.getAttribute("xmax");
             Integer L = (Integer) session.getAttribute("L");
 
-            if (generations == null || fitnessByGeneration == null) {
+            if (history == null || history.size() == 0) {
                 model.addAttribute("error", "No hay resultados disponibles. Por favor ejecute el algoritmo nuevamente.");
                 return "error";
             }
 
             // ✅ GENERAR GRÁFICA SOLO CUANDO SE CARGA LA VISTA
-            String chartImage = chartService.generateAdaptativeChart(fitnessByGeneration, functionType);
+            String chartImage = chartService.generateAdaptativeChart(history.bestFitnessByGeneration(), functionType);
 
-            model.addAttribute("generations", generations);
+            // Solo se leen del almacenamiento los individuos de la generación que se muestra
+            int totalGenerations = history.size();
+            boolean available = currentGeneration >= 1 && currentGeneration <= totalGenerations;
+            model.addAttribute("totalGenerations", totalGenerations);
+            model.addAttribute("stats", available ? history.getStats(currentGeneration - 1) : null);
+            model.addAttribute("individuals", available
+                    ? history.individuals(currentGeneration - 1)
+                    : null);
             model.addAttribute("chartImage", chartImage);
             model.addAttribute("xmin", xmin);
             model.addAttribute("xmax", xmax);
@@ -0,0 +1,62 @@
+package com.example.demo.controller;
+
+import com.example.demo.persistence.IndividualService;
+import com.example.demo.repository.GenerationAggregate;
+import com.example.demo.repository.IndividualView;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import java.util.List;
+
+/**
+ * Consultas sobre las ejecuciones guardadas en base de datos ({@code genetic.persistence.enabled}).
+ *
+ * <p>Todas paginan y ordenan en SQL; nunca se lee la tabla completa.</p>
+ */
+@Controller
+public class StoredRunController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final IndividualService individualService;
+
+    public StoredRunController(IndividualService individualService) {
+        this.individualService = individualService;
+    }
+
+    @GetMapping("/api/runs")
+    @ResponseBody
+    public List<String> listRuns() {
+        return individualService.findRunIds();
+    }
+
+    @GetMapping("/api/runs/{runId}/stats")
+    @ResponseBody
+    public List<GenerationAggregate> generationStats(@PathVariable String runId) {
+        return individualService.aggregateByGeneration(runId);
+    }
+
+    @GetMapping("/api/runs/{runId}/generations/{generation}")
+    @ResponseBody
+    public List<IndividualView> generationPage(@PathVariable String runId,
+                                               @PathVariable int generation,
+                                               @RequestParam(defaultValue = "0") int page,
+                                               @RequestParam(defaultValue = "100") int size) {
+        // La UI numera las generaciones desde 1; en la base de datos empiezan en 0
+        return individualService.findGenerationPage(runId, generation - 1, Math.max(0, page), pageSize(size));
+    }
+
+    @GetMapping("/api/runs/{runId}/individuals")
+    @ResponseBody
+    public List<IndividualView> runPage(@PathVariable String runId,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "100") int size) {
+        return individualService.findRunPage(runId, Math.max(0, page), pageSize(size));
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.SweepRequest;
+import com.example.demo.genetic.sweep.SweepProgress;
+import com.example.demo.genetic.sweep.SweepService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.net.URI;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Barridos de parámetros: recibe la rejilla en JSON y responde de inmediato (202) con el
+ * identificador del barrido; el progreso y, al terminar, las métricas agregadas por combinación
+ * se consultan en {@code GET /api/sweeps/{id}} y {@code DELETE} lo cancela.
+ */
+@Controller
+public class SweepController {
+
+    private final SweepService sweepService;
+
+    public SweepController(SweepService sweepService) {
+        this.sweepService = sweepService;
+    }
+
+    @PostMapping("/api/sweeps")
+    @ResponseBody
+    public ResponseEntity<?> submitSweep(@Valid @RequestBody SweepRequest request) {
+        try {
+            SweepProgress progress = sweepService.submit(request);
+            return ResponseEntity.accepted().location(URI.create("/api/sweeps/" + progress.getId())).body(progress);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error de validación: " + e.getMessage());
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Barrido rechazado: " + e.getMessage());
+        }
+    }
+
+    @GetMapping("/api/sweeps/{id}")
+    @ResponseBody
+    public ResponseEntity<SweepProgress> getSweep(@PathVariable String id) {
+        SweepProgress progress = sweepService.progress(id);
+        return progress != null ? ResponseEntity.ok(progress) : ResponseEntity.notFound().build();
+    }
+
+    @DeleteMapping("/api/sweeps/{id}")
+    @ResponseBody
+    public ResponseEntity<SweepProgress> cancelSweep(@PathVariable String id) {
+        SweepProgress progress = sweepService.cancel(id);
+        return progress != null ? ResponseEntity.ok(progress) : ResponseEntity.notFound().build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.demo.conversion;
 
+import com.example.demo.genetic.chromosome.Chromosome;
 import org.slf4j.*;
 import org.springframework.stereotype.Service;
 import java.util.List;
@@ -19,17 +20,32 @@ public class BinaryConverterService {
     public int convertBinaryToInt(String binaryString) {
         String clean = binaryString.trim();
         // ❌ ELIMINADO: log.trace("Convirtiendo binario a entero: {}", clean);
-        if (!clean.matches("[01]+")) {
-            log.warn("Cadena no binaria: {}", clean);
-            throw new IllegalArgumentException("Cadena no binaria: " + clean);
-        }
+        Chromosome chromosome;
         try {
-            // ❌ ELIMINADO: log.debug("Binario {} → Decimal {}", clean, value);
-            return Integer.parseInt(clean, 2);
-        } catch (NumberFormatException e) {
+            chromosome = Chromosome.parse(clean);
+        } catch (IllegalArgumentException e) {
+            log.warn("Binario no válido: {} ({})", clean, e.getMessage());
+            throw e;
+        }
+        // ❌ ELIMINADO: log.debug("Binario {} → Decimal {}", clean, value);
+        if (chromosome.toLong() < 0 || chromosome.toLong() > Integer.MAX_VALUE) {
             log.error("Número binario demasiado grande: {}", clean);
             throw new IllegalArgumentException("Número binario demasiado grande: " + clean);
         }
+        return (int) chromosome.toLong();
+    }
+
+    /**
+     * Convierte un binario de texto (frontera con la UI) a cromosoma empaquetado de longitud L.
+     */
+    public Chromosome toChromosome(String binary, int L) {
+        return Chromosome.parse(normalizeBinary(binary, L));
+    }
+
+    public List<Chromosome> toChromosomes(List<String> binaries, int L) {
+        return binaries.stream()
+                .map(bin -> toChromosome(bin, L))
+                .collect(Collectors.toList());
     }
 
     public String normalizeBinary(String binary, int length) {
@@ -41,7 +57,7 @@ public class BinaryConverterService {
         } else if (clean.length() < length) {
             // ❌ Opcional: puedes eliminar este log también
             // log.trace("Binario rellenado {} → {}", clean, result);
-            return String.format("%" + length + "s", clean).replace(' ', '0');
+            return "0".repeat(length - clean.length()) + clean;
         }
         return clean;
     }
@@ -1,5 +1,8 @@
 package com.example.demo.conversion;
 
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.vector.VectorKernels;
+import com.example.demo.genetic.vector.VectorSupport;
 import org.slf4j.*;
 import org.springframework.stereotype.Service;
 import java.util.List;
@@ -18,7 +21,7 @@ public class RealConverterService {
             throw new IllegalArgumentException("L debe ser un entero positivo");
         }
 
-        double maxDecimalValue = Math.pow(2, L) - 1;
+        double maxDecimalValue = maxDecimal(L);
         double range = xmax - xmin;
         double scaleFactor = range / maxDecimalValue;
 
@@ -34,11 +37,47 @@ public class RealConverterService {
                 .collect(Collectors.toList());
     }
 
-    public Double toRealSingle(int decimal, double xmin, double xmax, int L) {
-        double maxDecimalValue = Math.pow(2, L) - 1;
-        double scaleFactor = (xmax - xmin) / maxDecimalValue;
-        double real = xmin + (decimal * scaleFactor);
-        log.trace("toRealSingle: {} → {}", decimal, String.format("%.6f", real));
+    public double toRealSingle(long decimal, double xmin, double xmax, int L) {
+        double real = xmin + (decimal * scaleFactor(xmin, xmax, L));
+        if (log.isTraceEnabled()) {
+            log.trace("toRealSingle: {} → {}", decimal, String.format("%.6f", real));
+        }
         return real;
     }
+
+    /**
+     * Decodifica en lote las posiciones [from, to) de {@code genes}; mismos valores que toRealSingle.
+     */
+    public void toReal(long[] genes, double[] out, int from, int to, double xmin, double xmax, int L) {
+        double scaleFactor = scaleFactor(xmin, xmax, L);
+        if (VectorSupport.isAvailable()) {
+            VectorKernels.decode(genes, out, from, to, xmin, scaleFactor);
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            out[i] = xmin + (genes[i] * scaleFactor);
+        }
+    }
+
+    /**
+     * Paso entre valores reales consecutivos: (xmax - xmin) / (2^L - 1).
+     * Los bucles sobre muchos individuos deben calcularlo una vez y reutilizarlo.
+     */
+    public double scaleFactor(double xmin, double xmax, int L) {
+        return (xmax - xmin) / maxDecimal(L);
+    }
+
+    /**
+     * 2^L - 1 como double, sin Math.pow (mismo valor que Math.pow(2, L) - 1).
+     */
+    private static double maxDecimal(int L) {
+        return L < Long.SIZE ? (double) ((1L << L) - 1) : Math.pow(2, L) - 1;
+    }
+
+    /**
+     * Decodifica un cromosoma empaquetado directamente a su valor real.
+     */
+    public double toReal(Chromosome chromosome, double xmin, double xmax, int L) {
+        return xmin + chromosome.decimalValue() * scaleFactor(xmin, xmax, L);
+    }
 }
\ No newline at end of file
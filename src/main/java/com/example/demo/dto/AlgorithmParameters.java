@@ -38,6 +38,46 @@ public class AlgorithmParameters {
     @NotBlank(message = "El tipo de mutación es requerido")
     private String mutationType = "simple";
 
+    // Torneo: participantes, muestreo sin reemplazo y probabilidad de que gane el mejor (1 = determinista)
+    @Min(value = 2, message = "El torneo debe tener al menos 2 participantes")
+    @Max(value = 100, message = "El torneo no puede tener más de 100 participantes")
+    private Integer tournamentSize = 3;
+
+    private Boolean tournamentWithoutReplacement = false;
+
+    @DecimalMin(value = "0.5", message = "La presión del torneo debe ser >= 0.5")
+    @DecimalMax(value = "1.0", message = "La presión del torneo debe ser <= 1")
+    private Double tournamentPressure = 1.0;
+
+    // Modelo de islas: subpoblaciones en paralelo con migración (1 = una sola población)
+    @Min(value = 1, message = "Debe haber al menos 1 isla")
+    @Max(value = 64, message = "No puede haber más de 64 islas")
+    private Integer islands = 1;
+
+    // Topología de migración: ring | full
+    private String migrationTopology = "ring";
+
+    @Min(value = 1, message = "El intervalo de migración debe ser al menos 1 generación")
+    private Integer migrationInterval = 5;
+
+    @Min(value = 0, message = "El número de migrantes no puede ser negativo")
+    @Max(value = 1000, message = "El número de migrantes no puede exceder 1000")
+    private Integer migrantCount = 2;
+
+    // Reemplazo: generational | mu-plus-lambda | steady-state
+    @NotBlank(message = "El tipo de reemplazo es requerido")
+    private String replacementType = "generational";
+
+    // Mejores padres que pasan intactos a la siguiente generación (reemplazo generacional)
+    @Min(value = 0, message = "El número de élites no puede ser negativo")
+    @Max(value = 1000, message = "El número de élites no puede exceder 1000")
+    private Integer eliteCount = 0;
+
+    // Fracción de la población reemplazada por generación (reemplazo estacionario)
+    @DecimalMin(value = "0.001", message = "La fracción de reemplazo debe ser > 0")
+    @DecimalMax(value = "1.0", message = "La fracción de reemplazo debe ser <= 1")
+    private Double steadyStateRate = 0.1;
+
     @NotNull(message = "El tamaño de población es requerido")
     @Min(value = 3, message = "El tamaño de población debe ser al menos 3")
     @Max(value = 10000, message = "El tamaño de población no puede exceder 10000")
@@ -58,6 +98,17 @@ public class AlgorithmParameters {
     @DecimalMax(value = "1.0", message = "La tasa de cruce debe ser <= 1")
     private Double crossoverRate = 0.8;
 
+    // Opcional: misma semilla → misma ejecución
+    private Long seed;
+
+    // Límites de la ejecución: tiempo de reloj y número de evaluaciones de fitness (null = sin límite)
+    @Min(value = 1, message = "El tiempo máximo debe ser al menos 1 segundo")
+    @Max(value = 86400, message = "El tiempo máximo no puede exceder 86400 segundos")
+    private Integer maxSeconds;
+
+    @Min(value = 1, message = "El máximo de evaluaciones debe ser al menos 1")
+    private Long maxEvaluations;
+
     // Getters y setters
     public String getMode() { return mode; }
     public void setMode(String mode) { this.mode = mode; }
@@ -86,6 +137,36 @@ public class AlgorithmParameters {
     public String getMutationType() { return mutationType; }
     public void setMutationType(String mutationType) { this.mutationType = mutationType; }
 
+    public Integer getTournamentSize() { return tournamentSize; }
+    public void setTournamentSize(Integer tournamentSize) { this.tournamentSize = tournamentSize; }
+
+    public Boolean getTournamentWithoutReplacement() { return tournamentWithoutReplacement; }
+    public void setTournamentWithoutReplacement(Boolean tournamentWithoutReplacement) { this.tournamentWithoutReplacement = tournamentWithoutReplacement; }
+
+    public Double getTournamentPressure() { return tournamentPressure; }
+    public void setTournamentPressure(Double tournamentPressure) { this.tournamentPressure = tournamentPressure; }
+
+    public Integer getIslands() { return islands; }
+    public void setIslands(Integer islands) { this.islands = islands; }
+
+    public String getMigrationTopology() { return migrationTopology; }
+    public void setMigrationTopology(String migrationTopology) { this.migrationTopology = migrationTopology; }
+
+    public Integer getMigrationInterval() { return migrationInterval; }
+    public void setMigrationInterval(Integer migrationInterval) { this.migrationInterval = migrationInterval; }
+
+    public Integer getMigrantCount() { return migrantCount; }
+    public void setMigrantCount(Integer migrantCount) { this.migrantCount = migrantCount; }
+
+    public String getReplacementType() { return replacementType; }
+    public void setReplacementType(String replacementType) { this.replacementType = replacementType; }
+
+    public Integer getEliteCount() { return eliteCount; }
+    public void setEliteCount(Integer eliteCount) { this.eliteCount = eliteCount; }
+
+    public Double getSteadyStateRate() { return steadyStateRate; }
+    public void setSteadyStateRate(Double steadyStateRate) { this.steadyStateRate = steadyStateRate; }
+
     public Integer getPopulationSize() { return populationSize; }
     public void setPopulationSize(Integer populationSize) { this.populationSize = populationSize; }
 
@@ -97,4 +178,48 @@ public class AlgorithmParameters {
 
     public Double getCrossoverRate() { return crossoverRate; }
     public void setCrossoverRate(Double crossoverRate) { this.crossoverRate = crossoverRate; }
-}
\ No newline at end of file
+
+    public Long getSeed() { return seed; }
+    public void setSeed(Long seed) { this.seed = seed; }
+
+    public Integer getMaxSeconds() { return maxSeconds; }
+    public void setMaxSeconds(Integer maxSeconds) { this.maxSeconds = maxSeconds; }
+
+    public Long getMaxEvaluations() { return maxEvaluations; }
+    public void setMaxEvaluations(Long maxEvaluations) { this.maxEvaluations = maxEvaluations; }
+
+    /**
+     * Copia independiente para variar parámetros (p. ej. en un barrido); los binarios del
+     * archivo se comparten porque no se modifican.
+     */
+    public AlgorithmParameters copy() {
+        AlgorithmParameters copy = new AlgorithmParameters();
+        copy.mode = mode;
+        copy.fileBinaries = fileBinaries;
+        copy.xmin = xmin;
+        copy.xmax = xmax;
+        copy.L = L;
+        copy.functionType = functionType;
+        copy.selectionType = selectionType;
+        copy.crossoverType = crossoverType;
+        copy.mutationType = mutationType;
+        copy.tournamentSize = tournamentSize;
+        copy.tournamentWithoutReplacement = tournamentWithoutReplacement;
+        copy.tournamentPressure = tournamentPressure;
+        copy.islands = islands;
+        copy.migrationTopology = migrationTopology;
+        copy.migrationInterval = migrationInterval;
+        copy.migrantCount = migrantCount;
+        copy.replacementType = replacementType;
+        copy.eliteCount = eliteCount;
+        copy.steadyStateRate = steadyStateRate;
+        copy.populationSize = populationSize;
+        copy.numGenerations = numGenerations;
+        copy.mutationRate = mutationRate;
+        copy.crossoverRate = crossoverRate;
+        copy.seed = seed;
+        copy.maxSeconds = maxSeconds;
+        copy.maxEvaluations = maxEvaluations;
+        return copy;
+    }
+}
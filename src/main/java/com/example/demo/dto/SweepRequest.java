@@ -0,0 +1,54 @@
+package com.example.demo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+/**
+ * Barrido de parámetros: producto cartesiano de los ejes indicados sobre {@code base}, con
+ * {@code seeds} ejecuciones (semillas consecutivas) por combinación. Un eje vacío o ausente
+ * toma el valor de {@code base}. Las tasas se validan aquí; los tipos de operador, contra las
+ * estrategias registradas, en {@code SweepService} antes de encolar el barrido.
+ */
+public class SweepRequest {
+
+    @Valid
+    @NotNull(message = "Los parámetros base son requeridos")
+    private AlgorithmParameters base;
+
+    private List<String> selectionTypes;
+    private List<String> crossoverTypes;
+    private List<String> mutationTypes;
+    private List<@NotNull(message = "Las tasas de mutación no pueden ser nulas")
+            @DecimalMin(value = "0.0", message = "La tasa de mutación debe ser >= 0")
+            @DecimalMax(value = "1.0", message = "La tasa de mutación debe ser <= 1") Double> mutationRates;
+    private List<@NotNull(message = "Las tasas de cruce no pueden ser nulas")
+            @DecimalMin(value = "0.0", message = "La tasa de cruce debe ser >= 0")
+            @DecimalMax(value = "1.0", message = "La tasa de cruce debe ser <= 1") Double> crossoverRates;
+
+    @NotNull(message = "El número de semillas es requerido")
+    @Min(value = 1, message = "Debe haber al menos 1 semilla por combinación")
+    @Max(value = 1000, message = "No puede haber más de 1000 semillas por combinación")
+    private Integer seeds = 10;
+
+    public AlgorithmParameters getBase() { return base; }
+    public void setBase(AlgorithmParameters base) { this.base = base; }
+
+    public List<String> getSelectionTypes() { return selectionTypes; }
+    public void setSelectionTypes(List<String> selectionTypes) { this.selectionTypes = selectionTypes; }
+
+    public List<String> getCrossoverTypes() { return crossoverTypes; }
+    public void setCrossoverTypes(List<String> crossoverTypes) { this.crossoverTypes = crossoverTypes; }
+
+    public List<String> getMutationTypes() { return mutationTypes; }
+    public void setMutationTypes(List<String> mutationTypes) { this.mutationTypes = mutationTypes; }
+
+    public List<Double> getMutationRates() { return mutationRates; }
+    public void setMutationRates(List<Double> mutationRates) { this.mutationRates = mutationRates; }
+
+    public List<Double> getCrossoverRates() { return crossoverRates; }
+    public void setCrossoverRates(List<Double> crossoverRates) { this.crossoverRates = crossoverRates; }
+
+    public Integer getSeeds() { return seeds; }
+    public void setSeeds(Integer seeds) { this.seeds = seeds; }
+}
@@ -1,19 +1,27 @@
 package com.example.demo.entities;
 
+import com.example.demo.genetic.chromosome.Chromosome;
 import jakarta.persistence.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_individual_run_generation", columnList = "run_id, generation"))
 public class Individual {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "run_id", length = 36)
+    private String runId;
     private String binary;
     private Double real;
     private Double adaptative;
     private int generation;
 
+    // Representación empaquetada usada por el motor; el binario en texto se genera bajo demanda
+    @Transient
+    private Chromosome chromosome;
+
     public Individual(String binary, Double real, Double adaptative, int generation) {
         this.binary = binary;
         this.real = real;
@@ -21,21 +29,47 @@ public class Individual {
         this.generation = generation;
     }
 
+    public Individual(Chromosome chromosome, Double real, Double adaptative, int generation) {
+        this.chromosome = chromosome;
+        this.real = real;
+        this.adaptative = adaptative;
+        this.generation = generation;
+    }
+
     public Individual() {
 
     }
 
     public Long getId() { return id; }
-    public String getBinary() { return binary; }
+    public String getRunId() { return runId; }
+    public void setRunId(String runId) { this.runId = runId; }
+    public String getBinary() {
+        if (binary == null && chromosome != null) {
+            binary = chromosome.toBinaryString();
+        }
+        return binary;
+    }
+    public Chromosome getChromosome() {
+        if (chromosome == null && binary != null) {
+            chromosome = Chromosome.parse(binary);
+        }
+        return chromosome;
+    }
     public Double getReal() { return real; }
     public Double getAdaptative() { return adaptative; }
     public int getGeneration() { return generation; }
 
+    @PrePersist
+    void materializeBinary() {
+        getBinary();
+    }
+
     @Override
     public String toString() {
         return "Individual{" +
                 "id=" + id +
-                ", binary='" + binary + '\'' +
+                ", runId='" + runId + '\'' +
+                ", binary='" + getBinary() + '\'' +
                 ", real=" + real +
                 ", adaptative=" + adaptative +
                 ", generation=" + generation +
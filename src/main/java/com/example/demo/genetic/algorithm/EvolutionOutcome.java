@@ -0,0 +1,33 @@
+package com.example.demo.genetic.algorithm;
+
+/**
+ * Cómo terminó una ejecución de {@link GeneticAlgorithmService#runEvolution}.
+ *
+ * <p>El servicio no toca el estado final en {@link ExecutionStatus}: quien lanzó la ejecución
+ * (normalmente {@link RunScheduler}) lo marca como completado o cancelado cuando termina de
+ * guardar sus resultados.</p>
+ */
+public class EvolutionOutcome {
+
+    private final boolean converged;
+    private final String stopReason;
+    private final int generations;
+
+    public EvolutionOutcome(boolean converged, String stopReason, int generations) {
+        this.converged = converged;
+        this.stopReason = stopReason;
+        this.generations = generations;
+    }
+
+    public boolean isConverged() { return converged; }
+
+    /**
+     * Motivo de una parada anticipada (cancelación, cliente inactivo, tiempo o evaluaciones
+     * máximas, orden del coordinador); null si terminó por convergencia o por el límite de generaciones.
+     */
+    public String getStopReason() { return stopReason; }
+
+    public boolean isStopped() { return stopReason != null; }
+
+    public int getGenerations() { return generations; }
+}
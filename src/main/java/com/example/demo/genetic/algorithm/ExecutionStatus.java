@@ -2,10 +2,17 @@ package com.example.demo.genetic.algorithm;
 
 // package com.example.demo.genetic.algorithm;
 
+import com.example.demo.genetic.island.IslandProgress;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @Component
 public class ExecutionStatus {
@@ -13,12 +20,99 @@ public class ExecutionStatus {
     private final ConcurrentHashMap<String, AtomicInteger> totalGenerations = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, AtomicReference<String>> status = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Boolean> completed = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> errors = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Boolean> cancelRequested = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> lastSeen = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicReferenceArray<IslandProgress>> islands = new ConcurrentHashMap<>();
+    private final Set<String> released = ConcurrentHashMap.newKeySet();
+    private final long abandonTimeoutNanos;
+
+    public ExecutionStatus(@Value("${genetic.runs.abandon-timeout-seconds:120}") long abandonTimeoutSeconds) {
+        this.abandonTimeoutNanos = Duration.ofSeconds(abandonTimeoutSeconds).toNanos();
+    }
 
     public void startExecution(String sessionId, int totalGens) {
         currentGeneration.put(sessionId, new AtomicInteger(0));
         totalGenerations.put(sessionId, new AtomicInteger(totalGens));
         status.put(sessionId, new AtomicReference<>("Iniciando..."));
         completed.put(sessionId, false);
+        errors.remove(sessionId);
+        cancelRequested.remove(sessionId);
+        lastSeen.put(sessionId, System.nanoTime());
+        islands.remove(sessionId);
+    }
+
+    /**
+     * Reserva el progreso por isla de una ejecución con modelo de islas.
+     */
+    public void startIslands(String sessionId, int count) {
+        islands.put(sessionId, new AtomicReferenceArray<>(count));
+    }
+
+    /**
+     * Publica el progreso de una isla; cada isla escribe solo su posición.
+     */
+    public void updateIsland(String sessionId, IslandProgress progress) {
+        AtomicReferenceArray<IslandProgress> current = islands.get(sessionId);
+        if (current != null && progress.getIsland() < current.length()) {
+            current.set(progress.getIsland(), progress);
+        }
+    }
+
+    /**
+     * Progreso por isla (vacío si la ejecución usa una sola población).
+     */
+    public List<IslandProgress> getIslands(String sessionId) {
+        AtomicReferenceArray<IslandProgress> current = islands.get(sessionId);
+        List<IslandProgress> result = new ArrayList<>();
+        if (current != null) {
+            for (int i = 0; i < current.length(); i++) {
+                IslandProgress progress = current.get(i);
+                if (progress != null) {
+                    result.add(progress);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Solicita la cancelación cooperativa; la ejecución se detiene al terminar la generación en curso.
+     */
+    public boolean requestCancel(String sessionId) {
+        if (isCompleted(sessionId)) {
+            return false;
+        }
+        cancelRequested.put(sessionId, true);
+        setStatus(sessionId, "Cancelando...");
+        return true;
+    }
+
+    public boolean isCancelRequested(String sessionId) {
+        return cancelRequested.getOrDefault(sessionId, false);
+    }
+
+    /**
+     * Registra que el cliente sigue consultando el progreso.
+     */
+    public void touch(String sessionId) {
+        lastSeen.computeIfPresent(sessionId, (id, previous) -> System.nanoTime());
+    }
+
+    /**
+     * Una ejecución se considera abandonada si nadie consulta su progreso durante
+     * {@code genetic.runs.abandon-timeout-seconds} (0 desactiva la comprobación).
+     */
+    public boolean isAbandoned(String sessionId) {
+        Long seen = lastSeen.get(sessionId);
+        return abandonTimeoutNanos > 0 && seen != null && System.nanoTime() - seen > abandonTimeoutNanos;
+    }
+
+    public void setStatus(String sessionId, String message) {
+        AtomicReference<String> current = status.get(sessionId);
+        if (current != null) {
+            current.set(message);
+        }
     }
 
     public void updateGeneration(String sessionId, int gen) {
@@ -29,13 +123,37 @@ public class ExecutionStatus {
     }
 
     public void markCompleted(String sessionId) {
+        setStatus(sessionId, "Completado");
+        completed.put(sessionId, true);
+        forgetIfReleased(sessionId);
+    }
+
+    public void markCancelled(String sessionId, String reason) {
+        setStatus(sessionId, "Cancelado: " + reason);
         completed.put(sessionId, true);
+        forgetIfReleased(sessionId);
+    }
+
+    public void markFailed(String sessionId, String error) {
+        errors.put(sessionId, error);
+        setStatus(sessionId, "Error: " + error);
+        completed.put(sessionId, true);
+        forgetIfReleased(sessionId);
     }
 
     public boolean isCompleted(String sessionId) {
         return completed.getOrDefault(sessionId, true);
     }
 
+    public String getStatus(String sessionId) {
+        AtomicReference<String> current = status.get(sessionId);
+        return current != null ? current.get() : null;
+    }
+
+    public String getError(String sessionId) {
+        return errors.get(sessionId);
+    }
+
     public int getCurrentGeneration(String sessionId) {
         AtomicInteger current = currentGeneration.get(sessionId);
         return current != null ? current.get() : 0;
@@ -45,4 +163,38 @@ public class ExecutionStatus {
         AtomicInteger total = totalGenerations.get(sessionId);
         return total != null ? total.get() : 0;
     }
+
+    /**
+     * La sesión ya no existe: olvida su estado ahora si no tiene ejecución en curso o, si la
+     * tiene, solicita su cancelación y lo olvida en cuanto la ejecución fije su estado final.
+     */
+    public void release(String sessionId) {
+        // Se marca antes de comprobar: si la ejecución termina entre medias, la olvida markX
+        released.add(sessionId);
+        if (isCompleted(sessionId)) {
+            forgetIfReleased(sessionId);
+        } else {
+            requestCancel(sessionId);
+        }
+    }
+
+    private void forgetIfReleased(String sessionId) {
+        if (released.remove(sessionId)) {
+            forget(sessionId);
+        }
+    }
+
+    /**
+     * Olvida todo el estado de una ejecución terminada (p. ej. un barrido que ya no se conserva).
+     */
+    public void forget(String sessionId) {
+        currentGeneration.remove(sessionId);
+        totalGenerations.remove(sessionId);
+        status.remove(sessionId);
+        completed.remove(sessionId);
+        errors.remove(sessionId);
+        cancelRequested.remove(sessionId);
+        lastSeen.remove(sessionId);
+        islands.remove(sessionId);
+    }
 }
\ No newline at end of file
@@ -1,18 +1,38 @@
 package com.example.demo.genetic.algorithm;
 
-import com.example.demo.entities.Individual;
 import com.example.demo.conversion.*;
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.distributed.DistributedNode;
+import com.example.demo.genetic.evaluation.FitnessCache;
+import com.example.demo.genetic.evaluation.FitnessEvaluationService;
+import com.example.demo.genetic.evaluation.LookupTable;
+import com.example.demo.genetic.evaluation.LookupTableService;
 import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.history.GenerationHistory;
+import com.example.demo.genetic.history.GenerationHistoryService;
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.island.Island;
+import com.example.demo.genetic.island.IslandProgress;
+import com.example.demo.genetic.island.MigrationTopology;
 import com.example.demo.genetic.operators.*;
 import com.example.demo.genetic.metrics.MetricsService;
+import com.example.demo.genetic.population.Population;
 import com.example.demo.genetic.population.PopulationSource;
+import com.example.demo.persistence.RunPersistenceService;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 public class GeneticAlgorithmService {
@@ -24,105 +44,208 @@ public class GeneticAlgorithmService {
     private final CrossoverService crossoverService;
     private final MutationService mutationService;
     private final BinaryConverterService binaryConverterService;
-    private final RealConverterService realConverterService;
     private final Map<String, SelectionStrategy> selectionStrategies;
+    private final Map<String, ReplacementStrategy> replacementStrategies;
     private final Map<String, PopulationSource> populationSources;
     private final MetricsService metricsService;
+    private final FitnessEvaluationService fitnessEvaluationService;
+    private final GenerationHistoryService generationHistoryService;
+    private final RunPersistenceService runPersistenceService;
+    private final LookupTableService lookupTableService;
+    private final Map<String, MigrationTopology> migrationTopologies;
+    private final TraceSampler traceSampler;
+    private final int fitnessCacheCapacity;
+    private final ExecutorService islandExecutor;
 
     public GeneticAlgorithmService(AdaptiveFunctionService adaptiveFunctionService,
-                                   RealConverterService realConverterService,
                                    CrossoverService crossoverService,
                                    MutationService mutationService,
                                    BinaryConverterService binaryConverterService,
                                    MetricsService metricsService,
                                    Map<String, SelectionStrategy> selectionStrategies,
-                                   Map<String, PopulationSource> populationSources) {
+                                   Map<String, ReplacementStrategy> replacementStrategies,
+                                   Map<String, PopulationSource> populationSources,
+                                   FitnessEvaluationService fitnessEvaluationService,
+                                   GenerationHistoryService generationHistoryService,
+                                   RunPersistenceService runPersistenceService,
+                                   LookupTableService lookupTableService,
+                                   Map<String, MigrationTopology> migrationTopologies,
+                                   @Value("${genetic.engine.fast-mode:true}") boolean fastMode,
+                                   @Value("${genetic.trace.every:0}") int traceEvery,
+                                   @Value("${genetic.trace.best:true}") boolean traceBest,
+                                   @Value("${genetic.cache.capacity:0}") int fitnessCacheCapacity,
+                                   @Value("${genetic.islands.parallelism:0}") int islandParallelism) {
         this.adaptiveFunctionService = adaptiveFunctionService;
-        this.realConverterService = realConverterService;
         this.crossoverService = crossoverService;
         this.mutationService = mutationService;
         this.binaryConverterService = binaryConverterService;
         this.metricsService = metricsService;
         this.selectionStrategies = selectionStrategies;
+        this.replacementStrategies = replacementStrategies;
         this.populationSources = populationSources;
+        this.fitnessEvaluationService = fitnessEvaluationService;
+        this.generationHistoryService = generationHistoryService;
+        this.runPersistenceService = runPersistenceService;
+        this.lookupTableService = lookupTableService;
+        this.traceSampler = new TraceSampler(fastMode, traceEvery, traceBest);
+        this.fitnessCacheCapacity = fitnessCacheCapacity;
+        this.migrationTopologies = migrationTopologies;
+        // Hilos compartidos por todas las ejecuciones con modelo de islas
+        int islandThreads = islandParallelism > 0 ? islandParallelism : Runtime.getRuntime().availableProcessors();
+        this.islandExecutor = Executors.newFixedThreadPool(islandThreads,
+                Thread.ofPlatform().name("ga-island-", 1).daemon(true).factory());
     }
 
-    @Transactional
-    public List<List<Individual>> runEvolution(
-            List<String> fileBinaries,
-            double xmin,
-            double xmax,
-            int L,
-            String functionType,
-            String selectionType,
-            String crossoverType,
-            String mutationType,
-            int populationSize,
-            int maxGenerations,
-            double mutationRatePerBit,
-            double crossoverRate,
-            String populationSourceType) {
-
-        return runEvolutionWithStatus(fileBinaries, xmin, xmax, L, functionType, selectionType,
-                crossoverType, mutationType, populationSize, maxGenerations, mutationRatePerBit,
-                crossoverRate, populationSourceType, "default", null);
+    public GenerationHistory runEvolution(AlgorithmParameters params) {
+        return runEvolutionWithStatus(params, "default", null);
     }
 
-    @Transactional
-    public List<List<Individual>> runEvolutionWithStatus(
-            List<String> fileBinaries,
-            double xmin,
-            double xmax,
-            int L,
-            String functionType,
-            String selectionType,
-            String crossoverType,
-            String mutationType,
-            int populationSize,
-            int maxGenerations,
-            double mutationRatePerBit,
-            double crossoverRate,
-            String populationSourceType,
-            String sessionId,
-            ExecutionStatus executionStatus) {
-
-        Instant start = Instant.now();
+    public GenerationHistory runEvolutionWithStatus(AlgorithmParameters params,
+                                                    String sessionId,
+                                                    ExecutionStatus executionStatus) {
+        RunContext context = createContext(params);
+        GenerationHistory history = generationHistoryService.open(sessionId, context.getL(),
+                context.getXmin(), context.getXmax());
+        runEvolution(context, history, sessionId, executionStatus);
+        return history;
+    }
 
-        log.info("🚀 INICIANDO ALGORITMO GENÉTICO");
-        log.info("   Función: {}", adaptiveFunctionService.getFunction(functionType).getName());
-        log.info("   Modo de población: {}", populationSourceType);
-        log.info("   Máximo de generaciones: {}", maxGenerations);
-        log.info("   Selección: {}", selectionType);
-        log.info("   Cruce: {}", crossoverType);
-        log.info("   Mutación: {}", mutationType);
-        log.info("   Prob. Cruce: {}%", crossoverRate * 100);
-        log.info("   Prob. Mutación: {}%", mutationRatePerBit * 100);
-        log.info("   Rango: x ∈ [{}, {}]", xmin, xmax);
-        log.info("   Condición de paro: ≥{}% de convergencia o {} generaciones",
-                (int)(CONVERGENCE_THRESHOLD * 100), maxGenerations);
+    /**
+     * Construye el contexto inmutable de una ejecución a partir de los parámetros del usuario.
+     */
+    public RunContext createContext(AlgorithmParameters params) {
+        return createContext(params, traceSampler);
+    }
 
-        PopulationSource populationSource = populationSources.get(populationSourceType);
-        if (populationSource == null) {
-            throw new IllegalArgumentException("Fuente de población desconocida: " + populationSourceType);
+    /**
+     * Igual que {@link #createContext(AlgorithmParameters)} con otra política de trazas, p. ej.
+     * {@link TraceSampler#quiet()} para las ejecuciones de un barrido.
+     */
+    public RunContext createContext(AlgorithmParameters params, TraceSampler trace) {
+        FitnessFunction function = adaptiveFunctionService.getFunction(params.getFunctionType());
+        if (function == null) {
+            throw new IllegalArgumentException("Función desconocida: " + params.getFunctionType());
         }
+        requireOffspring(params);
 
-        if ("file".equals(populationSourceType)) {
+        List<Chromosome> initialPopulation = null;
+        if ("file".equals(params.getMode())) {
+            List<String> fileBinaries = params.getFileBinaries();
             if (fileBinaries == null || fileBinaries.isEmpty()) {
                 throw new IllegalArgumentException("No se proporcionaron binarios para el modo archivo");
             }
-            ((com.example.demo.genetic.population.FilePopulationSource) populationSource).setBinaries(fileBinaries);
-        } else if ("random".equals(populationSourceType)) {
-            ((com.example.demo.genetic.population.RandomPopulationSource) populationSource).setPopulationSize(populationSize);
+            initialPopulation = binaryConverterService.toChromosomes(fileBinaries, params.getL());
+        }
+
+        // Con L pequeño todo el espacio de búsqueda cabe en una tabla compartida entre ejecuciones
+        long expectedEvaluations = (long) params.getPopulationSize() * (params.getNumGenerations() + 1);
+        LookupTable lookupTable = lookupTableService.tableFor(params.getFunctionType(), function,
+                params.getXmin(), params.getXmax(), params.getL(), expectedEvaluations);
+
+        return new RunContext(params, function, initialPopulation, RandomStreams.fromSeed(params.getSeed()),
+                trace,
+                lookupTable == null && fitnessCacheCapacity > 0 ? new FitnessCache(fitnessCacheCapacity) : null,
+                lookupTable);
+    }
+
+    /**
+     * Las élites deben dejar sitio al menos a una pareja de hijos en cada población (en el
+     * modelo de islas, en la isla más pequeña); si no, cada generación copiaría a los padres sin
+     * evaluar nada y la ejecución quedaría congelada hasta agotar las generaciones.
+     */
+    private static void requireOffspring(AlgorithmParameters params) {
+        int eliteCount = params.getEliteCount() != null ? params.getEliteCount() : 0;
+        int islands = params.getIslands() != null ? Math.max(1, params.getIslands()) : 1;
+        int smallest = params.getPopulationSize() / islands;
+        if (eliteCount > smallest - 2) {
+            throw new IllegalArgumentException("El número de élites (" + eliteCount + ") debe ser como máximo "
+                    + (smallest - 2) + (islands > 1 ? " con islas de " + smallest + " individuos"
+                    : " con una población de " + smallest));
+        }
+    }
+
+    /**
+     * Ejecuta la evolución escribiendo cada generación en {@code history}; en memoria solo
+     * quedan la población actual y las estadísticas por generación.
+     *
+     * <p>No es transaccional: una ejecución puede durar minutos y no debe retener una conexión
+     * del pool. Cada generación se guarda (si la persistencia está activa) en su propia
+     * transacción corta dentro de {@link RunPersistenceService}.</p>
+     *
+     * <p>Solo actualiza el progreso en {@code executionStatus}; el estado final lo fija quien
+     * lanzó la ejecución a partir del resultado devuelto.</p>
+     *
+     * @return convergencia, motivo de parada anticipada y generaciones ejecutadas
+     */
+    public EvolutionOutcome runEvolution(RunContext context, GenerationHistory history,
+                                         String sessionId, ExecutionStatus executionStatus) {
+        return runEvolution(context, history, sessionId, executionStatus, null);
+    }
+
+    /**
+     * Igual que {@link #runEvolution(RunContext, GenerationHistory, String, ExecutionStatus)}
+     * como uno de los nodos de una ejecución distribuida: informa de cada generación al
+     * coordinador, intercambia emigrantes con el siguiente nodo del anillo y se detiene cuando el
+     * coordinador lo ordena. Con {@code node} null la ejecución es local.
+     *
+     * @return convergencia, motivo de parada anticipada y generaciones ejecutadas
+     */
+    public EvolutionOutcome runEvolution(RunContext context, GenerationHistory history,
+                                         String sessionId, ExecutionStatus executionStatus, DistributedNode node) {
+        Logger runLog = context.getTrace().logger(log);
+        Instant start = Instant.now();
+        Instant deadline = context.getTimeLimit() != null ? start.plus(context.getTimeLimit()) : null;
+        int maxGenerations = context.getMaxGenerations();
+        String populationSourceType = context.getPopulationSourceType();
+
+        runLog.info("🚀 INICIANDO ALGORITMO GENÉTICO");
+        runLog.info("   Función: {}", context.getFunction().getName());
+        runLog.info("   Modo de población: {}", populationSourceType);
+        runLog.info("   Máximo de generaciones: {}", maxGenerations);
+        runLog.info("   Selección: {}", context.getSelectionType());
+        runLog.info("   Cruce: {}", context.getCrossoverType());
+        runLog.info("   Mutación: {}", context.getMutationType());
+        runLog.info("   Reemplazo: {} (élites: {})", context.getReplacementType(), context.getEliteCount());
+        runLog.info("   Islas: {}", context.getIslands());
+        if (node != null) {
+            runLog.info("   Nodo: {} de {} ({})", node.getNodeId(), node.getNodeCount(), node.getTransportName());
         }
+        runLog.info("   Prob. Cruce: {}%", context.getCrossoverRate() * 100);
+        runLog.info("   Prob. Mutación: {}%", context.getMutationRate() * 100);
+        runLog.info("   Rango: x ∈ [{}, {}]", context.getXmin(), context.getXmax());
+        runLog.info("   Semilla: {}", context.getRandom().getSeed());
+        runLog.info("   Ejecución: {}{}", context.getRunId(),
+                runPersistenceService.isEnabled() ? " (persistencia por lotes activa)" : "");
+        runLog.info("   Condición de paro: ≥{}% de convergencia o {} generaciones",
+                (int)(CONVERGENCE_THRESHOLD * 100), maxGenerations);
 
-        List<String> currentBinaries = populationSource.generatePopulation(L);
-        log.info("→ Población inicial generada ({}): {} individuos",
-                populationSource.getName(), currentBinaries.size());
+        ReplacementStrategy replacement = replacementStrategies.get(context.getReplacementType());
+        if (replacement == null) {
+            throw new IllegalArgumentException("Tipo de reemplazo desconocido: " + context.getReplacementType());
+        }
 
-        mutationService.setBounds(xmin, xmax);
+        SelectionStrategy selection = selectionStrategies.get(context.getSelectionType());
+        if (selection == null) {
+            throw new IllegalArgumentException("Tipo de selección desconocido: " + context.getSelectionType());
+        }
 
-        List<List<Individual>> generations = new ArrayList<>();
+        PopulationSource populationSource = populationSources.get(populationSourceType);
+        if (populationSource == null) {
+            throw new IllegalArgumentException("Fuente de población desconocida: " + populationSourceType);
+        }
+
+        int L = context.getL();
+        AtomicLong evaluations = new AtomicLong();
+        List<Island> islands = createIslands(context, populationSource, evaluations);
+        int[][] migrationTargets = migrationTargets(context, islands.size());
+        if (executionStatus != null && islands.size() > 1) {
+            executionStatus.startIslands(sessionId, islands.size());
+        }
+
+        Population currentPopulation = islands.size() == 1 ? islands.get(0).getPopulation() : merge(islands, L);
+        GenerationStats summary = null;
         boolean convergenceAchieved = false;
+        String stopReason = null;
         int actualGenerations = 0;
 
         for (int gen = 0; gen < maxGenerations; gen++) {
@@ -133,16 +256,30 @@ public class GeneticAlgorithmService {
                 executionStatus.updateGeneration(sessionId, actualGenerations);
             }
 
-            log.info(" ");
-            log.info("════════════════════════════════════════════════");
-            log.info("        🎯 GENERACIÓN {} de {}", actualGenerations, maxGenerations);
-            log.info("════════════════════════════════════════════════");
-
-            List<Individual> generation = createOrderedGeneration(currentBinaries, xmin, xmax, L, gen, functionType);
-            generations.add(generation);
+            runLog.info(" ");
+            runLog.info("════════════════════════════════════════════════");
+            runLog.info("        🎯 GENERACIÓN {} de {}", actualGenerations, maxGenerations);
+            runLog.info("════════════════════════════════════════════════");
+
+            // Sin ordenar: el ranking completo lo calculan bajo demanda quienes lo necesitan
+            // (archivo de historial, ruleta, fusiones); mejor/media/mínimo no lo requieren.
+            // Con varias islas la generación registrada es la unión de todas ellas.
+            Population generation = islands.size() == 1 ? islands.get(0).getPopulation() : merge(islands, L);
+            currentPopulation = generation;
+            summary = metricsService.summarize(generation, gen);
+            history.record(generation, summary);
+            runPersistenceService.persist(context.getRunId(), gen, generation);
+            if (context.getTrace().traceBest()) {
+                runLog.info("   → Mejor: {} (x = {}, f(x) = {})", Chromosome.of(summary.getBestGenes(), L),
+                        summary.getBestReal(), summary.getBestFitness());
+            }
 
-            if (checkConvergence(generation, functionType)) {
-                log.info("🎉 ✅ ¡CONVERGENCIA DEL {}% ALCANZADA EN GENERACIÓN {}!",
+            boolean converged = checkConvergence(generation, context);
+            if (node != null) {
+                node.report(actualGenerations, summary, converged);
+            }
+            if (converged) {
+                runLog.info("🎉 ✅ ¡CONVERGENCIA DEL {}% ALCANZADA EN GENERACIÓN {}!",
                         (int)(CONVERGENCE_THRESHOLD * 100), actualGenerations);
                 convergenceAchieved = true;
 
@@ -153,117 +290,297 @@ public class GeneticAlgorithmService {
                 break;
             }
 
-            if (gen < maxGenerations - 1) {
-                int currentPopulationSize = currentBinaries.size();
-                int numPairs = (currentPopulationSize + 1) / 2;
-
-                SelectionStrategy selection = selectionStrategies.get(selectionType);
-                if (selection == null) {
-                    throw new IllegalArgumentException("Tipo de selección desconocido: " + selectionType);
-                }
+            stopReason = checkStopConditions(context, deadline, evaluations.get(), sessionId, executionStatus, node);
+            if (stopReason != null) {
+                runLog.warn("🛑 Ejecución detenida en generación {}: {}", actualGenerations, stopReason);
+                break;
+            }
 
-                if ("tournament".equals(selectionType) && selection instanceof TournamentSelection) {
-                    ((TournamentSelection) selection).configure(xmin, xmax, L, functionType);
+            if (gen < maxGenerations - 1) {
+                int nextGeneration = gen + 1;
+                boolean migrate = context.getMigrantCount() > 0
+                        && nextGeneration % context.getMigrationInterval() == 0;
+                if (node != null) {
+                    node.deliver(islands);
                 }
-
-                log.info("→ SELECCIÓN: {}", selection.getName());
-                List<Individual[]> parentPairs = selection.selectPairs(generation, numPairs);
-
-                log.info("→ CRUCE: Generando hijos con cruce de un punto (probabilidad = %.1f%%)",
-                        crossoverRate * 100);
-                List<Individual> offspring = new ArrayList<>();
-                int crossoverCount = 0;
-
-                for (int i = 0; i < parentPairs.size(); i++) {
-                    Individual[] pair = parentPairs.get(i);
-                    Individual p1 = pair[0];
-                    Individual p2 = pair[1];
-
-                    String bin1 = binaryConverterService.normalizeBinary(p1.getBinary(), L);
-                    String bin2 = binaryConverterService.normalizeBinary(p2.getBinary(), L);
-
-                    CrossoverResult result;
-                    if (Math.random() < crossoverRate) {
-                        result = crossoverService.crossoverWithLogging(
-                                bin1, bin2, crossoverType, i + 1, L, xmin, xmax, functionType);
-                        crossoverCount++;
-                    } else {
-                        result = new CrossoverResult(new String[]{bin1, bin2});
-                    }
-
-                    String[] children = result.getChildren();
-
-                    for (String childBinary : children) {
-                        int decimal = binaryConverterService.convertBinaryToInt(childBinary);
-                        double real = realConverterService.toRealSingle(decimal, xmin, xmax, L);
-                        double adaptative = adaptiveFunctionService.toAdaptiveSingle(real, functionType);
-                        offspring.add(new Individual(childBinary, real, adaptative, gen + 1));
-                    }
+                if (islands.size() == 1) {
+                    Island island = islands.get(0);
+                    island.immigrate();
+                    island.setPopulation(breed(island.getPopulation(), nextGeneration, island.getContext(),
+                            selection, replacement, evaluations));
+                } else {
+                    evolveIslands(islands, migrationTargets, migrate, nextGeneration, selection, replacement,
+                            evaluations, sessionId, executionStatus);
                 }
-                log.info("→ ✅ Cruce completado: %d parejas cruzaron (%.1f%%)", crossoverCount,
-                        (double) crossoverCount / parentPairs.size() * 100);
-
-                log.info("→ MUTACIÓN (%s): Aplicando con tasa = %.3f%%", mutationType, mutationRatePerBit * 100);
-                mutationService.applyToGenerationWithLogging(offspring, mutationRatePerBit, L, gen + 1, mutationType, functionType);
-
-                if (offspring.size() > currentPopulationSize) {
-                    offspring = new ArrayList<>(offspring.subList(0, currentPopulationSize));
-                } else if (offspring.size() < currentPopulationSize) {
-                    Individual best = offspring.isEmpty() ? generation.get(0) : offspring.get(0);
-                    while (offspring.size() < currentPopulationSize) {
-                        offspring.add(new Individual(best.getBinary(), best.getReal(), best.getAdaptative(), gen + 1));
-                    }
+                if (node != null && migrate) {
+                    node.emigrate(islands, nextGeneration, context.getMigrantCount());
                 }
-
-                currentBinaries = offspring.stream().map(Individual::getBinary).collect(Collectors.toList());
-                log.info("→ Población ajustada a %d individuos", currentBinaries.size());
             }
         }
 
+        history.finish();
+        if (node != null && summary != null) {
+            node.finish(actualGenerations, summary);
+        }
+
         Instant end = Instant.now();
         Duration duration = Duration.between(start, end);
-        log.info(" ");
-        log.info("✅✅✅ ALGORITMO FINALIZADO ✅✅✅");
+        runLog.info(" ");
+        runLog.info("✅✅✅ ALGORITMO FINALIZADO ✅✅✅");
 
         if (convergenceAchieved) {
-            log.info("🏁 Detenido por convergencia en generación {}", actualGenerations);
+            runLog.info("🏁 Detenido por convergencia en generación {}", actualGenerations);
+        } else if (stopReason != null) {
+            runLog.info("🏁 Detenido por {} en generación {}", stopReason, actualGenerations);
         } else {
-            log.info("🏁 Detenido por límite de generaciones ({})", maxGenerations);
+            runLog.info("🏁 Detenido por límite de generaciones ({})", maxGenerations);
         }
 
-        log.info("⏱️  Tiempo total de ejecución: %d minutos %d segundos",
+        runLog.info("⏱️  Tiempo total de ejecución: %d minutos %d segundos",
                 duration.toMinutes(), duration.minusMinutes(duration.toMinutes()).getSeconds());
 
-        FitnessFunction function = adaptiveFunctionService.getFunction(functionType);
+        FitnessCache cache = context.getFitnessCache();
+        if (cache != null) {
+            runLog.info("🗃️ Caché de fitness: {} aciertos, {} fallos ({}% aciertos), {} desalojos, capacidad {}",
+                    cache.getHits(), cache.getMisses(), String.format("%.1f", cache.getHitRate()),
+                    cache.getEvictions(), cache.getCapacity());
+        }
+
+        FitnessFunction function = context.getFunction();
         double optimalValue = function.getOptimalValue();
 
-        int generation90Percent = metricsService.findGeneration90Percent(generations, optimalValue);
-        double avgDiversity = metricsService.calculateAverageDiversity(generations);
+        List<GenerationStats> stats = history.getStats();
+        int generation90Percent = metricsService.findGeneration90Percent(stats, optimalValue);
+        double avgDiversity = metricsService.calculateAverageDiversity(stats);
         double threshold90 = optimalValue * 0.9;
 
-        metricsService.logComparisonMetrics(generation90Percent, actualGenerations, threshold90, optimalValue, avgDiversity);
-        metricsService.logConvergenceResults(generations.get(generations.size() - 1), function);
+        if (!context.getTrace().isQuiet()) {
+            metricsService.logComparisonMetrics(generation90Percent, actualGenerations, threshold90, optimalValue, avgDiversity);
+            metricsService.logConvergenceResults(currentPopulation, function);
+        }
+        return new EvolutionOutcome(convergenceAchieved, stopReason, actualGenerations);
+    }
+
+    /**
+     * Selección, cruce, mutación, evaluación de los hijos y reemplazo: produce la siguiente
+     * generación a partir de {@code generation}.
+     */
+    private Population breed(Population generation, int nextGeneration, RunContext context,
+                             SelectionStrategy selection, ReplacementStrategy replacement, AtomicLong evaluations) {
+        Logger runLog = context.getTrace().logger(log);
+        int L = generation.getL();
+        int currentPopulationSize = generation.size();
+        int numPairs = (replacement.offspringCount(currentPopulationSize, context) + 1) / 2;
+
+        runLog.info("→ SELECCIÓN: {}", selection.getName());
+        Population matingPool = selection.selectPairs(generation, numPairs, context);
+        int pairCount = matingPool.size() / 2;
+
+        runLog.info("→ CRUCE: Generando hijos con cruce de un punto (probabilidad = %.1f%%)",
+                context.getCrossoverRate() * 100);
+        Population offspring = new Population(pairCount * 2, L);
+        int crossoverCount = 0;
+        long[] parents = matingPool.genesArray();
+
+        // Los hijos se escriben directamente en la población (sin objetos por pareja)
+        // y se evalúan en bloque después de la mutación
+        for (int i = 0; i < pairCount; i++) {
+            long parent1 = parents[2 * i];
+            long parent2 = parents[2 * i + 1];
+
+            if (context.getRandom().crossover().nextDouble() < context.getCrossoverRate()) {
+                crossoverService.crossoverInto(parent1, parent2, i + 1, context, offspring);
+                crossoverCount++;
+            } else {
+                offspring.add(parent1, Double.NaN, Double.NaN);
+                offspring.add(parent2, Double.NaN, Double.NaN);
+            }
+        }
+        runLog.info("→ ✅ Cruce completado: %d parejas cruzaron (%.1f%%)", crossoverCount,
+                pairCount > 0 ? (double) crossoverCount / pairCount * 100 : 0.0);
+
+        runLog.info("→ MUTACIÓN (%s): Aplicando con tasa = %.3f%%", context.getMutationType(),
+                context.getMutationRate() * 100);
+        mutationService.applyToGeneration(offspring, nextGeneration, context);
+        evaluatePopulation(offspring, context);
+        evaluations.addAndGet(offspring.size());
+
+        // Los supervivientes conservan su fitness: solo se han evaluado los hijos
+        Population next = replacement.replace(generation, offspring, context);
+        runLog.info("→ Población ajustada a %d individuos", next.size());
+        return next;
+    }
+
+    /**
+     * Población inicial evaluada: una isla con el contexto de la ejecución o, en el modelo de
+     * islas, una subpoblación por isla con su propio contexto y generadores.
+     */
+    private List<Island> createIslands(RunContext context, PopulationSource populationSource,
+                                       AtomicLong evaluations) {
+        Logger runLog = context.getTrace().logger(log);
+        int L = context.getL();
+        int count = context.getIslands();
+        if (count <= 1) {
+            Population population = Population.of(populationSource.generatePopulation(context), L);
+            runLog.info("→ Población inicial generada ({}): {} individuos",
+                    populationSource.getName(), population.size());
+            evaluatePopulation(population, context);
+            evaluations.addAndGet(population.size());
+            return List.of(new Island(0, context, population));
+        }
 
-        return generations;
+        int total = context.getPopulationSize();
+        if (total / count < 3) {
+            throw new IllegalArgumentException("Cada isla necesita al menos 3 individuos: población " + total
+                    + " para " + count + " islas");
+        }
+        List<Island> islands = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // El resto de la división se reparte entre las primeras islas
+            int size = total / count + (i < total % count ? 1 : 0);
+            RunContext islandContext = context.forIsland(i, size);
+            Population population = Population.of(populationSource.generatePopulation(islandContext), L);
+            evaluatePopulation(population, islandContext);
+            evaluations.addAndGet(population.size());
+            islands.add(new Island(i, islandContext, population));
+        }
+        runLog.info("→ Población inicial generada ({}): {} islas de ~{} individuos",
+                populationSource.getName(), count, total / count);
+        return islands;
     }
 
-    private boolean checkConvergence(List<Individual> generation, String functionType) {
-        FitnessFunction function = adaptiveFunctionService.getFunction(functionType);
-        double targetX = function.getTargetX();
+    private int[][] migrationTargets(RunContext context, int islands) {
+        if (islands <= 1) {
+            return new int[1][0];
+        }
+        MigrationTopology topology = migrationTopologies.get(context.getMigrationTopology());
+        if (topology == null) {
+            throw new IllegalArgumentException("Topología de migración desconocida: " + context.getMigrationTopology());
+        }
+        context.getTrace().logger(log).info("   Migración: {}, {} migrantes cada {} generaciones", topology.getName(),
+                context.getMigrantCount(), context.getMigrationInterval());
+        int[][] targets = new int[islands][];
+        for (int i = 0; i < islands; i++) {
+            targets[i] = topology.targets(i, islands);
+        }
+        return targets;
+    }
 
-        long countConverged = generation.stream()
-                .filter(ind -> Math.abs(Math.abs(ind.getReal()) - targetX) < 0.1)
-                .count();
+    /**
+     * Avanza todas las islas una generación en paralelo. Antes de lanzar la ronda cada isla
+     * integra los inmigrantes de la ronda anterior; si toca migrar, cada isla deja sus mejores
+     * individuos en los buzones de sus destinos al terminar, y esos lotes no se integran hasta la
+     * siguiente ronda. Así ninguna isla ve emigrantes de la ronda en curso, sea cual sea el orden
+     * en que terminen los hilos, y la misma semilla reproduce la ejecución.
+     */
+    private void evolveIslands(List<Island> islands, int[][] migrationTargets, boolean migrate, int nextGeneration,
+                               SelectionStrategy selection, ReplacementStrategy replacement, AtomicLong evaluations,
+                               String sessionId, ExecutionStatus executionStatus) {
+        for (Island island : islands) {
+            island.immigrate();
+        }
+        List<Callable<Void>> tasks = new ArrayList<>(islands.size());
+        for (Island island : islands) {
+            tasks.add(() -> {
+                RunContext islandContext = island.getContext();
+                Population next = breed(island.getPopulation(), nextGeneration, islandContext,
+                        selection, replacement, evaluations);
+                island.setPopulation(next);
+                if (migrate) {
+                    List<Island> targets = new ArrayList<>();
+                    for (int target : migrationTargets[island.getIndex()]) {
+                        targets.add(islands.get(target));
+                    }
+                    island.emigrate(targets, islandContext.getMigrantCount());
+                }
+                if (executionStatus != null) {
+                    executionStatus.updateIsland(sessionId, new IslandProgress(island.getIndex(), nextGeneration + 1,
+                            next.size(), next.fitness(next.best()), next.meanFitness(), island.getImmigrants()));
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> result : islandExecutor.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando a las islas", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Error en una isla", e.getCause());
+        }
+    }
+
+    /**
+     * Une las poblaciones de todas las islas (en orden de isla) en una sola generación.
+     */
+    private static Population merge(List<Island> islands, int L) {
+        int total = 0;
+        for (Island island : islands) {
+            total += island.getPopulation().size();
+        }
+        Population merged = new Population(total, L);
+        for (Island island : islands) {
+            Population population = island.getPopulation();
+            for (int i = 0; i < population.size(); i++) {
+                merged.addFrom(population, i);
+            }
+        }
+        return merged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        islandExecutor.shutdownNow();
+    }
+
+    /**
+     * Condiciones de paro externas, comprobadas una vez por generación.
+     *
+     * @return motivo de la detención o null si la ejecución debe continuar
+     */
+    private String checkStopConditions(RunContext context, Instant deadline, long evaluations,
+                                       String sessionId, ExecutionStatus executionStatus, DistributedNode node) {
+        if (node != null && node.getStopReason() != null) {
+            return node.getStopReason();
+        }
+        if (executionStatus != null) {
+            if (executionStatus.isCancelRequested(sessionId)) {
+                return "cancelación solicitada";
+            }
+            if (executionStatus.isAbandoned(sessionId)) {
+                return "cliente inactivo";
+            }
+        }
+        if (deadline != null && Instant.now().isAfter(deadline)) {
+            return "tiempo máximo (" + context.getTimeLimit().toSeconds() + " s)";
+        }
+        if (evaluations >= context.getMaxEvaluations()) {
+            return "máximo de evaluaciones (" + context.getMaxEvaluations() + ")";
+        }
+        return null;
+    }
+
+    private boolean checkConvergence(Population generation, RunContext context) {
+        Logger runLog = context.getTrace().logger(log);
+        double targetX = context.getFunction().getTargetX();
+
+        long countConverged = metricsService.countConverged(generation, targetX);
 
         double percentage = (double) countConverged / generation.size();
         boolean converged = percentage >= CONVERGENCE_THRESHOLD;
 
         if (converged) {
-            log.info("   → ✅ Convergencia verificada: {}% (≥{}%)",
+            runLog.info("   → ✅ Convergencia verificada: {}% (≥{}%)",
                     String.format("%.1f", percentage * 100),
                     (int)(CONVERGENCE_THRESHOLD * 100));
         } else {
-            log.info("   → ⏳ Convergencia actual: {}% (<{}%)",
+            runLog.info("   → ⏳ Convergencia actual: {}% (<{}%)",
                     String.format("%.1f", percentage * 100),
                     (int)(CONVERGENCE_THRESHOLD * 100));
         }
@@ -271,17 +588,11 @@ public class GeneticAlgorithmService {
         return converged;
     }
 
-    private List<Individual> createOrderedGeneration(List<String> binaries, double xmin, double xmax, int L, int generationIndex, String functionType) {
-        List<Integer> decimals = binaryConverterService.convertBinaryListToIntegers(binaries);
-        List<Double> reals = realConverterService.toReal(decimals, xmin, xmax, L);
-        List<Double> fitnessValues = adaptiveFunctionService.toAdaptive(reals, functionType);
-
-        List<Individual> individuals = new ArrayList<>();
-        for (int i = 0; i < binaries.size(); i++) {
-            individuals.add(new Individual(binaries.get(i), reals.get(i), fitnessValues.get(i), generationIndex));
-        }
-
-        individuals.sort(Comparator.comparingDouble(Individual::getAdaptative).reversed());
-        return individuals;
+    /**
+     * Decodifica y evalúa toda la población mediante el motor de evaluación configurado.
+     */
+    private void evaluatePopulation(Population population, RunContext context) {
+        fitnessEvaluationService.evaluate(population, context.getFunction(), context.getXmin(), context.getXmax(),
+                context.getFitnessCache(), context.getLookupTable());
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.example.demo.genetic.algorithm;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Generadores aleatorios de una ejecución.
+ *
+ * <p>Cada ejecución crea su propio {@link SplittableRandom} a partir de una semilla y deriva un
+ * flujo independiente por operador, de modo que las ejecuciones concurrentes no comparten
+ * estado (sin contención sobre una semilla atómica) y una misma semilla reproduce la ejecución.
+ * Los flujos no son thread-safe: para trabajo en paralelo se debe usar {@link #split(RandomGenerator)}.</p>
+ */
+public final class RandomStreams {
+
+    private final long seed;
+    private final SplittableRandom population;
+    private final SplittableRandom selection;
+    private final SplittableRandom crossover;
+    private final SplittableRandom mutation;
+
+    public RandomStreams(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.population = root.split();
+        this.selection = root.split();
+        this.crossover = root.split();
+        this.mutation = root.split();
+    }
+
+    /**
+     * Usa la semilla indicada o, si es null, una nueva semilla aleatoria.
+     */
+    public static RandomStreams fromSeed(Long seed) {
+        return new RandomStreams(seed != null ? seed : new SplittableRandom().nextLong());
+    }
+
+    public long getSeed() { return seed; }
+    public RandomGenerator population() { return population; }
+    public RandomGenerator selection() { return selection; }
+    public RandomGenerator crossover() { return crossover; }
+    public RandomGenerator mutation() { return mutation; }
+
+    /**
+     * Generadores de una isla: semilla derivada de la de la ejecución, distinta por isla y
+     * reproducible con la misma semilla.
+     */
+    public RandomStreams forIsland(int island) {
+        return new RandomStreams(new SplittableRandom(seed + 0x9E3779B97F4A7C15L * (island + 1)).nextLong());
+    }
+
+    /**
+     * Generadores de un nodo de una ejecución distribuida: cada JVM arranca con la misma semilla
+     * y deriva la suya, distinta por nodo e independiente de las de las islas.
+     */
+    public RandomStreams forNode(int node) {
+        return new RandomStreams(new SplittableRandom(seed ^ 0xD1B54A32D192ED03L * (node + 1)).nextLong());
+    }
+
+    /**
+     * Deriva un flujo hijo independiente para una tarea paralela.
+     */
+    public static RandomGenerator split(RandomGenerator random) {
+        if (random instanceof SplittableRandom splittable) {
+            return splittable.split();
+        }
+        return new SplittableRandom(random.nextLong());
+    }
+}
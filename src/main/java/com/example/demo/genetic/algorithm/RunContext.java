@@ -0,0 +1,223 @@
+package com.example.demo.genetic.algorithm;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.evaluation.FitnessCache;
+import com.example.demo.genetic.evaluation.LookupTable;
+import com.example.demo.genetic.function.FitnessFunction;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Configuración inmutable de una ejecución del algoritmo genético.
+ *
+ * <p>Se construye una vez por ejecución a partir de {@link AlgorithmParameters} y se pasa a las
+ * estrategias de selección, cruce, mutación y población, que son singletons sin estado. Así
+ * varias ejecuciones simultáneas no comparten límites, población ni generadores aleatorios.</p>
+ */
+public final class RunContext {
+
+    private final String runId;
+    private final double xmin;
+    private final double xmax;
+    private final int L;
+    private final String functionType;
+    private final FitnessFunction function;
+    private final String selectionType;
+    private final String crossoverType;
+    private final String mutationType;
+    private final String populationSourceType;
+    private final int islands;
+    private final String migrationTopology;
+    private final int migrationInterval;
+    private final int migrantCount;
+    private final int islandIndex;
+    private final String replacementType;
+    private final int eliteCount;
+    private final double steadyStateRate;
+    private final int tournamentSize;
+    private final boolean tournamentWithoutReplacement;
+    private final double tournamentPressure;
+    private final int populationSize;
+    private final int maxGenerations;
+    private final double mutationRate;
+    private final double crossoverRate;
+    private final Duration timeLimit;
+    private final long maxEvaluations;
+    private final List<Chromosome> initialPopulation;
+    private final RandomStreams random;
+    private final TraceSampler trace;
+    private final FitnessCache fitnessCache;
+    private final LookupTable lookupTable;
+
+    public RunContext(AlgorithmParameters params,
+                      FitnessFunction function,
+                      List<Chromosome> initialPopulation,
+                      RandomStreams random,
+                      TraceSampler trace,
+                      FitnessCache fitnessCache,
+                      LookupTable lookupTable) {
+        this.runId = UUID.randomUUID().toString();
+        this.xmin = params.getXmin();
+        this.xmax = params.getXmax();
+        this.L = params.getL();
+        this.functionType = params.getFunctionType();
+        this.function = function;
+        this.selectionType = params.getSelectionType();
+        this.crossoverType = params.getCrossoverType();
+        this.mutationType = params.getMutationType();
+        this.populationSourceType = params.getMode();
+        this.islands = params.getIslands() != null ? params.getIslands() : 1;
+        this.migrationTopology = params.getMigrationTopology() != null ? params.getMigrationTopology() : "ring";
+        this.migrationInterval = params.getMigrationInterval() != null ? params.getMigrationInterval() : 5;
+        this.migrantCount = params.getMigrantCount() != null ? params.getMigrantCount() : 2;
+        this.islandIndex = -1;
+        this.replacementType = params.getReplacementType() != null ? params.getReplacementType() : "generational";
+        this.eliteCount = params.getEliteCount() != null ? params.getEliteCount() : 0;
+        this.steadyStateRate = params.getSteadyStateRate() != null ? params.getSteadyStateRate() : 0.1;
+        this.tournamentSize = params.getTournamentSize() != null ? params.getTournamentSize() : 3;
+        this.tournamentWithoutReplacement = Boolean.TRUE.equals(params.getTournamentWithoutReplacement());
+        this.tournamentPressure = params.getTournamentPressure() != null ? params.getTournamentPressure() : 1.0;
+        this.populationSize = params.getPopulationSize();
+        this.maxGenerations = params.getNumGenerations();
+        this.mutationRate = params.getMutationRate();
+        this.crossoverRate = params.getCrossoverRate();
+        this.timeLimit = params.getMaxSeconds() != null ? Duration.ofSeconds(params.getMaxSeconds()) : null;
+        this.maxEvaluations = params.getMaxEvaluations() != null ? params.getMaxEvaluations() : Long.MAX_VALUE;
+        this.initialPopulation = initialPopulation != null ? List.copyOf(initialPopulation) : List.of();
+        this.random = random;
+        this.trace = trace;
+        this.fitnessCache = fitnessCache;
+        this.lookupTable = lookupTable;
+    }
+
+    /**
+     * Contexto de una isla: comparte configuración, función, caché y tabla con la ejecución,
+     * pero tiene su propia población y sus propios generadores aleatorios.
+     */
+    private RunContext(RunContext base, int island, int populationSize, List<Chromosome> initialPopulation,
+                       RandomStreams random) {
+        this.runId = base.runId;
+        this.xmin = base.xmin;
+        this.xmax = base.xmax;
+        this.L = base.L;
+        this.functionType = base.functionType;
+        this.function = base.function;
+        this.selectionType = base.selectionType;
+        this.crossoverType = base.crossoverType;
+        this.mutationType = base.mutationType;
+        this.populationSourceType = base.populationSourceType;
+        this.islands = base.islands;
+        this.migrationTopology = base.migrationTopology;
+        this.migrationInterval = base.migrationInterval;
+        this.migrantCount = base.migrantCount;
+        this.islandIndex = island;
+        this.replacementType = base.replacementType;
+        this.eliteCount = base.eliteCount;
+        this.steadyStateRate = base.steadyStateRate;
+        this.tournamentSize = base.tournamentSize;
+        this.tournamentWithoutReplacement = base.tournamentWithoutReplacement;
+        this.tournamentPressure = base.tournamentPressure;
+        this.populationSize = populationSize;
+        this.maxGenerations = base.maxGenerations;
+        this.mutationRate = base.mutationRate;
+        this.crossoverRate = base.crossoverRate;
+        this.timeLimit = base.timeLimit;
+        this.maxEvaluations = base.maxEvaluations;
+        this.initialPopulation = List.copyOf(initialPopulation);
+        this.random = random;
+        this.trace = base.trace;
+        this.fitnessCache = base.fitnessCache;
+        this.lookupTable = base.lookupTable;
+    }
+
+    /**
+     * Deriva el contexto de la isla {@code island} con {@code populationSize} individuos.
+     * En modo archivo cada isla recibe un tramo consecutivo de los cromosomas iniciales.
+     */
+    public RunContext forIsland(int island, int populationSize) {
+        List<Chromosome> slice = initialPopulation;
+        if (!initialPopulation.isEmpty()) {
+            int from = (int) ((long) initialPopulation.size() * island / islands);
+            int to = (int) ((long) initialPopulation.size() * (island + 1) / islands);
+            slice = initialPopulation.subList(from, to);
+        }
+        return new RunContext(this, island, populationSize, slice, random.forIsland(island));
+    }
+
+    /**
+     * Deriva el contexto del nodo {@code node} de una ejecución distribuida: misma configuración
+     * con generadores propios del nodo.
+     */
+    public RunContext forNode(int node) {
+        return new RunContext(this, islandIndex, populationSize, initialPopulation, random.forNode(node));
+    }
+
+    /**
+     * Identificador único de la ejecución (columna run_id al persistir individuos).
+     */
+    public String getRunId() { return runId; }
+    public double getXmin() { return xmin; }
+    public double getXmax() { return xmax; }
+    public int getL() { return L; }
+    public String getFunctionType() { return functionType; }
+    public FitnessFunction getFunction() { return function; }
+    public String getSelectionType() { return selectionType; }
+    public String getCrossoverType() { return crossoverType; }
+    public String getMutationType() { return mutationType; }
+    public String getPopulationSourceType() { return populationSourceType; }
+    public int getIslands() { return islands; }
+    public String getMigrationTopology() { return migrationTopology; }
+    public int getMigrationInterval() { return migrationInterval; }
+    public int getMigrantCount() { return migrantCount; }
+
+    /**
+     * Índice de la isla de este contexto, o -1 en el contexto de la ejecución completa.
+     */
+    public int getIslandIndex() { return islandIndex; }
+
+    public String getReplacementType() { return replacementType; }
+    public int getEliteCount() { return eliteCount; }
+    public double getSteadyStateRate() { return steadyStateRate; }
+    public int getTournamentSize() { return tournamentSize; }
+    public boolean isTournamentWithoutReplacement() { return tournamentWithoutReplacement; }
+    public double getTournamentPressure() { return tournamentPressure; }
+    public int getPopulationSize() { return populationSize; }
+    public int getMaxGenerations() { return maxGenerations; }
+    public double getMutationRate() { return mutationRate; }
+    public double getCrossoverRate() { return crossoverRate; }
+
+    /**
+     * Tiempo máximo de reloj desde que empieza la ejecución (null = sin límite).
+     */
+    public Duration getTimeLimit() { return timeLimit; }
+
+    /**
+     * Máximo de evaluaciones de fitness (Long.MAX_VALUE = sin límite).
+     */
+    public long getMaxEvaluations() { return maxEvaluations; }
+
+    /**
+     * Cromosomas iniciales del modo archivo (vacío en modo aleatorio).
+     */
+    public List<Chromosome> getInitialPopulation() { return initialPopulation; }
+
+    public RandomStreams getRandom() { return random; }
+
+    /**
+     * Muestreo del log por pareja/individuo (modo rápido).
+     */
+    public TraceSampler getTrace() { return trace; }
+
+    /**
+     * Caché genotipo → fitness propia de esta ejecución (null si está desactivada).
+     */
+    public FitnessCache getFitnessCache() { return fitnessCache; }
+
+    /**
+     * Tabla compartida de real/fitness de todos los genotipos (null si L es grande o no compensa).
+     */
+    public LookupTable getLookupTable() { return lookupTable; }
+}
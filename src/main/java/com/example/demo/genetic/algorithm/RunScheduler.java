@@ -0,0 +1,125 @@
+package com.example.demo.genetic.algorithm;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Planificador de ejecuciones del algoritmo genético.
+ *
+ * <p>Las ejecuciones se ejecutan en un pool acotado ({@code genetic.runs.max-concurrent} hilos,
+ * con nombre {@code ga-run-N}) detrás de una cola de {@code genetic.runs.queue-capacity}
+ * posiciones. Cada sesión puede tener como máximo {@code genetic.runs.per-session-limit}
+ * ejecuciones en cola o en curso. Cuando se supera algún límite, {@link #submit} lanza
+ * {@link RejectedExecutionException} en lugar de crear más hilos.</p>
+ *
+ * <p>El estado final (completado o cancelado) se fija cuando el trabajo termina, es decir,
+ * después de que haya guardado sus resultados; así quien consulta el progreso nunca ve una
+ * ejecución terminada cuyos resultados aún no están disponibles.</p>
+ */
+@Service
+public class RunScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RunScheduler.class);
+
+    private final ExecutionStatus executionStatus;
+    private final ThreadPoolExecutor executor;
+    private final int perSessionLimit;
+    private final ConcurrentHashMap<String, AtomicInteger> activeBySession = new ConcurrentHashMap<>();
+
+    public RunScheduler(ExecutionStatus executionStatus,
+                        @Value("${genetic.runs.max-concurrent:0}") int maxConcurrent,
+                        @Value("${genetic.runs.queue-capacity:16}") int queueCapacity,
+                        @Value("${genetic.runs.per-session-limit:1}") int perSessionLimit,
+                        @Value("${genetic.runs.virtual-threads:false}") boolean virtualThreads) {
+        this.executionStatus = executionStatus;
+        this.perSessionLimit = Math.max(1, perSessionLimit);
+
+        int poolSize = maxConcurrent > 0 ? maxConcurrent : Runtime.getRuntime().availableProcessors();
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("ga-run-", 1).factory()
+                : Thread.ofPlatform().name("ga-run-", 1).daemon(true).factory();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("Planificador de ejecuciones: {} simultáneas, cola de {}, {} por sesión{}",
+                poolSize, queueCapacity, this.perSessionLimit, virtualThreads ? " (hilos virtuales)" : "");
+    }
+
+    /**
+     * Encola una ejecución y registra su estado en {@link ExecutionStatus}.
+     *
+     * @param sessionId sesión que solicita la ejecución
+     * @param totalGenerations generaciones máximas (para el progreso)
+     * @param run trabajo a ejecutar; devuelve cómo terminó la evolución
+     * @throws RejectedExecutionException si la sesión o el servidor ya no admiten más ejecuciones
+     */
+    public Future<?> submit(String sessionId, int totalGenerations, Supplier<EvolutionOutcome> run) {
+        AtomicInteger active = activeBySession.computeIfAbsent(sessionId, id -> new AtomicInteger());
+        if (active.incrementAndGet() > perSessionLimit) {
+            release(sessionId, active);
+            throw new RejectedExecutionException(
+                    "Ya hay una ejecución en curso para esta sesión (máximo " + perSessionLimit + ")");
+        }
+
+        executionStatus.startExecution(sessionId, totalGenerations);
+        executionStatus.setStatus(sessionId, "En cola");
+        try {
+            return executor.submit(() -> execute(sessionId, active, run));
+        } catch (RejectedExecutionException e) {
+            release(sessionId, active);
+            executionStatus.markFailed(sessionId, "Servidor ocupado");
+            log.warn("Ejecución rechazada para la sesión {}: cola llena ({} en espera)", sessionId, executor.getQueue().size());
+            throw new RejectedExecutionException(
+                    "El servidor está ocupado (" + executor.getActiveCount() + " ejecuciones en curso y "
+                            + executor.getQueue().size() + " en espera). Intente más tarde.", e);
+        }
+    }
+
+    private void execute(String sessionId, AtomicInteger active, Supplier<EvolutionOutcome> run) {
+        if (executionStatus.isCancelRequested(sessionId)) {
+            release(sessionId, active);
+            executionStatus.markCancelled(sessionId, "cancelación solicitada antes de iniciar");
+            log.info("Ejecución de la sesión {} cancelada mientras estaba en cola", sessionId);
+            return;
+        }
+        executionStatus.setStatus(sessionId, "Ejecutando");
+        try {
+            EvolutionOutcome outcome = run.get();
+            if (outcome != null && outcome.isStopped()) {
+                executionStatus.markCancelled(sessionId, outcome.getStopReason());
+            } else {
+                executionStatus.markCompleted(sessionId);
+            }
+        } catch (Throwable e) {
+            log.error("La ejecución de la sesión {} falló", sessionId, e);
+            executionStatus.markFailed(sessionId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        } finally {
+            release(sessionId, active);
+        }
+    }
+
+    private void release(String sessionId, AtomicInteger active) {
+        if (active.decrementAndGet() <= 0) {
+            activeBySession.remove(sessionId, active);
+        }
+    }
+
+    public int getActiveRuns() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueuedRuns() {
+        return executor.getQueue().size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.genetic.algorithm;
+
+import org.slf4j.Logger;
+import org.slf4j.helpers.NOPLogger;
+
+/**
+ * Decide qué parejas e individuos se registran en el log durante una ejecución.
+ *
+ * <p>En modo rápido ({@code genetic.engine.fast-mode=true}) el bucle de generaciones no
+ * formatea ni evalúa nada solo para el log: únicamente se traza 1 de cada
+ * {@code genetic.trace.every} parejas/individuos (0 = ninguno) y, opcionalmente, el mejor
+ * individuo de cada generación. Con el modo rápido desactivado se registra todo, como antes.</p>
+ *
+ * <p>Las ejecuciones de un barrido usan {@link #quiet()}: además de no trazar nada, tampoco
+ * escriben el resumen por generación a nivel INFO, que con miles de ejecuciones solo sería ruido.</p>
+ */
+public final class TraceSampler {
+
+    private final boolean fastMode;
+    private final int every;
+    private final boolean best;
+    private final boolean quiet;
+
+    public TraceSampler(boolean fastMode, int every, boolean best) {
+        this(fastMode, every, best, false);
+    }
+
+    private TraceSampler(boolean fastMode, int every, boolean best, boolean quiet) {
+        this.fastMode = fastMode;
+        this.every = Math.max(0, every);
+        this.best = best;
+        this.quiet = quiet;
+    }
+
+    /**
+     * Sin trazas ni registro por generación (ejecuciones de un barrido).
+     */
+    public static TraceSampler quiet() {
+        return new TraceSampler(true, 0, false, true);
+    }
+
+    public boolean isQuiet() {
+        return quiet;
+    }
+
+    /**
+     * Logger con el que la ejecución registra su progreso: {@code logger} o, si es silenciosa,
+     * uno que descarta todo.
+     */
+    public Logger logger(Logger logger) {
+        return quiet ? NOPLogger.NOP_LOGGER : logger;
+    }
+
+    public boolean isFastMode() {
+        return fastMode;
+    }
+
+    /**
+     * @param pairIndex índice de la pareja (desde 1)
+     */
+    public boolean samplePair(int pairIndex) {
+        return !fastMode || (every > 0 && pairIndex % every == 0);
+    }
+
+    /**
+     * @param index índice del individuo en la población (desde 0)
+     */
+    public boolean sampleIndividual(int index) {
+        return !fastMode || (every > 0 && index % every == 0);
+    }
+
+    /**
+     * Registrar el mejor individuo de cada generación.
+     */
+    public boolean traceBest() {
+        return best || !fastMode;
+    }
+}
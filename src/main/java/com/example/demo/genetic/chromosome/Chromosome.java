@@ -0,0 +1,137 @@
+package com.example.demo.genetic.chromosome;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Cromosoma binario empaquetado e inmutable.
+ *
+ * <p>Los bits se guardan en un único {@code long} cuyo valor coincide con el decimal del
+ * binario, así que L ≤ 64 (los parámetros de usuario limitan L a 32). La posición 0 es siempre
+ * el bit más significativo (el primer carácter de la cadena binaria), igual que en la UI.</p>
+ */
+public final class Chromosome {
+
+    private static final int WORD_BITS = Long.SIZE;
+
+    private final int length;
+    private final long bits;
+
+    private Chromosome(int length, long bits) {
+        this.length = length;
+        this.bits = bits;
+    }
+
+    /**
+     * Crea un cromosoma de hasta 64 bits a partir de su valor decimal.
+     */
+    public static Chromosome of(long bits, int length) {
+        if (length <= 0 || length > WORD_BITS) {
+            throw new IllegalArgumentException("Longitud no soportada para cromosoma empaquetado: " + length);
+        }
+        return new Chromosome(length, bits & lowMask(length));
+    }
+
+    /**
+     * Convierte una cadena de hasta 64 caracteres '0'/'1' en cromosoma sin usar expresiones regulares.
+     */
+    public static Chromosome parse(CharSequence binary) {
+        int length = binary.length();
+        if (length == 0) {
+            throw new IllegalArgumentException("Cadena no binaria: " + binary);
+        }
+        if (length > WORD_BITS) {
+            throw new IllegalArgumentException("Longitud no soportada para cromosoma empaquetado: " + length);
+        }
+        long value = 0L;
+        for (int i = 0; i < length; i++) {
+            value = (value << 1) | bitAt(binary, i);
+        }
+        return new Chromosome(length, value);
+    }
+
+    /**
+     * Genera un cromosoma aleatorio de L bits.
+     */
+    public static Chromosome random(int length, RandomGenerator random) {
+        return of(random.nextLong(), length);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Bit en la posición indicada (0 = más significativo).
+     */
+    public boolean get(int index) {
+        return ((bits >>> weightOf(index)) & 1L) != 0;
+    }
+
+    /**
+     * Valor decimal del cromosoma (sin signo para L = 64).
+     */
+    public long toLong() {
+        return bits;
+    }
+
+    /**
+     * Valor decimal como double (sin signo también para L = 64).
+     */
+    public double decimalValue() {
+        return bits >= 0 ? bits : ((bits >>> 1) | (bits & 1L)) * 2.0;
+    }
+
+    /**
+     * Representación '0'/'1'; solo debe usarse en la frontera con la UI, logs o persistencia.
+     */
+    public String toBinaryString() {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = get(i) ? '1' : '0';
+        }
+        return new String(chars);
+    }
+
+    private int weightOf(int index) {
+        checkIndex(index);
+        return length - 1 - index;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Posición " + index + " fuera de rango para L=" + length);
+        }
+    }
+
+    private static long lowMask(int width) {
+        return width >= WORD_BITS ? -1L : (1L << width) - 1;
+    }
+
+    private static int bitAt(CharSequence binary, int index) {
+        char c = binary.charAt(index);
+        if (c == '0') {
+            return 0;
+        }
+        if (c == '1') {
+            return 1;
+        }
+        throw new IllegalArgumentException("Cadena no binaria: " + binary);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Chromosome other)) return false;
+        return length == other.length && bits == other.bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(bits) + length;
+    }
+
+    @Override
+    public String toString() {
+        return toBinaryString();
+    }
+}
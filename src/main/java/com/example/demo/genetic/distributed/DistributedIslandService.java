@@ -0,0 +1,152 @@
+package com.example.demo.genetic.distributed;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.algorithm.EvolutionOutcome;
+import com.example.demo.genetic.algorithm.GeneticAlgorithmService;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.history.GenerationHistory;
+import com.example.demo.genetic.history.GenerationHistoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Ejecuciones del modelo de islas repartidas entre varios nodos.
+ *
+ * <p>Cada nodo es una ejecución normal de {@link GeneticAlgorithmService} (mismas estrategias de
+ * selección, cruce, mutación y reemplazo, con sus propias islas) conectada al resto mediante un
+ * {@link MigrationTransport}. Todos los nodos arrancan con los mismos parámetros; cada uno deriva
+ * sus generadores de la semilla y de su número de nodo.</p>
+ *
+ * <p>Entre JVMs se usa {@link SocketTransport} con las direcciones de
+ * {@code genetic.distributed.nodes}; cada proceso se lanza con el modo headless
+ * ({@code --headless --node=N --nodes=...}, ver {@code HeadlessRunner}).
+ * {@link #runInProcess(AlgorithmParameters, int)} simula el
+ * clúster en esta JVM con {@link InProcessTransport}. El intercambio entre nodos es asíncrono,
+ * así que a diferencia de las islas locales una ejecución distribuida no es reproducible.</p>
+ */
+@Service
+public class DistributedIslandService {
+
+    private static final Logger log = LoggerFactory.getLogger(DistributedIslandService.class);
+
+    private final GeneticAlgorithmService geneticAlgorithmService;
+    private final GenerationHistoryService generationHistoryService;
+    private final int nodeId;
+    private final String nodes;
+    private final int port;
+    private final Duration connectTimeout;
+    private final Duration awaitTimeout;
+
+    public DistributedIslandService(GeneticAlgorithmService geneticAlgorithmService,
+                                    GenerationHistoryService generationHistoryService,
+                                    @Value("${genetic.distributed.node-id:0}") int nodeId,
+                                    @Value("${genetic.distributed.nodes:}") String nodes,
+                                    @Value("${genetic.distributed.port:0}") int port,
+                                    @Value("${genetic.distributed.connect-timeout-seconds:30}") long connectTimeoutSeconds,
+                                    @Value("${genetic.distributed.await-seconds:60}") long awaitSeconds) {
+        this.geneticAlgorithmService = geneticAlgorithmService;
+        this.generationHistoryService = generationHistoryService;
+        this.nodeId = nodeId;
+        this.nodes = nodes;
+        this.port = port;
+        this.connectTimeout = Duration.ofSeconds(connectTimeoutSeconds);
+        this.awaitTimeout = Duration.ofSeconds(awaitSeconds);
+    }
+
+    /**
+     * Ejecuta este proceso como el nodo {@code genetic.distributed.node-id} del clúster TCP
+     * configurado. En el coordinador (nodo 0) espera además a que terminen los demás nodos.
+     */
+    public NodeResult runNode(AlgorithmParameters params) {
+        return runNode(params, null);
+    }
+
+    /**
+     * Igual que {@link #runNode(AlgorithmParameters)} registrando las generaciones en
+     * {@code history}; con null se abre un historial del {@link GenerationHistoryService}.
+     */
+    public NodeResult runNode(AlgorithmParameters params, GenerationHistory history) {
+        if (nodes == null || nodes.isBlank()) {
+            throw new IllegalArgumentException("genetic.distributed.nodes no está configurado (--nodes=host:puerto,...)");
+        }
+        List<InetSocketAddress> addresses = SocketTransport.parseNodes(nodes);
+        if (nodeId < 0 || nodeId >= addresses.size()) {
+            throw new IllegalArgumentException("Nodo " + nodeId + " fuera de rango (0.." + (addresses.size() - 1) + ")");
+        }
+        InetSocketAddress listenAddress = port > 0 ? new InetSocketAddress(port) : null;
+        return run(params, nodeId, new SocketTransport(addresses, connectTimeout, listenAddress), history);
+    }
+
+    /**
+     * Ejecuta {@code nodeCount} nodos en esta JVM, cada uno en su propio hilo, conectados por
+     * {@link InProcessTransport}. El resultado del coordinador es el primero de la lista.
+     */
+    public List<NodeResult> runInProcess(AlgorithmParameters params, int nodeCount) {
+        if (nodeCount < 1) {
+            throw new IllegalArgumentException("Se necesita al menos un nodo: " + nodeCount);
+        }
+        List<InProcessTransport> transports = InProcessTransport.cluster(nodeCount);
+        ExecutorService executor = Executors.newFixedThreadPool(nodeCount,
+                Thread.ofPlatform().name("ga-node-", 0).daemon(true).factory());
+        try {
+            List<Future<NodeResult>> futures = new ArrayList<>(nodeCount);
+            for (int node = 0; node < nodeCount; node++) {
+                int id = node;
+                futures.add(executor.submit(() -> run(params, id, transports.get(id), null)));
+            }
+            List<NodeResult> results = new ArrayList<>(nodeCount);
+            for (Future<NodeResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando a los nodos", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Error en un nodo", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private NodeResult run(AlgorithmParameters params, int id, MigrationTransport transport, GenerationHistory history) {
+        RunContext context = geneticAlgorithmService.createContext(params).forNode(id);
+        if (history == null) {
+            history = generationHistoryService.open("node-" + id, context.getL(), context.getXmin(), context.getXmax());
+        }
+        DistributedNode node = new DistributedNode(id, transport);
+        try {
+            EvolutionOutcome outcome = geneticAlgorithmService.runEvolution(context, history, "node-" + id, null, node);
+            if (!node.isCoordinator()) {
+                return new NodeResult(id, history, outcome, null, false);
+            }
+            boolean finished = node.awaitNodes(awaitTimeout);
+            if (!finished) {
+                log.warn("⚠️ Algunos nodos no informaron de su final en {} s", awaitTimeout.toSeconds());
+            }
+            NodeMessage best = node.getBestSoFar();
+            if (best != null) {
+                log.info("🌐 Mejor global: {} (f(x) = {}) del nodo {}", Chromosome.of(best.getBestGenes(),
+                        context.getL()), best.getBestFitness(), best.getSourceNode());
+            }
+            return new NodeResult(id, history, outcome, best, finished);
+        } finally {
+            node.close();
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.demo.genetic.distributed;
+
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.island.Island;
+import com.example.demo.genetic.population.Population;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Estado de un nodo durante una ejecución distribuida.
+ *
+ * <p>Los nodos forman un anillo: cada uno envía sus mejores individuos al siguiente y los que
+ * recibe se integran en su primera isla. El nodo 0 además coordina: recibe el progreso de todos,
+ * mantiene el mejor individuo global y, en cuanto un nodo converge, ordena detenerse a todos.</p>
+ *
+ * <p>Los mensajes llegan desde el hilo del transporte: los emigrantes esperan en un buzón sin
+ * bloqueos hasta la siguiente generación y la orden de parada se publica en un campo volátil
+ * que el bucle de generaciones consulta junto con las demás condiciones de paro.</p>
+ */
+public final class DistributedNode {
+
+    private static final Logger log = LoggerFactory.getLogger(DistributedNode.class);
+    public static final int COORDINATOR = 0;
+
+    private final int nodeId;
+    private final int nodeCount;
+    private final MigrationTransport transport;
+    private final ConcurrentLinkedQueue<NodeMessage> inbox = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<NodeMessage> bestSoFar = new AtomicReference<>();
+    private final AtomicBoolean stopping = new AtomicBoolean();
+    private final CountDownLatch pendingNodes;
+    private volatile String stopReason;
+
+    public DistributedNode(int nodeId, MigrationTransport transport) {
+        this.nodeId = nodeId;
+        this.nodeCount = transport.nodeCount();
+        this.transport = transport;
+        this.pendingNodes = new CountDownLatch(isCoordinator() ? nodeCount - 1 : 0);
+        transport.open(nodeId, this::receive);
+    }
+
+    public int getNodeId() { return nodeId; }
+    public int getNodeCount() { return nodeCount; }
+    public boolean isCoordinator() { return nodeId == COORDINATOR; }
+    public String getTransportName() { return transport.getName(); }
+
+    /**
+     * Motivo de la parada ordenada por el coordinador, o null si el nodo debe continuar.
+     */
+    public String getStopReason() { return stopReason; }
+
+    /**
+     * Mejor individuo global conocido por el coordinador (null en los demás nodos o sin informes).
+     */
+    public NodeMessage getBestSoFar() { return bestSoFar.get(); }
+
+    private void receive(NodeMessage message) {
+        switch (message.getType()) {
+            case MIGRANTS -> inbox.offer(message);
+            case REPORT -> onReport(message);
+            case DONE -> {
+                onReport(message);
+                pendingNodes.countDown();
+            }
+            case STOP -> stopReason = message.getReason();
+        }
+    }
+
+    /**
+     * Informa al coordinador del progreso de este nodo tras registrar una generación.
+     */
+    public void report(int generation, GenerationStats summary, boolean converged) {
+        NodeMessage message = NodeMessage.report(nodeId, generation, summary.getBestGenes(),
+                summary.getBestFitness(), converged);
+        if (isCoordinator()) {
+            onReport(message);
+        } else {
+            transport.send(COORDINATOR, message);
+        }
+    }
+
+    /**
+     * Informa al coordinador de que este nodo terminó, con su mejor individuo final.
+     */
+    public void finish(int generation, GenerationStats summary) {
+        if (isCoordinator()) {
+            onReport(NodeMessage.report(nodeId, generation, summary.getBestGenes(), summary.getBestFitness(), false));
+        } else {
+            transport.send(COORDINATOR, NodeMessage.done(nodeId, generation, summary.getBestGenes(),
+                    summary.getBestFitness()));
+        }
+    }
+
+    private void onReport(NodeMessage report) {
+        bestSoFar.accumulateAndGet(report, (current, candidate) -> current == null
+                || Double.compare(candidate.getBestFitness(), current.getBestFitness()) > 0 ? candidate : current);
+        if (report.isConverged()) {
+            stopAll("convergencia en el nodo " + report.getSourceNode() + " (generación " + report.getGeneration() + ")");
+        }
+    }
+
+    /**
+     * Ordena a todos los nodos, incluido este, detenerse en su próxima generación.
+     */
+    private void stopAll(String reason) {
+        if (!stopping.compareAndSet(false, true)) {
+            return;
+        }
+        log.info("🛑 Coordinador: {}; deteniendo {} nodos", reason, nodeCount);
+        stopReason = reason;
+        NodeMessage stop = NodeMessage.stop(nodeId, reason);
+        for (int node = 0; node < nodeCount; node++) {
+            if (node != nodeId) {
+                transport.send(node, stop);
+            }
+        }
+    }
+
+    /**
+     * Envía los {@code count} mejores individuos de la última isla al siguiente nodo del anillo.
+     */
+    public void emigrate(List<Island> islands, int generation, int count) {
+        if (nodeCount <= 1 || count <= 0) {
+            return;
+        }
+        Population migrants = islands.get(islands.size() - 1).emigrants(count);
+        transport.send((nodeId + 1) % nodeCount, NodeMessage.migrants(nodeId, generation, migrants));
+    }
+
+    /**
+     * Pasa los emigrantes recibidos de otros nodos al buzón de la primera isla; se integran al
+     * empezar su siguiente generación. Como origen se usa un índice posterior al de las islas
+     * locales, así que los lotes remotos se integran después de los locales.
+     */
+    public void deliver(List<Island> islands) {
+        Island first = islands.get(0);
+        for (NodeMessage message; (message = inbox.poll()) != null; ) {
+            first.receive(islands.size() + message.getSourceNode(), message.getMigrants());
+        }
+    }
+
+    /**
+     * En el coordinador, espera a que los demás nodos informen de que terminaron.
+     *
+     * @return true si terminaron todos dentro del plazo
+     */
+    public boolean awaitNodes(Duration timeout) {
+        try {
+            return pendingNodes.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void close() {
+        transport.close();
+    }
+}
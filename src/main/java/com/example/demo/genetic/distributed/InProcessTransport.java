@@ -0,0 +1,64 @@
+package com.example.demo.genetic.distributed;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Transporte dentro de la misma JVM: sustituto del TCP para pruebas y para simular un
+ * clúster en una sola máquina. Los mensajes se entregan directamente al receptor del nodo
+ * destino, sin serializar.
+ */
+public final class InProcessTransport implements MigrationTransport {
+
+    private final AtomicReferenceArray<Consumer<NodeMessage>> receivers;
+    private int nodeId = -1;
+
+    private InProcessTransport(AtomicReferenceArray<Consumer<NodeMessage>> receivers) {
+        this.receivers = receivers;
+    }
+
+    /**
+     * Crea un transporte por nodo, todos conectados entre sí.
+     */
+    public static List<InProcessTransport> cluster(int nodes) {
+        AtomicReferenceArray<Consumer<NodeMessage>> receivers = new AtomicReferenceArray<>(nodes);
+        List<InProcessTransport> transports = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            transports.add(new InProcessTransport(receivers));
+        }
+        return transports;
+    }
+
+    @Override
+    public void open(int nodeId, Consumer<NodeMessage> receiver) {
+        this.nodeId = nodeId;
+        receivers.set(nodeId, receiver);
+    }
+
+    @Override
+    public void send(int targetNode, NodeMessage message) {
+        Consumer<NodeMessage> receiver = receivers.get(targetNode);
+        if (receiver != null) {
+            receiver.accept(message);
+        }
+    }
+
+    @Override
+    public int nodeCount() {
+        return receivers.length();
+    }
+
+    @Override
+    public String getName() {
+        return "En proceso (" + receivers.length() + " nodos)";
+    }
+
+    @Override
+    public void close() {
+        if (nodeId >= 0) {
+            receivers.set(nodeId, null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.genetic.distributed;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal entre los nodos de una ejecución distribuida.
+ *
+ * <p>Los envíos no deben bloquear: se hacen desde el bucle de generaciones y también desde el
+ * hilo que entrega los mensajes recibidos (el coordinador reenvía la orden de parada al recibir
+ * un informe de convergencia). Un nodo que ya terminó no es un error: el transporte registra el
+ * fallo y sigue. Los mensajes recibidos se entregan desde el hilo del transporte, así que el
+ * receptor debe ser thread-safe.</p>
+ */
+public interface MigrationTransport extends AutoCloseable {
+
+    /**
+     * Empieza a recibir mensajes dirigidos a {@code nodeId}.
+     */
+    void open(int nodeId, Consumer<NodeMessage> receiver);
+
+    /**
+     * Envía un mensaje al nodo {@code targetNode} sin esperar a que se entregue.
+     */
+    void send(int targetNode, NodeMessage message);
+
+    /**
+     * Número de nodos de la ejecución.
+     */
+    int nodeCount();
+
+    /**
+     * Nombre descriptivo para mostrar en logs.
+     */
+    String getName();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,120 @@
+package com.example.demo.genetic.distributed;
+
+import com.example.demo.genetic.population.Population;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Mensaje entre nodos de una ejecución distribuida.
+ *
+ * <ul>
+ *   <li>{@link Type#MIGRANTS}: emigrantes de un nodo hacia el siguiente del anillo</li>
+ *   <li>{@link Type#REPORT}: progreso de un nodo hacia el coordinador (mejor individuo y convergencia)</li>
+ *   <li>{@link Type#STOP}: orden del coordinador para detener todos los nodos</li>
+ *   <li>{@link Type#DONE}: un nodo terminó su evolución (lleva su mejor individuo final)</li>
+ * </ul>
+ *
+ * <p>El formato binario (usado por el transporte TCP) es: tipo, nodo origen, generación, mejor
+ * genotipo y fitness, convergencia y, según el tipo, los emigrantes (L, cantidad y
+ * genes/real/fitness de cada uno) o el motivo de la detención en UTF-8.</p>
+ */
+public final class NodeMessage {
+
+    public enum Type { MIGRANTS, REPORT, STOP, DONE }
+
+    private final Type type;
+    private final int sourceNode;
+    private final int generation;
+    private final long bestGenes;
+    private final double bestFitness;
+    private final boolean converged;
+    private final Population migrants;
+    private final String reason;
+
+    private NodeMessage(Type type, int sourceNode, int generation, long bestGenes, double bestFitness,
+                        boolean converged, Population migrants, String reason) {
+        this.type = type;
+        this.sourceNode = sourceNode;
+        this.generation = generation;
+        this.bestGenes = bestGenes;
+        this.bestFitness = bestFitness;
+        this.converged = converged;
+        this.migrants = migrants;
+        this.reason = reason;
+    }
+
+    public static NodeMessage migrants(int sourceNode, int generation, Population migrants) {
+        return new NodeMessage(Type.MIGRANTS, sourceNode, generation, 0L, Double.NaN, false, migrants, null);
+    }
+
+    public static NodeMessage report(int sourceNode, int generation, long bestGenes, double bestFitness,
+                                     boolean converged) {
+        return new NodeMessage(Type.REPORT, sourceNode, generation, bestGenes, bestFitness, converged, null, null);
+    }
+
+    public static NodeMessage done(int sourceNode, int generation, long bestGenes, double bestFitness) {
+        return new NodeMessage(Type.DONE, sourceNode, generation, bestGenes, bestFitness, false, null, null);
+    }
+
+    public static NodeMessage stop(int sourceNode, String reason) {
+        return new NodeMessage(Type.STOP, sourceNode, 0, 0L, Double.NaN, false, null, reason);
+    }
+
+    public Type getType() { return type; }
+    public int getSourceNode() { return sourceNode; }
+    public int getGeneration() { return generation; }
+    public long getBestGenes() { return bestGenes; }
+    public double getBestFitness() { return bestFitness; }
+    public boolean isConverged() { return converged; }
+    public Population getMigrants() { return migrants; }
+    public String getReason() { return reason; }
+
+    /**
+     * Serializa el mensaje (sin el prefijo de longitud, que añade el transporte).
+     */
+    public ByteBuffer encode() {
+        byte[] reasonBytes = reason != null ? reason.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int count = migrants != null ? migrants.size() : 0;
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 4 + 4 + 8 + 8 + 1 + 4 + 4 + count * 24 + 4 + reasonBytes.length);
+        buffer.put((byte) type.ordinal())
+                .putInt(sourceNode)
+                .putInt(generation)
+                .putLong(bestGenes)
+                .putDouble(bestFitness)
+                .put((byte) (converged ? 1 : 0))
+                .putInt(migrants != null ? migrants.getL() : 0)
+                .putInt(count);
+        for (int i = 0; i < count; i++) {
+            buffer.putLong(migrants.genes(i)).putDouble(migrants.real(i)).putDouble(migrants.fitness(i));
+        }
+        buffer.putInt(reasonBytes.length).put(reasonBytes);
+        return buffer.flip();
+    }
+
+    public static NodeMessage decode(ByteBuffer buffer) {
+        int typeOrdinal = buffer.get();
+        if (typeOrdinal < 0 || typeOrdinal >= Type.values().length) {
+            throw new IllegalArgumentException("Tipo de mensaje desconocido: " + typeOrdinal);
+        }
+        Type type = Type.values()[typeOrdinal];
+        int sourceNode = buffer.getInt();
+        int generation = buffer.getInt();
+        long bestGenes = buffer.getLong();
+        double bestFitness = buffer.getDouble();
+        boolean converged = buffer.get() != 0;
+        int L = buffer.getInt();
+        int count = buffer.getInt();
+        Population migrants = null;
+        if (type == Type.MIGRANTS) {
+            migrants = new Population(count, L);
+            for (int i = 0; i < count; i++) {
+                migrants.add(buffer.getLong(), buffer.getDouble(), buffer.getDouble());
+            }
+        }
+        byte[] reasonBytes = new byte[buffer.getInt()];
+        buffer.get(reasonBytes);
+        String reason = type == Type.STOP ? new String(reasonBytes, StandardCharsets.UTF_8) : null;
+        return new NodeMessage(type, sourceNode, generation, bestGenes, bestFitness, converged, migrants, reason);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.genetic.distributed;
+
+import com.example.demo.genetic.algorithm.EvolutionOutcome;
+import com.example.demo.genetic.history.GenerationHistory;
+
+/**
+ * Resultado de un nodo en una ejecución distribuida. Solo el coordinador conoce el mejor
+ * individuo global; en los demás nodos {@link #getGlobalBest()} es null.
+ */
+public final class NodeResult {
+
+    private final int nodeId;
+    private final GenerationHistory history;
+    private final EvolutionOutcome outcome;
+    private final NodeMessage globalBest;
+    private final boolean allNodesFinished;
+
+    public NodeResult(int nodeId, GenerationHistory history, EvolutionOutcome outcome, NodeMessage globalBest,
+                      boolean allNodesFinished) {
+        this.nodeId = nodeId;
+        this.history = history;
+        this.outcome = outcome;
+        this.globalBest = globalBest;
+        this.allNodesFinished = allNodesFinished;
+    }
+
+    public int getNodeId() { return nodeId; }
+    public GenerationHistory getHistory() { return history; }
+
+    /**
+     * Cómo terminó la evolución de este nodo (convergencia propia u orden de parada del coordinador).
+     */
+    public EvolutionOutcome getOutcome() { return outcome; }
+    public NodeMessage getGlobalBest() { return globalBest; }
+
+    /**
+     * En el coordinador, si todos los nodos informaron de su final antes del plazo.
+     */
+    public boolean isAllNodesFinished() { return allNodesFinished; }
+}
@@ -0,0 +1,369 @@
+package com.example.demo.genetic.distributed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Transporte TCP entre JVMs con NIO.
+ *
+ * <p>Cada nodo escucha en su dirección con un único hilo y un {@link Selector} para todas las
+ * conexiones entrantes. Los envíos no bloquean: {@link #send} deja el mensaje en la cola del
+ * destino y un hilo por destino ({@code ga-node-N-a-M}), creado al primer envío, abre la
+ * conexión y escribe. Así ni el bucle de generaciones ni el receptor (que reenvía la orden de
+ * parada del coordinador) esperan nunca a un nodo lento. Cada mensaje va precedido de su
+ * longitud (int) y se serializa con {@link NodeMessage#encode()}.</p>
+ *
+ * <p>Mientras un destino no ha arrancado su hilo de envío reintenta la conexión hasta
+ * {@code connectTimeout}; si no lo consigue, o si una conexión ya establecida se cae, se da el
+ * nodo por terminado y sus mensajes se descartan. {@link #close()} espera a que se vacíen las
+ * colas (como mucho {@code connectTimeout}) para no perder el aviso de final al coordinador.</p>
+ */
+public final class SocketTransport implements MigrationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(SocketTransport.class);
+    private static final int MAX_FRAME_BYTES = 64 * 1024 * 1024;
+    private static final int OUTBOX_CAPACITY = 1024;
+    // Marca de fin de cola para los hilos de envío
+    private static final ByteBuffer[] END = new ByteBuffer[0];
+
+    private final List<InetSocketAddress> nodes;
+    private final Duration connectTimeout;
+    private final InetSocketAddress listenAddress;
+    private final Sender[] senders;
+    private boolean closed;
+    private ServerSocketChannel server;
+    private Selector selector;
+    private Thread receiverThread;
+    private int nodeId = -1;
+
+    public SocketTransport(List<InetSocketAddress> nodes, Duration connectTimeout) {
+        this(nodes, connectTimeout, null);
+    }
+
+    /**
+     * @param listenAddress dirección donde escucha este nodo; null = la de su entrada en
+     *                      {@code nodes} (distinta cuando los demás lo alcanzan por otra dirección,
+     *                      p. ej. detrás de NAT o de un contenedor)
+     */
+    public SocketTransport(List<InetSocketAddress> nodes, Duration connectTimeout, InetSocketAddress listenAddress) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("Se necesita al menos un nodo");
+        }
+        this.nodes = List.copyOf(nodes);
+        this.connectTimeout = connectTimeout;
+        this.listenAddress = listenAddress;
+        this.senders = new Sender[nodes.size()];
+    }
+
+    /**
+     * Interpreta una lista de direcciones {@code host:puerto} separadas por comas.
+     */
+    public static List<InetSocketAddress> parseNodes(String spec) {
+        List<InetSocketAddress> addresses = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String address = part.trim();
+            if (address.isEmpty()) {
+                continue;
+            }
+            int colon = address.lastIndexOf(':');
+            if (colon <= 0) {
+                throw new IllegalArgumentException("Dirección de nodo inválida (se espera host:puerto): " + address);
+            }
+            try {
+                addresses.add(new InetSocketAddress(address.substring(0, colon),
+                        Integer.parseInt(address.substring(colon + 1))));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Puerto inválido en " + address, e);
+            }
+        }
+        return addresses;
+    }
+
+    @Override
+    public void open(int nodeId, Consumer<NodeMessage> receiver) {
+        if (nodeId < 0 || nodeId >= nodes.size()) {
+            throw new IllegalArgumentException("Nodo " + nodeId + " fuera de rango (0.." + (nodes.size() - 1) + ")");
+        }
+        this.nodeId = nodeId;
+        InetSocketAddress address = listenAddress != null ? listenAddress : nodes.get(nodeId);
+        try {
+            selector = Selector.open();
+            server = ServerSocketChannel.open();
+            server.bind(address);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException("No se pudo escuchar en " + address, e);
+        }
+        receiverThread = Thread.ofPlatform().name("ga-node-" + nodeId).daemon(true)
+                .start(() -> receiveLoop(receiver));
+        log.info("🌐 Nodo {} escuchando en {}", nodeId, address);
+    }
+
+    private void receiveLoop(Consumer<NodeMessage> receiver) {
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        SocketChannel channel = server.accept();
+                        if (channel != null) {
+                            channel.configureBlocking(false);
+                            channel.register(selector, SelectionKey.OP_READ, new FrameReader());
+                        }
+                    } else if (key.isReadable()) {
+                        SocketChannel channel = (SocketChannel) key.channel();
+                        FrameReader reader = (FrameReader) key.attachment();
+                        try {
+                            if (!reader.read(channel, receiver)) {
+                                key.cancel();
+                                channel.close();
+                            }
+                        } catch (IOException | RuntimeException e) {
+                            if (selector.isOpen()) {
+                                log.warn("Conexión entrante descartada en el nodo {}: {}", nodeId, e.toString());
+                            }
+                            key.cancel();
+                            channel.close();
+                        }
+                    }
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            // Cierre del transporte
+        } catch (IOException e) {
+            log.error("Error en el receptor del nodo {}", nodeId, e);
+        }
+    }
+
+    /**
+     * Encola el mensaje para {@code targetNode} y vuelve enseguida; si la cola del destino está
+     * llena (el nodo no lee) el mensaje se descarta.
+     */
+    @Override
+    public void send(int targetNode, NodeMessage message) {
+        Sender sender = sender(targetNode);
+        if (sender == null || sender.departed) {
+            return;
+        }
+        ByteBuffer payload = message.encode();
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES).putInt(payload.remaining()).flip();
+        if (!sender.outbox.offer(new ByteBuffer[]{header, payload})) {
+            log.warn("Cola de envío al nodo {} llena; se descarta un mensaje {}", targetNode, message.getType());
+        }
+    }
+
+    private Sender sender(int targetNode) {
+        synchronized (senders) {
+            if (closed) {
+                return null;
+            }
+            Sender sender = senders[targetNode];
+            if (sender == null) {
+                sender = new Sender(targetNode);
+                senders[targetNode] = sender;
+                sender.thread = Thread.ofPlatform().name("ga-node-" + nodeId + "-a-" + targetNode).daemon(true)
+                        .start(sender);
+            }
+            return sender;
+        }
+    }
+
+    @Override
+    public int nodeCount() {
+        return nodes.size();
+    }
+
+    @Override
+    public String getName() {
+        return "TCP (" + nodes.size() + " nodos)";
+    }
+
+    @Override
+    public void close() {
+        List<Sender> started = new ArrayList<>();
+        synchronized (senders) {
+            closed = true;
+            for (Sender sender : senders) {
+                if (sender != null) {
+                    started.add(sender);
+                }
+            }
+        }
+        // Los hilos de envío terminan al llegar a la marca de fin, después de lo ya encolado
+        long deadline = System.nanoTime() + connectTimeout.toNanos();
+        for (Sender sender : started) {
+            if (!sender.outbox.offer(END)) {
+                sender.thread.interrupt();
+            }
+        }
+        for (Sender sender : started) {
+            try {
+                sender.thread.join(Duration.ofNanos(Math.max(1, deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (sender.thread.isAlive()) {
+                log.warn("Mensajes pendientes para el nodo {} descartados al cerrar", sender.target);
+                sender.thread.interrupt();
+            }
+        }
+        if (selector != null && selector.isOpen()) {
+            // Primero el selector (despierta al receptor), después las conexiones entrantes
+            List<AutoCloseable> incoming = new ArrayList<>();
+            for (SelectionKey key : selector.keys()) {
+                incoming.add(key.channel());
+            }
+            closeQuietly(selector);
+            incoming.forEach(SocketTransport::closeQuietly);
+        }
+        closeQuietly(server);
+        if (receiverThread != null) {
+            receiverThread.interrupt();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Error al cerrar {}", closeable, e);
+        }
+    }
+
+    /**
+     * Cola y conexión saliente hacia un nodo, atendidas por su propio hilo.
+     */
+    private final class Sender implements Runnable {
+        private final int target;
+        private final BlockingQueue<ByteBuffer[]> outbox = new LinkedBlockingQueue<>(OUTBOX_CAPACITY);
+        private volatile boolean departed;
+        private Thread thread;
+        private SocketChannel channel;
+
+        Sender(int target) {
+            this.target = target;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (ByteBuffer[] frame; (frame = outbox.take()) != END; ) {
+                    if (!departed) {
+                        write(frame);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Cierre del transporte
+            } finally {
+                closeQuietly(channel);
+            }
+        }
+
+        private void write(ByteBuffer[] frame) throws InterruptedException {
+            if (channel == null && !connect()) {
+                departed = true;
+                outbox.removeIf(pending -> pending != END);
+                return;
+            }
+            try {
+                while (frame[1].hasRemaining()) {
+                    channel.write(frame);
+                }
+            } catch (IOException e) {
+                log.warn("Nodo {} no disponible ({}); se descartan sus mensajes", target, e.getMessage());
+                departed = true;
+                outbox.removeIf(pending -> pending != END);
+            }
+        }
+
+        /**
+         * Abre la conexión, reintentando mientras el destino arranca.
+         */
+        private boolean connect() throws InterruptedException {
+            long deadline = System.nanoTime() + connectTimeout.toNanos();
+            while (true) {
+                try {
+                    channel = SocketChannel.open(nodes.get(target));
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                    return true;
+                } catch (IOException e) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        log.warn("No se pudo conectar con el nodo {} en {}: {}", target, nodes.get(target),
+                                e.getMessage());
+                        return false;
+                    }
+                }
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    /**
+     * Reensambla los mensajes de una conexión a partir de lecturas parciales.
+     */
+    private static final class FrameReader {
+        private final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        private ByteBuffer body;
+
+        /**
+         * Lee lo disponible y entrega los mensajes completos.
+         *
+         * @return false si el otro extremo cerró la conexión
+         */
+        boolean read(SocketChannel channel, Consumer<NodeMessage> receiver) throws IOException {
+            while (true) {
+                if (body == null) {
+                    if (channel.read(header) < 0) {
+                        return false;
+                    }
+                    if (header.hasRemaining()) {
+                        return true;
+                    }
+                    int length = header.flip().getInt();
+                    header.clear();
+                    if (length < 0 || length > MAX_FRAME_BYTES) {
+                        throw new IOException("Longitud de mensaje inválida: " + length);
+                    }
+                    body = ByteBuffer.allocate(length);
+                }
+                if (channel.read(body) < 0) {
+                    return false;
+                }
+                if (body.hasRemaining()) {
+                    return true;
+                }
+                receiver.accept(NodeMessage.decode(body.flip()));
+                body = null;
+            }
+        }
+    }
+}
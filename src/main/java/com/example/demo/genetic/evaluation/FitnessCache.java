@@ -0,0 +1,142 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.genetic.function.FitnessFunction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché acotada genotipo → fitness de una ejecución.
+ *
+ * <p>Tabla de direccionamiento abierto con claves {@code long} primitivas (sin boxing),
+ * repartida en segmentos con su propio cerrojo para que el evaluador paralelo no compita por
+ * uno solo. Cada búsqueda prueba como máximo {@value #MAX_PROBES} posiciones; si al insertar
+ * no hay hueco, se reemplaza la entrada de la posición base (desalojo). Así la memoria queda
+ * fija aunque el espacio de búsqueda sea de 2^L genotipos.</p>
+ *
+ * <p>Conviene cuando la función objetivo es cara: con poblaciones convergidas la mayoría de
+ * los genotipos se repiten y cada acierto ahorra una evaluación.</p>
+ */
+public final class FitnessCache {
+
+    private static final int SEGMENTS = 16;
+    private static final int MAX_PROBES = 8;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final int capacity;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity número aproximado de genotipos a conservar
+     */
+    public FitnessCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("La capacidad de la caché debe ser positiva: " + capacity);
+        }
+        int perSegment = Integer.highestOneBit(Math.max(MAX_PROBES, (capacity + SEGMENTS - 1) / SEGMENTS) * 2 - 1);
+        for (int s = 0; s < SEGMENTS; s++) {
+            segments[s] = new Segment(perSegment);
+        }
+        this.capacity = perSegment * SEGMENTS;
+    }
+
+    /**
+     * Devuelve el fitness del genotipo, evaluándolo y guardándolo si no estaba en la caché.
+     *
+     * @param genes genotipo empaquetado (clave)
+     * @param real valor real ya decodificado de {@code genes}
+     */
+    public double fitness(long genes, double real, FitnessFunction function) {
+        long hash = mix(genes);
+        Segment segment = segments[(int) (hash >>> 60)];
+        int home = (int) hash;
+
+        synchronized (segment) {
+            int slot = segment.find(genes, home);
+            if (slot >= 0) {
+                hits.increment();
+                return segment.values[slot];
+            }
+        }
+
+        // Evaluar fuera del cerrojo: la función puede ser cara
+        double value = function.evaluate(real);
+        misses.increment();
+        synchronized (segment) {
+            if (segment.put(genes, value, home)) {
+                evictions.increment();
+            }
+        }
+        return value;
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+    public long getEvictions() { return evictions.sum(); }
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Porcentaje de consultas resueltas sin evaluar (0 a 100).
+     */
+    public double getHitRate() {
+        long h = getHits();
+        long total = h + getMisses();
+        return total == 0 ? 0.0 : 100.0 * h / total;
+    }
+
+    // Finalizador de MurmurHash3: reparte bien genotipos consecutivos
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private static final class Segment {
+        private final long[] keys;
+        private final double[] values;
+        private final boolean[] used;
+        private final int mask;
+
+        Segment(int size) {
+            keys = new long[size];
+            values = new double[size];
+            used = new boolean[size];
+            mask = size - 1;
+        }
+
+        int find(long key, int home) {
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (home + probe) & mask;
+                if (!used[slot]) {
+                    return -1;
+                }
+                if (keys[slot] == key) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return true si hubo que desalojar otra entrada
+         */
+        boolean put(long key, double value, int home) {
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                int slot = (home + probe) & mask;
+                if (!used[slot] || keys[slot] == key) {
+                    used[slot] = true;
+                    keys[slot] = key;
+                    values[slot] = value;
+                    return false;
+                }
+            }
+            int slot = home & mask;
+            keys[slot] = key;
+            values[slot] = value;
+            return true;
+        }
+    }
+}
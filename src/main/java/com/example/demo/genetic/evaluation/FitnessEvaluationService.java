@@ -0,0 +1,58 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.population.Population;
+import com.example.demo.genetic.vector.VectorSupport;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Punto único de evaluación de generaciones completas.
+ *
+ * <p>Usa el motor configurado en {@code genetic.evaluation.engine} cuando la población alcanza
+ * {@code genetic.evaluation.parallel-threshold} individuos; por debajo evalúa secuencialmente,
+ * porque el coste de repartir tareas supera al de evaluar.</p>
+ */
+@Service
+public class FitnessEvaluationService {
+
+    private static final Logger log = LoggerFactory.getLogger(FitnessEvaluationService.class);
+
+    private final FitnessEvaluator sequentialEvaluator;
+    private final FitnessEvaluator configuredEvaluator;
+    private final int parallelThreshold;
+
+    public FitnessEvaluationService(Map<String, FitnessEvaluator> evaluators,
+                                    @Value("${genetic.evaluation.engine:parallel}") String engine,
+                                    @Value("${genetic.evaluation.parallel-threshold:2048}") int parallelThreshold) {
+        this.sequentialEvaluator = evaluators.get("sequential");
+        this.configuredEvaluator = evaluators.get(engine);
+        if (configuredEvaluator == null) {
+            throw new IllegalArgumentException("Motor de evaluación desconocido: " + engine);
+        }
+        this.parallelThreshold = parallelThreshold;
+        log.info("Motor de evaluación: {} (umbral paralelo: {} individuos), kernels: {}",
+                configuredEvaluator.getName(), parallelThreshold, VectorSupport.describe());
+    }
+
+    /**
+     * Decodifica y evalúa todos los individuos de la población.
+     *
+     * @param cache caché de fitness de la ejecución, o null para evaluar siempre
+     * @param table tabla precalculada de la ejecución; si existe, sustituye a la evaluación
+     */
+    public void evaluate(Population population, FitnessFunction function, double xmin, double xmax,
+                         FitnessCache cache, LookupTable table) {
+        if (table != null) {
+            table.evaluate(population, 0, population.size());
+            population.invalidateRanking();
+            return;
+        }
+        FitnessEvaluator evaluator = population.size() >= parallelThreshold ? configuredEvaluator : sequentialEvaluator;
+        evaluator.evaluate(population, 0, population.size(), function, xmin, xmax, cache);
+        population.invalidateRanking();
+    }
+}
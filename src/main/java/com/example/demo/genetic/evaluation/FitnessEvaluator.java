@@ -0,0 +1,29 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.population.Population;
+
+/**
+ * Motor de evaluación: decodifica genes a valor real y calcula el adaptativo sobre los
+ * arreglos de una {@link Population}.
+ */
+public interface FitnessEvaluator {
+    /**
+     * Decodifica y evalúa los individuos en el rango [from, to).
+     *
+     * @param population población en formato columnar
+     * @param from índice inicial (inclusive)
+     * @param to índice final (exclusive)
+     * @param function función objetivo
+     * @param xmin límite inferior del rango real
+     * @param xmax límite superior del rango real
+     * @param cache caché de fitness de la ejecución, o null si está desactivada
+     */
+    void evaluate(Population population, int from, int to, FitnessFunction function, double xmin, double xmax,
+                  FitnessCache cache);
+
+    /**
+     * Nombre descriptivo para mostrar en logs.
+     */
+    String getName();
+}
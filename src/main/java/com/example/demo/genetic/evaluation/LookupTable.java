@@ -0,0 +1,47 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.genetic.population.Population;
+
+/**
+ * Valor real y fitness de los 2^L genotipos posibles de una combinación (xmin, xmax, L, función).
+ *
+ * <p>Con la tabla, evaluar un individuo es leer dos posiciones de un arreglo. Es inmutable una
+ * vez construida y se comparte entre ejecuciones mediante {@link LookupTableService}.</p>
+ */
+public final class LookupTable {
+
+    private final int L;
+    private final double[] real;
+    private final double[] fitness;
+
+    LookupTable(int L, double[] real, double[] fitness) {
+        this.L = L;
+        this.real = real;
+        this.fitness = fitness;
+    }
+
+    public int getL() { return L; }
+    public double real(long genes) { return real[(int) genes]; }
+    public double fitness(long genes) { return fitness[(int) genes]; }
+
+    /**
+     * Memoria ocupada por los dos arreglos, en bytes.
+     */
+    public long sizeInBytes() {
+        return 2L * Double.BYTES * real.length;
+    }
+
+    /**
+     * Rellena real y fitness de los individuos en [from, to) leyendo de la tabla.
+     */
+    public void evaluate(Population population, int from, int to) {
+        long[] genes = population.genesArray();
+        double[] reals = population.realArray();
+        double[] fitnessOut = population.fitnessArray();
+        for (int i = from; i < to; i++) {
+            int g = (int) genes[i];
+            reals[i] = real[g];
+            fitnessOut[i] = fitness[g];
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.function.FitnessFunction;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Construye y comparte entre ejecuciones las tablas de decodificación y fitness.
+ *
+ * <p>{@code genetic.evaluation.precompute}:</p>
+ * <ul>
+ *   <li>{@code auto}: se usa la tabla si ya existe o si la ejecución va a evaluar al menos
+ *       2^L individuos (construirla cuesta lo mismo que evaluar una vez cada genotipo)</li>
+ *   <li>{@code always}: siempre que L ≤ {@code genetic.evaluation.precompute-max-l}</li>
+ *   <li>{@code never}: desactivado</li>
+ * </ul>
+ * <p>Se conservan las {@code genetic.evaluation.precompute-cache-size} tablas usadas más
+ * recientemente. Cada tabla se construye fuera de cualquier cerrojo: solo esperan a su
+ * construcción las ejecuciones que piden esa misma tabla, no las que usan otras ya calculadas.</p>
+ */
+@Service
+public class LookupTableService {
+
+    private static final Logger log = LoggerFactory.getLogger(LookupTableService.class);
+
+    private final RealConverterService realConverterService;
+    private final String mode;
+    private final int maxL;
+    private final int capacity;
+    private final ConcurrentHashMap<String, Entry> tables = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+
+    public LookupTableService(RealConverterService realConverterService,
+                              @Value("${genetic.evaluation.precompute:auto}") String mode,
+                              @Value("${genetic.evaluation.precompute-max-l:20}") int maxL,
+                              @Value("${genetic.evaluation.precompute-cache-size:8}") int cacheSize) {
+        if (!"auto".equals(mode) && !"always".equals(mode) && !"never".equals(mode)) {
+            throw new IllegalArgumentException("Modo de precálculo desconocido: " + mode);
+        }
+        if (maxL > 28) {
+            throw new IllegalArgumentException("genetic.evaluation.precompute-max-l no puede superar 28: " + maxL);
+        }
+        this.realConverterService = realConverterService;
+        this.mode = mode;
+        this.maxL = maxL;
+        this.capacity = Math.max(1, cacheSize);
+    }
+
+    /**
+     * Tabla para la ejecución, o null si no conviene o no cabe.
+     *
+     * @param expectedEvaluations evaluaciones previstas (población × generaciones)
+     */
+    public LookupTable tableFor(String functionType, FitnessFunction function, double xmin, double xmax, int L,
+                                long expectedEvaluations) {
+        if ("never".equals(mode) || L > maxL) {
+            return null;
+        }
+        String key = functionType + '|' + xmin + '|' + xmax + '|' + L;
+        Entry entry = tables.get(key);
+        if (entry == null) {
+            if (!"always".equals(mode) && expectedEvaluations < (1L << L)) {
+                return null;
+            }
+            Entry created = new Entry();
+            entry = tables.putIfAbsent(key, created);
+            if (entry == null) {
+                entry = created;
+                try {
+                    created.table.complete(build(function, xmin, xmax, L));
+                } catch (RuntimeException | Error e) {
+                    // Quien espera esta tabla recibe el mismo error en lugar de quedarse bloqueado
+                    tables.remove(key, created);
+                    created.table.completeExceptionally(e);
+                    throw e;
+                }
+                created.lastUsed = clock.incrementAndGet();
+                evictLeastRecentlyUsed();
+            }
+        }
+        entry.lastUsed = clock.incrementAndGet();
+        try {
+            return entry.table.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Descarta las tablas terminadas menos usadas hasta volver a la capacidad; las que aún se
+     * están construyendo no cuentan como candidatas.
+     */
+    private synchronized void evictLeastRecentlyUsed() {
+        while (tables.size() > capacity) {
+            Map.Entry<String, Entry> eldest = null;
+            for (Map.Entry<String, Entry> candidate : tables.entrySet()) {
+                Entry entry = candidate.getValue();
+                if (entry.table.isDone() && (eldest == null || entry.lastUsed < eldest.getValue().lastUsed)) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null || !tables.remove(eldest.getKey(), eldest.getValue())) {
+                return;
+            }
+        }
+    }
+
+    private LookupTable build(FitnessFunction function, double xmin, double xmax, int L) {
+        long start = System.nanoTime();
+        int size = 1 << L;
+        long[] genotypes = new long[size];
+        for (int g = 0; g < size; g++) {
+            genotypes[g] = g;
+        }
+        double[] real = new double[size];
+        double[] fitness = new double[size];
+        realConverterService.toReal(genotypes, real, 0, size, xmin, xmax, L);
+        function.evaluate(real, fitness);
+        LookupTable table = new LookupTable(L, real, fitness);
+        log.info("Tabla precalculada para {} en [{}, {}] con L={}: {} genotipos, {} KB en {} ms",
+                function.getName(), xmin, xmax, L, size, table.sizeInBytes() / 1024,
+                (System.nanoTime() - start) / 1_000_000);
+        return table;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<LookupTable> table = new CompletableFuture<>();
+        private volatile long lastUsed;
+    }
+}
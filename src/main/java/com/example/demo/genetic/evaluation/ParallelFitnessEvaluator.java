@@ -0,0 +1,85 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.population.Population;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evalúa la población en paralelo con fork-join.
+ *
+ * <p>El rango se divide en bloques contiguos de al menos {@code chunkSize} individuos, así cada
+ * tarea escribe en una zona distinta de los arreglos (sin false sharing salvo en los bordes).
+ * Como cada posición se calcula de forma independiente, el resultado es idéntico al secuencial.</p>
+ */
+@Component("parallel")
+public class ParallelFitnessEvaluator implements FitnessEvaluator {
+
+    private final SequentialFitnessEvaluator sequentialEvaluator;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParallelFitnessEvaluator(SequentialFitnessEvaluator sequentialEvaluator,
+                                    @Value("${genetic.evaluation.parallelism:0}") int parallelism,
+                                    @Value("${genetic.evaluation.chunk-size:1024}") int chunkSize) {
+        this.sequentialEvaluator = sequentialEvaluator;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = Math.max(64, chunkSize);
+    }
+
+    @Override
+    public void evaluate(Population population, int from, int to, FitnessFunction function, double xmin, double xmax,
+                         FitnessCache cache) {
+        if (to - from <= chunkSize) {
+            sequentialEvaluator.evaluate(population, from, to, function, xmin, xmax, cache);
+            return;
+        }
+        pool.invoke(new EvaluationTask(population, from, to, function, xmin, xmax, cache));
+    }
+
+    @Override
+    public String getName() {
+        return "Paralelo (fork-join, " + pool.getParallelism() + " hilos)";
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private class EvaluationTask extends RecursiveAction {
+        private final Population population;
+        private final int from, to;
+        private final FitnessFunction function;
+        private final double xmin, xmax;
+        private final FitnessCache cache;
+
+        EvaluationTask(Population population, int from, int to, FitnessFunction function, double xmin, double xmax,
+                       FitnessCache cache) {
+            this.population = population;
+            this.from = from;
+            this.to = to;
+            this.function = function;
+            this.xmin = xmin;
+            this.xmax = xmax;
+            this.cache = cache;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                sequentialEvaluator.evaluate(population, from, to, function, xmin, xmax, cache);
+                return;
+            }
+            // Partir alineado a chunkSize para que los bloques no compartan líneas de caché
+            int chunks = (to - from + chunkSize - 1) / chunkSize;
+            int mid = from + (chunks / 2) * chunkSize;
+            invokeAll(new EvaluationTask(population, from, mid, function, xmin, xmax, cache),
+                    new EvaluationTask(population, mid, to, function, xmin, xmax, cache));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.population.Population;
+import org.springframework.stereotype.Component;
+
+@Component("sequential")
+public class SequentialFitnessEvaluator implements FitnessEvaluator {
+
+    private final RealConverterService realConverterService;
+
+    public SequentialFitnessEvaluator(RealConverterService realConverterService) {
+        this.realConverterService = realConverterService;
+    }
+
+    @Override
+    public void evaluate(Population population, int from, int to, FitnessFunction function, double xmin, double xmax,
+                         FitnessCache cache) {
+        long[] genes = population.genesArray();
+        double[] reals = population.realArray();
+        double[] fitness = population.fitnessArray();
+        realConverterService.toReal(genes, reals, from, to, xmin, xmax, population.getL());
+
+        if (cache != null) {
+            for (int i = from; i < to; i++) {
+                fitness[i] = cache.fitness(genes[i], reals[i], function);
+            }
+            return;
+        }
+
+        // Lote completo: las funciones incluidas lo evalúan con SIMD si está disponible
+        function.evaluate(reals, fitness, from, to);
+    }
+
+    @Override
+    public String getName() {
+        return "Secuencial";
+    }
+}
@@ -5,4 +5,21 @@ public interface FitnessFunction {
     String getName();
     double getOptimalValue(); // Para verificar convergencia
     double getTargetX(); // Valor de x donde está el óptimo (para convergencia)
+
+    /**
+     * Evalúa un lote completo: out[i] = evaluate(in[i]).
+     */
+    default void evaluate(double[] in, double[] out) {
+        evaluate(in, out, 0, in.length);
+    }
+
+    /**
+     * Evalúa las posiciones [from, to) de {@code in} y las escribe en las mismas posiciones de {@code out}.
+     * Las funciones incluidas lo sobrescriben con un kernel SIMD; debe dar los mismos valores que el escalar.
+     */
+    default void evaluate(double[] in, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = evaluate(in[i]);
+        }
+    }
 }
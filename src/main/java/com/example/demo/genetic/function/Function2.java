@@ -1,5 +1,7 @@
 package com.example.demo.genetic.function;
 
+import com.example.demo.genetic.vector.VectorKernels;
+import com.example.demo.genetic.vector.VectorSupport;
 import org.springframework.stereotype.Component;
 
 @Component("function2")
@@ -10,6 +12,15 @@ public class Function2 implements FitnessFunction {
         return x * x + 2 * x + 5;
     }
 
+    @Override
+    public void evaluate(double[] in, double[] out, int from, int to) {
+        if (VectorSupport.isAvailable()) {
+            VectorKernels.function2(in, out, from, to);
+        } else {
+            FitnessFunction.super.evaluate(in, out, from, to);
+        }
+    }
+
     @Override
     public String getName() {
         return "Función 2: f(x) = x² + 2x + 5";
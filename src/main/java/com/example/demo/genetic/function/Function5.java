@@ -1,5 +1,7 @@
 package com.example.demo.genetic.function;
 
+import com.example.demo.genetic.vector.VectorKernels;
+import com.example.demo.genetic.vector.VectorSupport;
 import org.springframework.stereotype.Component;
 
 @Component("function5")
@@ -7,7 +9,18 @@ public class Function5 implements FitnessFunction {
 
     @Override
     public double evaluate(double x) {
-        return Math.pow(x * x - 1, 2);
+        // Igual que Math.pow(y, 2) (HotSpot lo reduce a y * y) y que el kernel SIMD
+        double y = x * x - 1;
+        return y * y;
+    }
+
+    @Override
+    public void evaluate(double[] in, double[] out, int from, int to) {
+        if (VectorSupport.isAvailable()) {
+            VectorKernels.function5(in, out, from, to);
+        } else {
+            FitnessFunction.super.evaluate(in, out, from, to);
+        }
     }
 
     @Override
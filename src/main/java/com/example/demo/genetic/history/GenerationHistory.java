@@ -0,0 +1,95 @@
+package com.example.demo.genetic.history;
+
+import com.example.demo.entities.Individual;
+import com.example.demo.genetic.population.Population;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Historial de una ejecución: estadísticas de cada generación en memoria y los individuos
+ * completos en un {@link HistorySink}.
+ *
+ * <p>Es lo que se guarda en la sesión HTTP en lugar de todas las generaciones.</p>
+ */
+public final class GenerationHistory implements AutoCloseable {
+
+    private final HistorySink sink;
+    private final Consumer<GenerationStats> listener;
+    private final List<GenerationStats> stats = new ArrayList<>();
+
+    public GenerationHistory(HistorySink sink) {
+        this(sink, null);
+    }
+
+    /**
+     * Historial que además entrega el resumen de cada generación a {@code listener} en cuanto
+     * se registra (p. ej. para escribirlo en streaming).
+     */
+    public GenerationHistory(HistorySink sink, Consumer<GenerationStats> listener) {
+        this.sink = sink;
+        this.listener = listener;
+    }
+
+    /**
+     * Añade la siguiente generación (ya evaluada y ordenada) junto con su resumen.
+     */
+    public synchronized void record(Population generation, GenerationStats summary) {
+        sink.write(stats.size(), generation);
+        stats.add(summary);
+        if (listener != null) {
+            listener.accept(summary);
+        }
+    }
+
+    /**
+     * Cierra la escritura al terminar la ejecución (p. ej. escribe el índice del archivo).
+     */
+    public synchronized void finish() {
+        sink.finish();
+    }
+
+    public synchronized int size() {
+        return stats.size();
+    }
+
+    public synchronized GenerationStats getStats(int generation) {
+        return generation >= 0 && generation < stats.size() ? stats.get(generation) : null;
+    }
+
+    public synchronized List<GenerationStats> getStats() {
+        return List.copyOf(stats);
+    }
+
+    public synchronized double[] bestFitnessByGeneration() {
+        double[] best = new double[stats.size()];
+        for (int i = 0; i < best.length; i++) {
+            best[i] = stats.get(i).getBestFitness();
+        }
+        return best;
+    }
+
+    /**
+     * Indica si se conservaron los individuos (false en modo solo-resumen).
+     */
+    public boolean hasIndividuals() {
+        return sink.isReadable();
+    }
+
+    /**
+     * Individuos de una generación en orden de fitness descendente, o null si no están disponibles.
+     */
+    public List<Individual> individuals(int generation) {
+        Population population = sink.read(generation);
+        return population != null ? population.toIndividuals(generation) : null;
+    }
+
+    public String getStorageName() {
+        return sink.getName();
+    }
+
+    @Override
+    public void close() {
+        sink.close();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.genetic.history;
+
+import com.example.demo.conversion.RealConverterService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Crea el historial de cada ejecución según {@code genetic.history.mode} ("file" o "summary")
+ * y lo libera cuando la sesión inicia otra ejecución o expira.
+ *
+ * <p>En modo "file" cada ejecución se guarda en un {@link RunArchive}; con
+ * {@code genetic.history.keep-files=true} el archivo se conserva al liberar el historial.</p>
+ */
+@Service
+public class GenerationHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(GenerationHistoryService.class);
+
+    private final String mode;
+    private final Path directory;
+    private final boolean keepFiles;
+    private final RealConverterService realConverterService;
+    private final ConcurrentHashMap<String, GenerationHistory> bySession = new ConcurrentHashMap<>();
+
+    public GenerationHistoryService(@Value("${genetic.history.mode:file}") String mode,
+                                    @Value("${genetic.history.dir:}") String directory,
+                                    @Value("${genetic.history.keep-files:false}") boolean keepFiles,
+                                    RealConverterService realConverterService) {
+        if (!"file".equals(mode) && !"summary".equals(mode)) {
+            throw new IllegalArgumentException("Modo de historial desconocido: " + mode);
+        }
+        this.mode = mode;
+        this.directory = directory.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "ga-history")
+                : Path.of(directory);
+        this.keepFiles = keepFiles;
+        this.realConverterService = realConverterService;
+        log.info("Historial de generaciones: modo {}{}", mode, "file".equals(mode) ? " en " + this.directory : "");
+    }
+
+    /**
+     * Abre un historial nuevo para la sesión, cerrando el de su ejecución anterior.
+     */
+    public GenerationHistory open(String sessionId, int L, double xmin, double xmax) {
+        HistorySink sink = "file".equals(mode)
+                ? RunArchive.create(directory, L, xmin, xmax, realConverterService, !keepFiles)
+                : new SummaryHistorySink();
+        GenerationHistory history = new GenerationHistory(sink);
+        GenerationHistory previous = bySession.put(sessionId, history);
+        if (previous != null) {
+            previous.close();
+        }
+        return history;
+    }
+
+    /**
+     * Cierra y borra el historial de una sesión.
+     */
+    public void release(String sessionId) {
+        GenerationHistory history = bySession.remove(sessionId);
+        if (history != null) {
+            history.close();
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        bySession.keySet().forEach(this::release);
+    }
+}
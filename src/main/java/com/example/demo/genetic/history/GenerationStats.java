@@ -0,0 +1,40 @@
+package com.example.demo.genetic.history;
+
+/**
+ * Resumen de una generación que se conserva en memoria aunque los individuos se descarten.
+ */
+public final class GenerationStats {
+
+    private final int generation;
+    private final int size;
+    private final long bestGenes;
+    private final double bestReal;
+    private final double bestFitness;
+    private final double meanFitness;
+    private final double minFitness;
+    private final double diversity;
+
+    public GenerationStats(int generation, int size, long bestGenes, double bestReal,
+                           double bestFitness, double meanFitness, double minFitness, double diversity) {
+        this.generation = generation;
+        this.size = size;
+        this.bestGenes = bestGenes;
+        this.bestReal = bestReal;
+        this.bestFitness = bestFitness;
+        this.meanFitness = meanFitness;
+        this.minFitness = minFitness;
+        this.diversity = diversity;
+    }
+
+    /**
+     * Índice de la generación (0 = población inicial).
+     */
+    public int getGeneration() { return generation; }
+    public int getSize() { return size; }
+    public long getBestGenes() { return bestGenes; }
+    public double getBestReal() { return bestReal; }
+    public double getBestFitness() { return bestFitness; }
+    public double getMeanFitness() { return meanFitness; }
+    public double getMinFitness() { return minFitness; }
+    public double getDiversity() { return diversity; }
+}
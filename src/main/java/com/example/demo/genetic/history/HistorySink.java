@@ -0,0 +1,38 @@
+package com.example.demo.genetic.history;
+
+import com.example.demo.genetic.population.Population;
+
+/**
+ * Destino de las generaciones completas de una ejecución.
+ *
+ * <p>El motor escribe cada generación en cuanto está evaluada y ordenada, y después solo
+ * conserva la población actual; los individuos de generaciones anteriores se leen de vuelta
+ * desde aquí cuando la UI los necesita.</p>
+ */
+public interface HistorySink {
+
+    /**
+     * Guarda la generación indicada; los individuos se escriben en orden de fitness descendente.
+     */
+    void write(int generation, Population population);
+
+    /**
+     * Indica que la ejecución terminó y no habrá más generaciones.
+     */
+    default void finish() {
+    }
+
+    /**
+     * Lee una generación previamente escrita, o null si este destino no conserva individuos.
+     */
+    Population read(int generation);
+
+    boolean isReadable();
+
+    String getName();
+
+    /**
+     * Libera los recursos y borra los datos temporales asociados.
+     */
+    void close();
+}
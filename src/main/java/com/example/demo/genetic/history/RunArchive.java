@@ -0,0 +1,301 @@
+package com.example.demo.genetic.history;
+
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.population.Population;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Archivo binario con todas las generaciones de una ejecución.
+ *
+ * <p>Formato (big-endian):</p>
+ * <pre>
+ * cabecera (64 bytes): magic "GAR1", versión, L, ancho de registro, xmin, xmax,
+ *                      número de generaciones, posición del índice
+ * datos:               por generación, un registro fijo por individuo (genes long + fitness double)
+ *                      en el orden de índice de la población
+ * índice:              por generación, posición (long) y tamaño (int)
+ * </pre>
+ *
+ * <p>Se escribe con {@link FileChannel} a medida que avanza la evolución; la cabecera y el
+ * índice se completan en {@link #finish()}. Las lecturas usan una única proyección en memoria
+ * ({@link MappedByteBuffer}) de la zona de datos, que solo se rehace si se pide una generación
+ * escrita después de proyectarla y se libera en {@link #close()}; saltar a cualquier generación
+ * es O(1) y no carga la ejecución completa en el heap. El valor real no se guarda: se recalcula
+ * a partir de los genes con xmin, xmax y L de la cabecera.</p>
+ *
+ * <p>Escribir en orden de índice evita ordenar cada generación solo para archivarla; el ranking
+ * se calcula al leer, que es mucho menos frecuente.</p>
+ */
+public final class RunArchive implements HistorySink {
+
+    private static final int MAGIC = 0x47415231; // "GAR1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int RECORD_BYTES = Long.BYTES + Double.BYTES;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+    // Unsafe.invokeCleaner: libera una proyección sin esperar al recolector (null si no está disponible)
+    private static final MethodHandle INVOKE_CLEANER = findCleaner();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int L;
+    private final double xmin;
+    private final double xmax;
+    private final RealConverterService realConverterService;
+    private final boolean deleteOnClose;
+    private long[] offsets;
+    private int[] sizes;
+    private int count;
+    private long end;
+    private boolean finished;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(0);
+    // Proyección de la zona de datos [HEADER_BYTES, mappedEnd)
+    private MappedByteBuffer mapped;
+    private long mappedEnd = HEADER_BYTES;
+    private boolean closed;
+
+    private RunArchive(Path file, FileChannel channel, int L, double xmin, double xmax,
+                       RealConverterService realConverterService, boolean deleteOnClose) {
+        this.file = file;
+        this.channel = channel;
+        this.L = L;
+        this.xmin = xmin;
+        this.xmax = xmax;
+        this.realConverterService = realConverterService;
+        this.deleteOnClose = deleteOnClose;
+        this.offsets = new long[64];
+        this.sizes = new int[64];
+        this.end = HEADER_BYTES;
+    }
+
+    /**
+     * Crea un archivo nuevo en {@code directory} listo para recibir generaciones.
+     *
+     * @param deleteOnClose si es true el archivo se borra al cerrar el historial
+     */
+    public static RunArchive create(Path directory, int L, double xmin, double xmax,
+                                    RealConverterService realConverterService, boolean deleteOnClose) {
+        Path file = null;
+        try {
+            Files.createDirectories(directory);
+            file = Files.createTempFile(directory, "ga-", ".gar");
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            RunArchive archive = new RunArchive(file, channel, L, xmin, xmax, realConverterService, deleteOnClose);
+            archive.writeHeader(-1L);
+            return archive;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo crear el archivo de ejecución en " + (file != null ? file : directory), e);
+        }
+    }
+
+    @Override
+    public synchronized void write(int generation, Population population) {
+        if (finished) {
+            throw new IllegalStateException("El archivo de ejecución ya está cerrado para escritura: " + file);
+        }
+        if (generation != count) {
+            throw new IllegalStateException("Se esperaba la generación " + count + ", recibida " + generation);
+        }
+        int size = population.size();
+        ByteBuffer out = buffer((long) size * RECORD_BYTES);
+        long[] genes = population.genesArray();
+        double[] fitness = population.fitnessArray();
+        for (int i = 0; i < size; i++) {
+            out.putLong(genes[i]).putDouble(fitness[i]);
+        }
+        out.flip();
+        try {
+            writeFully(out, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo escribir la generación " + generation + " en " + file, e);
+        }
+
+        if (count == offsets.length) {
+            offsets = Arrays.copyOf(offsets, count * 2);
+            sizes = Arrays.copyOf(sizes, count * 2);
+        }
+        offsets[count] = end;
+        sizes[count] = size;
+        count++;
+        end += (long) size * RECORD_BYTES;
+    }
+
+    /**
+     * Escribe el índice de generaciones al final y completa la cabecera.
+     */
+    @Override
+    public synchronized void finish() {
+        if (finished) {
+            return;
+        }
+        try {
+            ByteBuffer index = buffer((long) count * INDEX_ENTRY_BYTES);
+            for (int g = 0; g < count; g++) {
+                index.putLong(offsets[g]).putInt(sizes[g]);
+            }
+            index.flip();
+            writeFully(index, end);
+            writeHeader(end);
+            channel.force(false);
+            finished = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo completar el archivo de ejecución " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized Population read(int generation) {
+        if (closed) {
+            throw new IllegalStateException("El archivo de ejecución está cerrado: " + file);
+        }
+        if (generation < 0 || generation >= count) {
+            return null;
+        }
+        int size = sizes[generation];
+        Population population = new Population(size, L);
+        if (size == 0) {
+            return population;
+        }
+        try {
+            ByteBuffer block = block(offsets[generation], (long) size * RECORD_BYTES);
+            for (int k = 0; k < size; k++) {
+                long genes = block.getLong();
+                double fitness = block.getDouble();
+                population.add(genes, realConverterService.toRealSingle(genes, xmin, xmax, L), fitness);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la generación " + generation + " de " + file, e);
+        }
+        // Radix estable sobre el orden original: el mismo ranking que tenía al escribirse
+        population.rankByFitness();
+        return population;
+    }
+
+    /**
+     * Bloque {@code [position, position + bytes)} del archivo. Proyecta de nuevo la zona de
+     * datos solo si el bloque queda fuera de la proyección actual; si la zona no cabe en una
+     * proyección (más de 2 GB) lee el bloque directamente.
+     */
+    private ByteBuffer block(long position, long bytes) throws IOException {
+        if (position + bytes > mappedEnd) {
+            if (end - HEADER_BYTES > Integer.MAX_VALUE) {
+                ByteBuffer target = buffer(bytes);
+                readFully(channel, target, position);
+                return target.flip();
+            }
+            unmap();
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, end - HEADER_BYTES);
+            mappedEnd = end;
+        }
+        return mapped.slice((int) (position - HEADER_BYTES), (int) bytes);
+    }
+
+    private void unmap() {
+        MappedByteBuffer previous = mapped;
+        mapped = null;
+        mappedEnd = HEADER_BYTES;
+        if (previous != null && INVOKE_CLEANER != null) {
+            try {
+                INVOKE_CLEANER.invokeExact((ByteBuffer) previous);
+            } catch (Throwable e) {
+                // Sin liberación explícita la proyección se libera cuando el recolector la descarta
+            }
+        }
+    }
+
+    public synchronized int getGenerationCount() {
+        return count;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public boolean isReadable() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Archivo " + file.getFileName();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        unmap();
+        try {
+            channel.close();
+            if (deleteOnClose) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cerrar el archivo de ejecución " + file, e);
+        }
+    }
+
+    private void writeHeader(long indexPosition) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(VERSION).putInt(L).putInt(RECORD_BYTES)
+                .putDouble(xmin).putDouble(xmax)
+                .putInt(count).putLong(indexPosition);
+        header.clear();
+        writeFully(header, 0L);
+    }
+
+    private ByteBuffer buffer(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloque demasiado grande para el archivo de ejecución: " + bytes + " bytes");
+        }
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocateDirect((int) bytes);
+        }
+        buffer.clear().limit((int) bytes);
+        return buffer;
+    }
+
+    private void writeFully(ByteBuffer source, long position) throws IOException {
+        while (source.hasRemaining()) {
+            position += channel.write(source, position);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new IOException("Fin de archivo inesperado");
+            }
+            position += read;
+        }
+    }
+
+    private static MethodHandle findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(theUnsafe.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.genetic.history;
+
+import com.example.demo.genetic.population.Population;
+
+/**
+ * Modo solo-resumen: descarta los individuos y deja únicamente las estadísticas por generación.
+ */
+public final class SummaryHistorySink implements HistorySink {
+
+    @Override
+    public void write(int generation, Population population) {
+        // Nada que guardar: las estadísticas las conserva GenerationHistory
+    }
+
+    @Override
+    public Population read(int generation) {
+        return null;
+    }
+
+    @Override
+    public boolean isReadable() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return "Solo resumen";
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.genetic.island;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Totalmente conectada: cada isla envía emigrantes a todas las demás.
+ */
+@Component("full")
+public class FullyConnectedMigration implements MigrationTopology {
+
+    @Override
+    public int[] targets(int island, int islands) {
+        int[] targets = new int[Math.max(0, islands - 1)];
+        for (int i = 0, t = 0; i < islands; i++) {
+            if (i != island) {
+                targets[t++] = i;
+            }
+        }
+        return targets;
+    }
+
+    @Override
+    public String getName() {
+        return "Totalmente conectada";
+    }
+}
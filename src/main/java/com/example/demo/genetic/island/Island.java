@@ -0,0 +1,123 @@
+package com.example.demo.genetic.island;
+
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Subpoblación que evoluciona en su propio hilo con su propio {@link RunContext}.
+ *
+ * <p>Los emigrantes llegan a un buzón sin bloqueos ({@link ConcurrentLinkedQueue}): las demás
+ * islas los depositan mientras esta sigue trabajando y {@link #immigrate()} los integra,
+ * sustituyendo a los peores individuos, cuando todas las islas han terminado la ronda y antes de
+ * empezar la siguiente. Los lotes se integran ordenados por isla de origen para que la misma
+ * semilla reproduzca la ejecución aunque lleguen en otro orden.</p>
+ */
+public final class Island {
+
+    private final int index;
+    private final RunContext context;
+    private final ConcurrentLinkedQueue<Migration> inbox = new ConcurrentLinkedQueue<>();
+    private Population population;
+    private long immigrants;
+
+    public Island(int index, RunContext context, Population population) {
+        this.index = index;
+        this.context = context;
+        this.population = population;
+    }
+
+    public int getIndex() { return index; }
+    public RunContext getContext() { return context; }
+    public Population getPopulation() { return population; }
+    public void setPopulation(Population population) { this.population = population; }
+
+    /**
+     * Total de inmigrantes integrados desde el inicio.
+     */
+    public long getImmigrants() { return immigrants; }
+
+    /**
+     * Copia los {@code count} mejores individuos y los deposita en el buzón de cada destino.
+     */
+    public void emigrate(List<Island> targets, int count) {
+        if (targets.isEmpty() || count <= 0) {
+            return;
+        }
+        // La copia es de solo lectura: todas las islas destino pueden compartirla
+        Population migrants = emigrants(count);
+        for (Island target : targets) {
+            target.receive(index, migrants);
+        }
+    }
+
+    /**
+     * Copia de los {@code count} mejores individuos, de mejor a peor.
+     */
+    public Population emigrants(int count) {
+        int[] best = population.topK(count);
+        Population migrants = new Population(best.length, population.getL());
+        for (int i : best) {
+            migrants.addFrom(population, i);
+        }
+        return migrants;
+    }
+
+    /**
+     * Deposita un lote de emigrantes en el buzón; {@code source} fija el orden de integración.
+     * Puede llamarse desde cualquier hilo.
+     */
+    public void receive(int source, Population migrants) {
+        inbox.offer(new Migration(source, migrants));
+    }
+
+    /**
+     * Integra los emigrantes recibidos reemplazando a los peores individuos. Solo debe llamarse
+     * entre rondas, cuando ninguna isla puede estar depositando lotes en este buzón.
+     *
+     * @return número de individuos reemplazados
+     */
+    public int immigrate() {
+        List<Migration> arrived = new ArrayList<>();
+        for (Migration migration; (migration = inbox.poll()) != null; ) {
+            arrived.add(migration);
+        }
+        if (arrived.isEmpty()) {
+            return 0;
+        }
+        arrived.sort(Comparator.comparingInt(Migration::source));
+
+        int size = population.size();
+        int[] worstFirst = new int[size];
+        for (int k = 0; k < size; k++) {
+            worstFirst[k] = population.rank(size - 1 - k);
+        }
+
+        int replaced = 0;
+        for (Migration migration : arrived) {
+            Population migrants = migration.migrants();
+            for (int m = 0; m < migrants.size() && replaced < size; m++) {
+                population.set(worstFirst[replaced++], migrants.genes(m), migrants.real(m), migrants.fitness(m));
+            }
+        }
+        immigrants += replaced;
+        return replaced;
+    }
+
+    private static final class Migration {
+        private final int source;
+        private final Population migrants;
+
+        Migration(int source, Population migrants) {
+            this.source = source;
+            this.migrants = migrants;
+        }
+
+        int source() { return source; }
+        Population migrants() { return migrants; }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.demo.genetic.island;
+
+/**
+ * Progreso de una isla para la página de espera.
+ */
+public class IslandProgress {
+    private final int island;
+    private final int generation;
+    private final int size;
+    private final double bestFitness;
+    private final double meanFitness;
+    private final long immigrants;
+
+    public IslandProgress(int island, int generation, int size, double bestFitness, double meanFitness,
+                          long immigrants) {
+        this.island = island;
+        this.generation = generation;
+        this.size = size;
+        this.bestFitness = bestFitness;
+        this.meanFitness = meanFitness;
+        this.immigrants = immigrants;
+    }
+
+    public int getIsland() { return island; }
+    public int getGeneration() { return generation; }
+    public int getSize() { return size; }
+    public double getBestFitness() { return bestFitness; }
+    public double getMeanFitness() { return meanFitness; }
+    public long getImmigrants() { return immigrants; }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.genetic.island;
+
+/**
+ * Topología de migración entre islas: a qué islas envía emigrantes cada una.
+ */
+public interface MigrationTopology {
+    /**
+     * @param island isla de origen
+     * @param islands número total de islas
+     * @return islas destino (sin incluir el origen)
+     */
+    int[] targets(int island, int islands);
+
+    /**
+     * Nombre descriptivo para mostrar en UI o logs.
+     */
+    String getName();
+}
@@ -0,0 +1,21 @@
+package com.example.demo.genetic.island;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Anillo: cada isla envía emigrantes solo a la siguiente. Los buenos genotipos se difunden
+ * despacio y las islas conservan más diversidad.
+ */
+@Component("ring")
+public class RingMigration implements MigrationTopology {
+
+    @Override
+    public int[] targets(int island, int islands) {
+        return islands > 1 ? new int[]{(island + 1) % islands} : new int[0];
+    }
+
+    @Override
+    public String getName() {
+        return "Anillo";
+    }
+}
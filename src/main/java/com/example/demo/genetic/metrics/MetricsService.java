@@ -1,7 +1,8 @@
 package com.example.demo.genetic.metrics;
 
-import com.example.demo.entities.Individual;
 import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.population.Population;
 import org.slf4j.*;
 import org.springframework.stereotype.Service;
 import java.util.List;
@@ -14,22 +15,17 @@ public class MetricsService {
     /**
      * Calcula en qué generación se alcanza el 90% del valor óptimo.
      *
-     * @param generations lista de generaciones
+     * @param generations estadísticas de cada generación
      * @param optimalValue valor óptimo de la función
      * @return número de generación (1-indexed) o -1 si no se alcanza
      */
-    public int findGeneration90Percent(List<List<Individual>> generations, double optimalValue) {
+    public int findGeneration90Percent(List<GenerationStats> generations, double optimalValue) {
         double threshold90 = optimalValue * 0.9;
 
         for (int gen = 0; gen < generations.size(); gen++) {
-            List<Individual> generation = generations.get(gen);
-            if (!generation.isEmpty()) {
-                // Se usa getFirst() que requiere Java 21+ o se asume que generation[0] es el mejor,
-                // lo cual es cierto por el ordenamiento en GeneticAlgorithmService.
-                double bestFitness = generation.getFirst().getAdaptative();
-                if (bestFitness >= threshold90) {
-                    return gen + 1; // 1-indexed
-                }
+            GenerationStats generation = generations.get(gen);
+            if (generation.getSize() > 0 && generation.getBestFitness() >= threshold90) {
+                return gen + 1; // 1-indexed
             }
         }
         return -1;
@@ -38,10 +34,10 @@ public class MetricsService {
     /**
      * Calcula la diversidad genética promedio de todas las generaciones.
      *
-     * @param generations lista de generaciones
+     * @param generations estadísticas de cada generación
      * @return diversidad genética promedio (0.0 a 0.5)
      */
-    public double calculateAverageDiversity(List<List<Individual>> generations) {
+    public double calculateAverageDiversity(List<GenerationStats> generations) {
         if (generations == null || generations.isEmpty()) {
             return 0.0;
         }
@@ -49,10 +45,9 @@ public class MetricsService {
         double totalDiversity = 0.0;
         int validGenerations = 0;
 
-        for (List<Individual> generation : generations) {
-            if (generation != null && !generation.isEmpty()) {
-                double diversity = calculateGeneticDiversity(generation);
-                totalDiversity += diversity;
+        for (GenerationStats generation : generations) {
+            if (generation != null && generation.getSize() > 0) {
+                totalDiversity += generation.getDiversity();
                 validGenerations++;
             }
         }
@@ -60,19 +55,40 @@ public class MetricsService {
         return validGenerations > 0 ? totalDiversity / validGenerations : 0.0;
     }
 
+    /**
+     * Resume una generación ya evaluada: mejor individuo, fitness medio y mínimo, y diversidad.
+     *
+     * @param generation población en formato columnar
+     * @param index índice de la generación (0 = población inicial)
+     * @return estadísticas que se conservan en memoria durante toda la ejecución
+     */
+    public GenerationStats summarize(Population generation, int index) {
+        int size = generation.size();
+        if (size == 0) {
+            return new GenerationStats(index, 0, 0L, Double.NaN, Double.NaN, Double.NaN, Double.NaN, 0.0);
+        }
+
+        // Mejor, media y mínimo los mantiene la población; no hace falta ordenarla
+        int best = generation.best();
+        return new GenerationStats(index, size, generation.genes(best), generation.real(best),
+                generation.fitness(best), generation.meanFitness(), generation.minFitness(),
+                calculateGeneticDiversity(generation));
+    }
+
     /**
      * Calcula la diversidad genética de una generación específica.
      *
-     * @param generation lista de individuos
+     * @param generation población en formato columnar
      * @return diversidad genética (0.0 a 0.5)
      */
-    public double calculateGeneticDiversity(List<Individual> generation) {
-        if (generation == null || generation.isEmpty() || generation.getFirst().getBinary() == null) {
+    public double calculateGeneticDiversity(Population generation) {
+        if (generation == null || generation.size() == 0) {
             return 0.0;
         }
 
-        int L = generation.getFirst().getBinary().length();
+        int L = generation.getL();
         int populationSize = generation.size();
+        long[] genes = generation.genesArray();
 
         if (populationSize <= 1) {
             return 0.0;
@@ -80,15 +96,13 @@ public class MetricsService {
 
         double totalDiversity = 0.0;
 
-        // Para cada posición de bit
+        // Para cada posición de bit (la diversidad es simétrica, el orden de los bits no importa)
         for (int bitPos = 0; bitPos < L; bitPos++) {
             int onesCount = 0;
 
             // Contar cuántos individuos tienen '1' en esta posición
-            for (Individual individual : generation) {
-                if (individual.getBinary().charAt(bitPos) == '1') {
-                    onesCount++;
-                }
+            for (int i = 0; i < populationSize; i++) {
+                onesCount += (int) ((genes[i] >>> bitPos) & 1L);
             }
 
             double p = (double) onesCount / populationSize; // Proporción de 1s
@@ -105,12 +119,10 @@ public class MetricsService {
      * @param finalGeneration última generación
      * @param function función objetivo
      */
-    public void logConvergenceResults(List<Individual> finalGeneration, FitnessFunction function) {
+    public void logConvergenceResults(Population finalGeneration, FitnessFunction function) {
         double targetX = function.getTargetX();
 
-        long countConverged = finalGeneration.stream()
-                .filter(ind -> Math.abs(Math.abs(ind.getReal()) - targetX) < 0.1)
-                .count();
+        long countConverged = countConverged(finalGeneration, targetX);
 
         double percentage = (double) countConverged / finalGeneration.size() * 100;
 
@@ -127,6 +139,24 @@ public class MetricsService {
         }
     }
 
+    /**
+     * Cuenta los individuos cuyo valor real está a menos de 0.1 de ±targetX.
+     *
+     * @param generation población en formato columnar
+     * @param targetX valor de x donde está el óptimo
+     * @return número de individuos convergidos
+     */
+    public long countConverged(Population generation, double targetX) {
+        double[] real = generation.realArray();
+        long count = 0;
+        for (int i = 0; i < generation.size(); i++) {
+            if (Math.abs(Math.abs(real[i]) - targetX) < 0.1) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Muestra las métricas de comparación en los logs.
      *
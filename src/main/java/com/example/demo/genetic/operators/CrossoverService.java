@@ -1,6 +1,9 @@
 package com.example.demo.genetic.operators;
 
-import com.example.demo.conversion.*;
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.population.Population;
 import org.slf4j.*;
 import org.springframework.stereotype.Service;
 import java.util.HashMap;
@@ -11,37 +14,51 @@ public class CrossoverService {
 
     private static final Logger log = LoggerFactory.getLogger(CrossoverService.class);
 
-    private final BinaryConverterService binaryConverterService;
     private final RealConverterService realConverterService;
-    private final AdaptiveFunctionService adaptiveFunctionService;
     private final Map<String, CrossoverStrategy> strategies = new HashMap<>();
 
     public CrossoverService(SinglePointCrossoverStrategy singleStrategy,
                             DoublePointCrossoverStrategy doubleStrategy,
                             UniformCrossoverStrategy uniformStrategy, // Añadir esta línea
-                            BinaryConverterService binaryConverterService,
-                            RealConverterService realConverterService,
-                            AdaptiveFunctionService adaptiveFunctionService) {
-        this.binaryConverterService = binaryConverterService;
+                            RealConverterService realConverterService) {
         this.realConverterService = realConverterService;
-        this.adaptiveFunctionService = adaptiveFunctionService;
         strategies.put("single", singleStrategy);
         strategies.put("double", doubleStrategy);
         strategies.put("uniform", uniformStrategy); // Añadir esta línea
     }
 
-    public CrossoverResult crossoverWithLogging(String parent1, String parent2, String crossoverType,
-                                                int pairIndex, int L, double xmin, double xmax, String functionType) {
+    /**
+     * Cruza dos genotipos empaquetados y añade los dos hijos (sin evaluar) a {@code offspring}.
+     *
+     * <p>No crea objetos ni formatea nada salvo que {@link RunContext#getTrace()} muestree
+     * esta pareja; solo entonces se calculan los fitness para el log.</p>
+     */
+    public void crossoverInto(long parent1, long parent2, int pairIndex, RunContext context, Population offspring) {
+        String crossoverType = context.getCrossoverType();
         CrossoverStrategy strategy = strategies.getOrDefault(crossoverType, strategies.get("single"));
+        int L = context.getL();
 
-        CrossoverResult result = strategy.crossover(parent1, parent2);
-        String[] children = result.getChildren();
+        long mask = strategy.crossoverMask(L, context);
+        long swapped = (parent1 ^ parent2) & mask;
+        long child1 = parent1 ^ swapped;
+        long child2 = parent2 ^ swapped;
 
+        offspring.add(child1, Double.NaN, Double.NaN);
+        offspring.add(child2, Double.NaN, Double.NaN);
+
+        if (context.getTrace().samplePair(pairIndex) && log.isInfoEnabled()) {
+            logCrossover(Chromosome.of(parent1, L), Chromosome.of(parent2, L),
+                    Chromosome.of(child1, L), Chromosome.of(child2, L), mask, pairIndex, context);
+        }
+    }
+
+    private void logCrossover(Chromosome parent1, Chromosome parent2, Chromosome child1, Chromosome child2,
+                              long mask, int pairIndex, RunContext context) {
         // Calcular fitness
-        double fitP1 = calculateFitness(parent1, xmin, xmax, L, functionType);
-        double fitP2 = calculateFitness(parent2, xmin, xmax, L, functionType);
-        double fitH1 = calculateFitness(children[0], xmin, xmax, L, functionType);
-        double fitH2 = calculateFitness(children[1], xmin, xmax, L, functionType);
+        double fitP1 = calculateFitness(parent1, context);
+        double fitP2 = calculateFitness(parent2, context);
+        double fitH1 = calculateFitness(child1, context);
+        double fitH2 = calculateFitness(child2, context);
 
         // Formatear valores de fitness para el log
         String fmtFitP1 = String.format("%.3f", fitP1);
@@ -50,16 +67,16 @@ public class CrossoverService {
         String fmtFitH2 = String.format("%.3f", fitH2);
 
         // Logs específicos por tipo de cruce
-        if ("uniform".equals(crossoverType)) {
+        if ("uniform".equals(context.getCrossoverType())) {
             log.info("""
                 🧬 Pareja {}: Cruce uniforme
                   Padre 1: {} → f(x) = {}
                   Padre 2: {} → f(x) = {}
                   Hijo 1:  {} → f(x) = {}
                   Hijo 2:  {} → f(x) = {}""",
-                    pairIndex, parent1, fmtFitP1, parent2, fmtFitP2, children[0], fmtFitH1, children[1], fmtFitH2);
+                    pairIndex, parent1, fmtFitP1, parent2, fmtFitP2, child1, fmtFitH1, child2, fmtFitH2);
         } else {
-            String pointStr = result.getCutPointsString();
+            String pointStr = cutPoints(mask, context.getL());
             log.info("""
                 🧬 Pareja {}: Cruce de un punto
                   Padre 1: {} → f(x) = {}
@@ -68,20 +85,29 @@ public class CrossoverService {
                   Hijo 1:  {} → f(x) = {}
                   Hijo 2:  {} → f(x) = {}""",
                     pairIndex, parent1, fmtFitP1, parent2, fmtFitP2,
-                    pointStr, children[0], fmtFitH1, children[1], fmtFitH2);
+                    pointStr, child1, fmtFitH1, child2, fmtFitH2);
         }
+    }
 
-        return result;
+    /**
+     * Reconstruye los puntos de corte a partir de una máscara contigua [from, to).
+     */
+    private static String cutPoints(long mask, int L) {
+        if (mask == 0) {
+            return "N/A";
+        }
+        int from = Long.numberOfLeadingZeros(mask) - (Long.SIZE - L);
+        int to = L - Long.numberOfTrailingZeros(mask);
+        return to == L ? String.valueOf(from) : from + "-" + to;
     }
 
-    private double calculateFitness(String binary, double xmin, double xmax, int L, String functionType) {
+    private double calculateFitness(Chromosome binary, RunContext context) {
         try {
-            int decimal = binaryConverterService.convertBinaryToInt(binary);
-            double real = realConverterService.toRealSingle(decimal, xmin, xmax, L);
-            return adaptiveFunctionService.toAdaptiveSingle(real, functionType);
+            double real = realConverterService.toReal(binary, context.getXmin(), context.getXmax(), context.getL());
+            return context.getFunction().evaluate(real);
         } catch (Exception e) {
             log.error("Error calculando fitness para binario {}: {}", binary, e.getMessage());
             return Double.NEGATIVE_INFINITY;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,12 @@
 package com.example.demo.genetic.operators;
 
+import com.example.demo.genetic.algorithm.RunContext;
+
 public interface CrossoverStrategy {
-    CrossoverResult crossover(String parent1, String parent2);
-}
\ No newline at end of file
+
+    /**
+     * Máscara del cruce para genotipos empaquetados (L ≤ 64): los bits a 1 se intercambian entre
+     * los padres.
+     */
+    long crossoverMask(int L, RunContext context);
+}
@@ -0,0 +1,85 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.genetic.population.Population;
+
+import java.util.Arrays;
+
+/**
+ * Ruleta de una generación: fitness acumulado en orden de índice, calculado una sola vez.
+ *
+ * <p>No necesita el ranking: construirla es un recorrido lineal y no obliga a ordenar la
+ * población en cada generación.</p>
+ *
+ * <p>Con fitness no negativos el acumulado es creciente y cada tirada es una búsqueda binaria
+ * (O(log n)). Devuelve el mismo individuo que recorrer la población sumando hasta superar el
+ * valor: el primero cuyo acumulado es mayor o igual. Si algún fitness es negativo el acumulado
+ * deja de ser monótono y se recorre linealmente para conservar ese criterio.</p>
+ */
+final class FitnessWheel {
+
+    private final double[] cumulative;
+    private final double total;
+    private final boolean monotonic;
+
+    private FitnessWheel(double[] cumulative, double total, boolean monotonic) {
+        this.cumulative = cumulative;
+        this.total = total;
+        this.monotonic = monotonic;
+    }
+
+    static FitnessWheel of(Population population) {
+        int size = population.size();
+        double[] fitness = population.fitnessArray();
+
+        double[] cumulative = new double[size];
+        double running = 0.0;
+        boolean monotonic = true;
+        for (int i = 0; i < size; i++) {
+            double f = fitness[i];
+            monotonic &= f >= 0;
+            running += f;
+            cumulative[i] = running;
+        }
+        return new FitnessWheel(cumulative, running, monotonic);
+    }
+
+    double total() {
+        return total;
+    }
+
+    int size() {
+        return cumulative.length;
+    }
+
+    /**
+     * Índice del individuo donde cae {@code point} (entre 0 y el total), o -1 si queda fuera
+     * del acumulado por redondeo.
+     */
+    int spin(double point) {
+        int k;
+        if (monotonic) {
+            k = Arrays.binarySearch(cumulative, point);
+            if (k >= 0) {
+                // Con acumulados repetidos (fitness 0) la búsqueda puede caer en cualquiera: retroceder al primero
+                while (k > 0 && cumulative[k - 1] == point) {
+                    k--;
+                }
+            } else {
+                k = -k - 1;
+            }
+        } else {
+            k = 0;
+            while (k < cumulative.length && point > cumulative[k]) {
+                k++;
+            }
+        }
+        return k < cumulative.length ? k : -1;
+    }
+
+    /**
+     * Último individuo de la ruleta (el de mayor índice).
+     */
+    int last() {
+        return cumulative.length - 1;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reemplazo generacional: los hijos sustituyen a toda la población salvo los
+ * {@code eliteCount} mejores padres, que pasan intactos (sin volver a evaluarse).
+ */
+@Component("generational")
+public class GenerationalReplacement implements ReplacementStrategy {
+
+    @Override
+    public int offspringCount(int populationSize, RunContext context) {
+        // Las élites ocupan su lugar sin cruzarse: solo hacen falta hijos para el resto
+        return Math.max(0, populationSize - context.getEliteCount());
+    }
+
+    @Override
+    public Population replace(Population parents, Population offspring, RunContext context) {
+        int size = parents.size();
+        int elites = Math.min(context.getEliteCount(), size);
+
+        if (elites == 0 && offspring.size() >= size) {
+            offspring.truncate(size);
+            return offspring;
+        }
+
+        // Élites primero; si faltan hijos se completa con los siguientes mejores padres
+        Population next = new Population(size, parents.getL());
+        for (int elite : parents.topK(elites)) {
+            next.addFrom(parents, elite);
+        }
+        for (int i = 0; i < offspring.size() && next.size() < size; i++) {
+            next.addFrom(offspring, i);
+        }
+        for (int k = elites; next.size() < size; k++) {
+            next.addFrom(parents, parents.rank(k % size));
+        }
+        return next;
+    }
+
+    @Override
+    public String getName() {
+        return "Generacional con élites";
+    }
+}
@@ -1,42 +1,39 @@
 package com.example.demo.genetic.operators;
 
+import com.example.demo.genetic.algorithm.RunContext;
 import org.springframework.stereotype.Component;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 @Component("inversive")
 public class InversiveMutation implements MutationStrategy {
 
-    private final Random random = new Random();
-
     @Override
-    public String mutate(String binary, double mutationRate, int L) {
-        if (random.nextDouble() >= mutationRate) {
-            return binary; // No muta
-        }
-
-        if (binary.length() < 2) {
-            return binary;
+    public long mutate(long genes, int L, RunContext context) {
+        RandomGenerator random = context.getRandom().mutation();
+        if (random.nextDouble() >= context.getMutationRate() || L < 2) {
+            return genes;
         }
 
-        // Elegir dos puntos de corte aleatorios
-        int start = random.nextInt(binary.length());
-        int end = random.nextInt(binary.length());
-
+        int start = random.nextInt(L);
+        int end = random.nextInt(L);
         if (start > end) {
             int temp = start;
             start = end;
             end = temp;
         }
-
         if (start == end) {
-            end = Math.min(end + 1, binary.length() - 1);
+            end = Math.min(end + 1, L - 1);
+        }
+        if (start >= end) {
+            return genes;
         }
 
-        // Invertir segmento
-        String segment = binary.substring(start, end + 1);
-        String reversed = new StringBuilder(segment).reverse().toString();
-
-        return binary.substring(0, start) + reversed + binary.substring(end + 1);
+        // Invertir el segmento [start, end] dentro del long (posición 0 = bit más significativo)
+        int width = end - start + 1;
+        int low = L - 1 - end;
+        long mask = (width == Long.SIZE ? -1L : (1L << width) - 1) << low;
+        long reversed = Long.reverse((genes & mask) >>> low) >>> (Long.SIZE - width);
+        return (genes & ~mask) | (reversed << low);
     }
 
     @Override
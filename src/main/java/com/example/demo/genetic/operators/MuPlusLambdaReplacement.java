@@ -0,0 +1,31 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reemplazo (μ+λ): padres e hijos compiten juntos y sobreviven los μ mejores.
+ *
+ * <p>Los padres ya están ordenados y solo se ordenan los hijos; la fusión deja la siguiente
+ * generación ordenada, así que no se vuelve a ordenar al empezar la generación.</p>
+ */
+@Component("mu-plus-lambda")
+public class MuPlusLambdaReplacement implements ReplacementStrategy {
+
+    @Override
+    public int offspringCount(int populationSize, RunContext context) {
+        return populationSize;
+    }
+
+    @Override
+    public Population replace(Population parents, Population offspring, RunContext context) {
+        offspring.rankByFitness();
+        return ReplacementStrategy.mergeBest(parents, parents.size(), offspring, offspring.size(), parents.size());
+    }
+
+    @Override
+    public String getName() {
+        return "(μ+λ)";
+    }
+}
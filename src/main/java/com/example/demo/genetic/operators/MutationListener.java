@@ -0,0 +1,14 @@
+package com.example.demo.genetic.operators;
+
+/**
+ * Recibe cada individuo modificado durante la mutación de una generación.
+ */
+@FunctionalInterface
+public interface MutationListener {
+    /**
+     * @param index posición del individuo en la población
+     * @param original genes antes de mutar
+     * @param mutated genes después de mutar (distintos de {@code original})
+     */
+    void mutated(int index, long original, long mutated);
+}
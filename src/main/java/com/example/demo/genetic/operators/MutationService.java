@@ -1,87 +1,63 @@
 package com.example.demo.genetic.operators;
 
-import com.example.demo.entities.Individual;
-import com.example.demo.conversion.*;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.algorithm.TraceSampler;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.population.Population;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 @Service
 public class MutationService {
 
     private static final Logger log = LoggerFactory.getLogger(MutationService.class);
-    private final Random random = new Random();
 
-    private final BinaryConverterService binaryConverterService;
-    private final RealConverterService realConverterService;
-    private final AdaptiveFunctionService adaptiveFunctionService;
     private final Map<String, MutationStrategy> mutationStrategies;
 
-    private double xmin, xmax;
-
-    public MutationService(
-            BinaryConverterService binaryConverterService,
-            RealConverterService realConverterService,
-            AdaptiveFunctionService adaptiveFunctionService,
-            Map<String, MutationStrategy> mutationStrategies) {
-        this.binaryConverterService = binaryConverterService;
-        this.realConverterService = realConverterService;
-        this.adaptiveFunctionService = adaptiveFunctionService;
+    public MutationService(Map<String, MutationStrategy> mutationStrategies) {
         this.mutationStrategies = mutationStrategies;
     }
 
-    public void setBounds(double xmin, double xmax) {
-        this.xmin = xmin;
-        this.xmax = xmax;
-    }
-
     /**
      * Aplica mutación a toda la generación usando la estrategia seleccionada.
+     * Solo modifica los genes: la evaluación posterior se hace en bloque para toda la generación.
+     * Trabaja directamente sobre los genes empaquetados; solo los individuos muestreados por
+     * {@link TraceSampler} se convierten a cromosoma para el log.
      */
-    public void applyToGenerationWithLogging(
-            List<Individual> generation,
-            double mutationRate,
-            int L,
+    public void applyToGeneration(
+            Population generation,
             int gen,
-            String mutationType,
-            String functionType) {
+            RunContext context) {
+        String mutationType = context.getMutationType();
+        double mutationRate = context.getMutationRate();
 
         MutationStrategy strategy = mutationStrategies.get(mutationType);
         if (strategy == null) {
             throw new IllegalArgumentException("Tipo de mutación desconocido: " + mutationType);
         }
 
-        log.info("→ Iniciando mutación ({}) en generación {} (tasa: {}%)",
+        TraceSampler trace = context.getTrace();
+        Logger runLog = trace.logger(log);
+        runLog.info("→ Iniciando mutación ({}) en generación {} (tasa: {}%)",
                 strategy.getName(), gen, mutationRate * 100);
 
-        int mutatedIndividuals = 0;
-
-        for (int i = 0; i < generation.size(); i++) {
-            Individual original = generation.get(i);
-            String originalBinary = original.getBinary();
+        int L = generation.getL();
+        boolean debug = log.isDebugEnabled();
+        int[] mutatedIndividuals = {0};
 
-            String mutatedBinary = strategy.mutate(originalBinary, mutationRate, L);
-
-            if (!originalBinary.equals(mutatedBinary)) {
-                int decimal = binaryConverterService.convertBinaryToInt(mutatedBinary);
-                double real = realConverterService.toRealSingle(decimal, xmin, xmax, L);
-                double adaptative = adaptiveFunctionService.toAdaptiveSingle(real, functionType);
-
-                Individual mutated = new Individual(mutatedBinary, real, adaptative, original.getGeneration());
-                generation.set(i, mutated);
-                mutatedIndividuals++;
-
-                log.debug("  ✅ Individuo {} mutado: {} → {} (f(x) = {})",
-                        i + 1, originalBinary, mutatedBinary, String.format("%.3f", adaptative));
+        strategy.mutateGeneration(generation, context, (i, original, mutated) -> {
+            mutatedIndividuals[0]++;
+            if (debug && trace.sampleIndividual(i)) {
+                log.debug("  ✅ Individuo {} mutado: {} → {}", i + 1,
+                        Chromosome.of(original, L), Chromosome.of(mutated, L));
             }
-        }
+        });
 
-        log.info("→ 🧬 Mutación ({}) finalizada en generación {}: {} individuos mutados ({}%)",
+        runLog.info("→ 🧬 Mutación ({}) finalizada en generación {}: {} individuos mutados ({}%)",
                 strategy.getName(), gen,
-                mutatedIndividuals,
-                String.format("%.2f", (double) mutatedIndividuals / generation.size() * 100));
+                mutatedIndividuals[0],
+                String.format("%.2f", (double) mutatedIndividuals[0] / generation.size() * 100));
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,36 @@
 package com.example.demo.genetic.operators;
 
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+
 public interface MutationStrategy {
     /**
-     * Aplica mutación a un cromosoma binario.
+     * Aplica mutación a un genotipo empaquetado de L ≤ 64 bits, sin crear objetos.
+     *
+     * @param genes genotipo del individuo
+     * @param context ejecución actual (tasa de mutación y generador aleatorio)
+     * @return genes mutados (el mismo valor si no hubo cambios)
+     */
+    long mutate(long genes, int L, RunContext context);
+
+    /**
+     * Muta la generación completa. Por defecto aplica {@link #mutate(long, int, RunContext)} a cada
+     * individuo; las estrategias pueden sobrescribirlo para recorrer solo los bits que cambian.
      *
-     * @param binary cadena binaria del individuo
-     * @param mutationRate tasa de mutación (0.0 a 1.0)
-     * @param L longitud del cromosoma
-     * @return cadena binaria mutada
+     * @param listener se invoca para cada individuo que cambia
      */
-    String mutate(String binary, double mutationRate, int L);
+    default void mutateGeneration(Population generation, RunContext context, MutationListener listener) {
+        int L = generation.getL();
+        long[] genes = generation.genesArray();
+        for (int i = 0; i < generation.size(); i++) {
+            long original = genes[i];
+            long mutated = mutate(original, L, context);
+            if (mutated != original) {
+                generation.setGenes(i, mutated);
+                listener.mutated(i, original, mutated);
+            }
+        }
+    }
 
     /**
      * Nombre descriptivo para mostrar en UI o logs.
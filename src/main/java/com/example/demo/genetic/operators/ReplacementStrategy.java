@@ -0,0 +1,50 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+
+/**
+ * Estrategia para formar la siguiente generación a partir de los padres y los hijos evaluados.
+ *
+ * <p>Los supervivientes se copian con su real y fitness: solo se evalúan los hijos nuevos.</p>
+ */
+public interface ReplacementStrategy {
+    /**
+     * Número de hijos que hay que generar en cada generación.
+     */
+    int offspringCount(int populationSize, RunContext context);
+
+    /**
+     * Construye la siguiente generación, del mismo tamaño que {@code parents}.
+     *
+     * @param parents generación actual, evaluada y ordenada por fitness
+     * @param offspring hijos ya mutados y evaluados
+     * @param context configuración de la ejecución
+     * @return siguiente generación (puede ser {@code offspring} si se reutiliza tal cual)
+     */
+    Population replace(Population parents, Population offspring, RunContext context);
+
+    /**
+     * Nombre descriptivo para mostrar en UI o logs.
+     */
+    String getName();
+
+    /**
+     * Fusiona los {@code takeA} mejores de {@code a} con los {@code takeB} mejores de {@code b}
+     * (ambas ordenadas) y devuelve los {@code count} mejores en orden, ya marcados como ordenados.
+     * En empate se prefiere {@code a}.
+     */
+    static Population mergeBest(Population a, int takeA, Population b, int takeB, int count) {
+        Population merged = new Population(count, a.getL());
+        int i = 0, j = 0;
+        while (merged.size() < count && (i < takeA || j < takeB)) {
+            if (j >= takeB || (i < takeA && a.fitness(a.rank(i)) >= b.fitness(b.rank(j)))) {
+                merged.addFrom(a, a.rank(i++));
+            } else {
+                merged.addFrom(b, b.rank(j++));
+            }
+        }
+        merged.markRankedInOrder();
+        return merged;
+    }
+}
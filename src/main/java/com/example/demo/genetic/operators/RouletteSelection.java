@@ -1,72 +1,76 @@
 package com.example.demo.genetic.operators;
 
-import com.example.demo.entities.Individual;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component("roulette")
 public class RouletteSelection implements SelectionStrategy {
 
     private static final Logger log = LoggerFactory.getLogger(RouletteSelection.class);
-    private final Random random = new Random();
 
     @Override
-    public List<Individual[]> selectPairs(List<Individual> population, int numPairs) {
+    public Population selectPairs(Population population, int numPairs, RunContext context) {
+        RandomGenerator random = context.getRandom().selection();
         log.debug("Seleccionando {} parejas por ruleta...", numPairs);
-        List<Individual[]> pairs = new ArrayList<>();
+        Population matingPool = new Population(numPairs * 2, population.getL());
+        // Acumulados una vez por generación; cada tirada es una búsqueda binaria
+        FitnessWheel wheel = FitnessWheel.of(population);
 
         for (int i = 0; i < numPairs; i++) {
-            Individual parent1 = select(population);
-            Individual parent2 = select(population);
+            int parent1 = select(population, wheel, random);
+            int parent2 = select(population, wheel, random);
 
             // Evitar que sea el mismo (opcional)
             while (parent1 == parent2 && population.size() > 1) {
-                parent2 = select(population);
+                parent2 = select(population, wheel, random);
             }
 
-            log.trace("Pareja {}: Padre1={} (f={}), Padre2={} (f={})",
-                    i + 1,
-                    parent1.getBinary(), parent1.getAdaptative(),
-                    parent2.getBinary(), parent2.getAdaptative());
+            if (log.isTraceEnabled()) {
+                log.trace("Pareja {}: Padre1={} (f={}), Padre2={} (f={})",
+                        i + 1,
+                        population.chromosome(parent1), population.fitness(parent1),
+                        population.chromosome(parent2), population.fitness(parent2));
+            }
 
-            pairs.add(new Individual[]{parent1, parent2});
+            matingPool.addFrom(population, parent1);
+            matingPool.addFrom(population, parent2);
         }
 
-        return pairs;
+        return matingPool;
     }
 
     /**
-     * Selecciona un individuo usando ruleta de probabilidad proporcional al adaptativo.
+     * Selecciona el índice de un individuo usando ruleta de probabilidad proporcional al adaptativo.
      */
-    private Individual select(List<Individual> population) {
-        double totalFitness = population.stream()
-                .mapToDouble(Individual::getAdaptative)
-                .sum();
+    private int select(Population population, FitnessWheel wheel, RandomGenerator random) {
+        double totalFitness = wheel.total();
 
         if (totalFitness <= 0) {
             // Si todos son negativos o cero, seleccionar al azar
-            Individual randomPick = population.get(random.nextInt(population.size()));
-            log.trace("⚠️ Fitness total <= 0. Selección aleatoria: {}", randomPick.getBinary());
+            int randomPick = random.nextInt(population.size());
+            if (log.isTraceEnabled()) {
+                log.trace("⚠️ Fitness total <= 0. Selección aleatoria: {}", population.chromosome(randomPick));
+            }
             return randomPick;
         }
 
         double rand = random.nextDouble() * totalFitness;
-        double cumulative = 0.0;
-
-        for (Individual individual : population) {
-            cumulative += individual.getAdaptative();
-            if (rand <= cumulative) {
-                log.trace("🎯 Seleccionado por ruleta: {} (f(x)={})", individual.getBinary(), individual.getAdaptative());
-                return individual;
+        int individual = wheel.spin(rand);
+        if (individual >= 0) {
+            if (log.isTraceEnabled()) {
+                log.trace("🎯 Seleccionado por ruleta: {} (f(x)={})", population.chromosome(individual), population.fitness(individual));
             }
+            return individual;
         }
 
         // Por seguridad, devuelve el último
-        Individual last = population.getLast();
-        log.warn("⚠️ Selección por defecto (último): {}", last.getBinary());
+        int last = wheel.last();
+        log.warn("⚠️ Selección por defecto (último): {}", population.chromosome(last));
         return last;
     }
 
@@ -74,4 +78,4 @@ public class RouletteSelection implements SelectionStrategy {
     public String getName() {
         return "Selección por Ruleta";
     }
-}
\ No newline at end of file
+}
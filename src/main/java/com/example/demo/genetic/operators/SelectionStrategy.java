@@ -1,7 +1,7 @@
 package com.example.demo.genetic.operators;
 
-import com.example.demo.entities.Individual;
-import java.util.List;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
 
 /**
  * Estrategia para seleccionar padres en el algoritmo genético.
@@ -12,9 +12,10 @@ public interface SelectionStrategy {
      *
      * @param population población actual
      * @param numPairs número de parejas a seleccionar
-     * @return lista de pares de individuos (padres)
+     * @param context configuración y generadores aleatorios de la ejecución
+     * @return población de apareamiento donde las posiciones 2k y 2k+1 forman la pareja k
      */
-    List<Individual[]> selectPairs(List<Individual> population, int numPairs);
+    Population selectPairs(Population population, int numPairs, RunContext context);
 
     /**
      * Nombre descriptivo para mostrar en UI o logs.
@@ -1,28 +1,89 @@
 package com.example.demo.genetic.operators;
 
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 @Component("simple")
 public class SimpleMutation implements MutationStrategy {
 
-    private final Random random = new Random();
+    private final boolean skipAhead;
+
+    public SimpleMutation(@Value("${genetic.mutation.skip-ahead:true}") boolean skipAhead) {
+        this.skipAhead = skipAhead;
+    }
 
     @Override
-    public String mutate(String binary, double mutationRate, int L) {
-        StringBuilder sb = new StringBuilder(binary);
-        boolean mutated = false;
+    public long mutate(long genes, int L, RunContext context) {
+        RandomGenerator random = context.getRandom().mutation();
+        double mutationRate = context.getMutationRate();
 
-        for (int i = 0; i < sb.length(); i++) {
+        for (int i = 0; i < L; i++) {
             if (random.nextDouble() < mutationRate) {
-                char bit = sb.charAt(i);
-                char newBit = (bit == '0') ? '1' : '0';
-                sb.setCharAt(i, newBit);
-                mutated = true;
+                genes ^= 1L << (L - 1 - i);
             }
         }
 
-        return sb.toString();
+        return genes;
+    }
+
+    /**
+     * Mutación de la generación completa con salto geométrico.
+     *
+     * <p>Los genes de la población se tratan como una sola secuencia de tamaño × L bits. En vez de
+     * sortear cada bit, se sortea cuántos bits quedan intactos hasta el siguiente que cambia:
+     * con tasa p esa distancia sigue una distribución geométrica, ⌊ln U / ln(1 - p)⌋. La
+     * distribución de los bits mutados es la misma que sorteando bit a bit, pero el coste es
+     * proporcional al número de cambios y los individuos intactos ni se visitan.</p>
+     *
+     * <p>Con {@code genetic.mutation.skip-ahead=false} se sortea bit a bit como antes (otra secuencia
+     * aleatoria para la misma semilla).</p>
+     */
+    @Override
+    public void mutateGeneration(Population generation, RunContext context, MutationListener listener) {
+        double mutationRate = context.getMutationRate();
+        if (!skipAhead || mutationRate >= 1.0) {
+            MutationStrategy.super.mutateGeneration(generation, context, listener);
+            return;
+        }
+        if (mutationRate <= 0.0) {
+            return;
+        }
+
+        RandomGenerator random = context.getRandom().mutation();
+        int L = generation.getL();
+        long[] genes = generation.genesArray();
+        long totalBits = (long) generation.size() * L;
+        double logKeep = Math.log1p(-mutationRate);
+
+        long position = nextGap(random, logKeep);
+        while (position < totalBits) {
+            int individual = (int) (position / L);
+            long original = genes[individual];
+            long mutated = original;
+            long end = (long) (individual + 1) * L;
+
+            // Todos los cambios que caen en el mismo individuo se aplican juntos
+            do {
+                int bit = (int) (position - (end - L));
+                mutated ^= 1L << (L - 1 - bit);
+                position += 1 + nextGap(random, logKeep);
+            } while (position < end);
+
+            generation.setGenes(individual, mutated);
+            listener.mutated(individual, original, mutated);
+        }
+    }
+
+    /**
+     * Bits intactos antes del siguiente cambio: geométrica con parámetro p, a partir de U en (0, 1].
+     */
+    private static long nextGap(RandomGenerator random, double logKeep) {
+        double u = 1.0 - random.nextDouble();
+        double gap = Math.floor(Math.log(u) / logKeep);
+        return gap < Long.MAX_VALUE / 2 ? (long) gap : Long.MAX_VALUE / 2;
     }
 
     @Override
@@ -1,34 +1,15 @@
 package com.example.demo.genetic.operators;
 
+import com.example.demo.genetic.algorithm.RunContext;
 import org.springframework.stereotype.Component;
-import java.util.Random;
 
 @Component("single")
 public class SinglePointCrossoverStrategy implements CrossoverStrategy {
 
-    private final Random random = new Random();
-    private ThreadLocal<Integer> forcedPoint = new ThreadLocal<>();
-
-    public void setForcedPoint(int point) {
-        forcedPoint.set(point);
-    }
-
-    public void clearForcedPoint() {
-        forcedPoint.remove();
-    }
-
     @Override
-    public CrossoverResult crossover(String parent1, String parent2) {
-        if (parent1.length() != parent2.length()) {
-            throw new IllegalArgumentException("Longitudes diferentes: " + parent1 + ", " + parent2);
-        }
-        int L = parent1.length();
-
-        int point = forcedPoint.get() != null ? forcedPoint.get() : 1 + random.nextInt(L - 1);
-
-        String child1 = parent1.substring(0, point) + parent2.substring(point);
-        String child2 = parent2.substring(0, point) + parent1.substring(point);
-
-        return new CrossoverResult(new String[]{child1, child2}, point);
+    public long crossoverMask(int L, RunContext context) {
+        int point = 1 + context.getRandom().crossover().nextInt(L - 1);
+        // Posiciones [point, L) = los L - point bits menos significativos
+        return (1L << (L - point)) - 1;
     }
 }
\ No newline at end of file
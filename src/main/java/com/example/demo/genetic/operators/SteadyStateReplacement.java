@@ -0,0 +1,35 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reemplazo estacionario: en cada generación solo se generan
+ * {@code steadyStateRate} × tamaño hijos, que sustituyen a los peores padres.
+ *
+ * <p>El resto de la población se conserva con su fitness, de modo que cada generación cuesta
+ * solo las evaluaciones de los hijos nuevos.</p>
+ */
+@Component("steady-state")
+public class SteadyStateReplacement implements ReplacementStrategy {
+
+    @Override
+    public int offspringCount(int populationSize, RunContext context) {
+        int count = (int) Math.round(populationSize * context.getSteadyStateRate());
+        return Math.max(2, Math.min(count, populationSize));
+    }
+
+    @Override
+    public Population replace(Population parents, Population offspring, RunContext context) {
+        int size = parents.size();
+        int replaced = Math.min(offspring.size(), size);
+        offspring.rankByFitness();
+        return ReplacementStrategy.mergeBest(parents, size - replaced, offspring, replaced, size);
+    }
+
+    @Override
+    public String getName() {
+        return "Estacionario (reemplazo de los peores)";
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Muestreo universal estocástico (SUS): una sola tirada y 2·numPairs punteros equiespaciados
+ * sobre la ruleta.
+ *
+ * <p>Cada individuo recibe exactamente ⌊e⌋ o ⌈e⌉ copias, siendo e su número esperado de copias
+ * proporcional al fitness; la ruleta clásica puede alejarse mucho de ese valor por azar.
+ * Los seleccionados se barajan antes de emparejarlos para no cruzar siempre vecinos de la ruleta.</p>
+ */
+@Component("sus")
+public class StochasticUniversalSampling implements SelectionStrategy {
+
+    private static final Logger log = LoggerFactory.getLogger(StochasticUniversalSampling.class);
+
+    // Intentos para deshacer parejas formadas por el mismo individuo
+    private static final int MAX_REPAIR_ATTEMPTS = 8;
+
+    @Override
+    public Population selectPairs(Population population, int numPairs, RunContext context) {
+        RandomGenerator random = context.getRandom().selection();
+        log.debug("Seleccionando {} parejas por muestreo universal estocástico...", numPairs);
+        int count = numPairs * 2;
+        int[] selected = new int[count];
+
+        FitnessWheel wheel = FitnessWheel.of(population);
+        if (wheel.total() <= 0) {
+            // Si todos son negativos o cero, seleccionar al azar
+            for (int i = 0; i < count; i++) {
+                selected[i] = random.nextInt(population.size());
+            }
+        } else {
+            double step = wheel.total() / count;
+            double start = random.nextDouble() * step;
+            for (int i = 0; i < count; i++) {
+                int individual = wheel.spin(start + i * step);
+                selected[i] = individual >= 0 ? individual : wheel.last();
+            }
+        }
+
+        shuffle(selected, random);
+        if (population.size() > 1) {
+            separateIdenticalPairs(selected, random);
+        }
+
+        Population matingPool = new Population(count, population.getL());
+        for (int individual : selected) {
+            matingPool.addFrom(population, individual);
+        }
+        return matingPool;
+    }
+
+    private static void shuffle(int[] selected, RandomGenerator random) {
+        for (int i = selected.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = selected[i];
+            selected[i] = selected[j];
+            selected[j] = tmp;
+        }
+    }
+
+    /**
+     * Intercambia el segundo padre de las parejas repetidas con otra posición al azar; si la
+     * población está dominada por un solo individuo puede quedar alguna pareja repetida.
+     */
+    private static void separateIdenticalPairs(int[] selected, RandomGenerator random) {
+        for (int i = 0; i + 1 < selected.length; i += 2) {
+            for (int attempt = 0; selected[i] == selected[i + 1] && attempt < MAX_REPAIR_ATTEMPTS; attempt++) {
+                int j = random.nextInt(selected.length);
+                int partner = j ^ 1;
+                if (selected[j] != selected[i] && selected[partner] != selected[i + 1]) {
+                    int tmp = selected[i + 1];
+                    selected[i + 1] = selected[j];
+                    selected[j] = tmp;
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Muestreo Universal Estocástico";
+    }
+}
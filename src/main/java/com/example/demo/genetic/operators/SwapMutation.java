@@ -1,55 +1,30 @@
 package com.example.demo.genetic.operators;
 
-import org.slf4j.*;
+import com.example.demo.genetic.algorithm.RunContext;
 import org.springframework.stereotype.Component;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 @Component("swap")
 public class SwapMutation implements MutationStrategy {
 
-    private static final Logger log = LoggerFactory.getLogger(SwapMutation.class);
-
-
-    private final Random random = new Random();
-
     @Override
-    public String mutate(String binary, double mutationRate, int L) {
-        // Verificar si se aplica mutación a este individuo
-        if (random.nextDouble() >= mutationRate) {
-            return binary;
+    public long mutate(long genes, int L, RunContext context) {
+        RandomGenerator random = context.getRandom().mutation();
+        if (random.nextDouble() >= context.getMutationRate() || L < 2) {
+            return genes;
         }
 
-        // Verificar que el cromosoma tenga al menos 2 bits
-        if (binary.length() < 2) {
-            return binary;
-        }
-
-        // Seleccionar dos posiciones aleatorias diferentes
-        int pos1 = random.nextInt(binary.length());
-        int pos2 = random.nextInt(binary.length());
-
-        // Asegurar que sean posiciones diferentes
+        int pos1 = random.nextInt(L);
+        int pos2 = random.nextInt(L);
         while (pos1 == pos2) {
-            pos2 = random.nextInt(binary.length());
-        }
-
-        // Convertir a array de caracteres para manipulación
-        char[] chars = binary.toCharArray();
-
-        // Intercambiar los bits en las posiciones seleccionadas
-        char temp = chars[pos1];
-        chars[pos1] = chars[pos2];
-        chars[pos2] = temp;
-
-        String mutated = new String(chars);
-
-        // Log de depuración (opcional)
-        if (!binary.equals(mutated)) {
-            log.trace("  🔄 Mutación por intercambio: {} → {} (posiciones {} y {})",
-                    binary, mutated, pos1, pos2);
+            pos2 = random.nextInt(L);
         }
 
-        return mutated;
+        // Si los bits difieren, intercambiarlos equivale a invertir ambos
+        long bit1 = 1L << (L - 1 - pos1);
+        long bit2 = 1L << (L - 1 - pos2);
+        boolean differ = ((genes & bit1) == 0) != ((genes & bit2) == 0);
+        return differ ? genes ^ (bit1 | bit2) : genes;
     }
 
     @Override
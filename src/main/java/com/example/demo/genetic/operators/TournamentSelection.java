@@ -1,109 +1,172 @@
 package com.example.demo.genetic.operators;
 
-import com.example.demo.conversion.*;
-import com.example.demo.entities.Individual;
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.evaluation.FitnessCache;
+import com.example.demo.genetic.evaluation.LookupTable;
+import com.example.demo.genetic.population.Population;
 import org.springframework.stereotype.Component;
-import java.util.*;
+import java.util.random.RandomGenerator;
 
 @Component("tournament")
 public class TournamentSelection implements SelectionStrategy {
 
-    private final Random random = new Random();
-
-    // Servicios necesarios para cálculos reales
-    private final BinaryConverterService binaryConverterService;
+    // Servicio necesario para cálculos reales (límites, L y función vienen del RunContext)
     private final RealConverterService realConverterService;
-    private final AdaptiveFunctionService adaptiveFunctionService;
-
-    // Parámetros configurables
-    private Double xmin, xmax;
-    private Integer L;
-    private String functionType;
-
-    public TournamentSelection(
-            BinaryConverterService binaryConverterService,
-            RealConverterService realConverterService,
-            AdaptiveFunctionService adaptiveFunctionService) {
-        this.binaryConverterService = binaryConverterService;
-        this.realConverterService = realConverterService;
-        this.adaptiveFunctionService = adaptiveFunctionService;
-    }
 
-    /**
-     * Configura los parámetros necesarios para generar individuos aleatorios reales.
-     */
-    public void configure(double xmin, double xmax, int L, String functionType) {
-        this.xmin = xmin;
-        this.xmax = xmax;
-        this.L = L;
-        this.functionType = functionType;
+    public TournamentSelection(RealConverterService realConverterService) {
+        this.realConverterService = realConverterService;
     }
 
     @Override
-    public List<Individual[]> selectPairs(List<Individual> population, int numPairs) {
-        List<Individual[]> pairs = new ArrayList<>();
-        int tournamentSize = Math.min(3, population.size());
+    public Population selectPairs(Population population, int numPairs, RunContext context) {
+        RandomGenerator random = context.getRandom().selection();
+        Population matingPool = new Population(numPairs * 2, population.getL());
+        Tournament tournament = new Tournament(Math.min(context.getTournamentSize(), population.size()),
+                context.isTournamentWithoutReplacement(), context.getTournamentPressure());
         boolean isOddPopulation = population.size() % 2 == 1;
+        Population randomPool = isOddPopulation ? new Population(1, population.getL()) : null;
 
         for (int i = 0; i < numPairs; i++) {
-            List<Individual> selectionPool = new ArrayList<>(population);
+            int selectionPoolSize = population.size();
 
             if (isOddPopulation) {
-                // Generar individuo aleatorio REAL con cálculos correctos
-                Individual randomIndividual = generateRealRandomIndividual(population.getFirst().getGeneration());
-                selectionPool.add(randomIndividual);
+                // Generar individuo aleatorio REAL con cálculos correctos (ocupa el índice population.size())
+                randomPool.truncate(0);
+                addRealRandomIndividual(randomPool, context);
+                selectionPoolSize++;
             }
 
-            Individual parent1 = selectTournament(selectionPool, tournamentSize);
-            Individual parent2 = selectTournament(selectionPool, tournamentSize);
-            pairs.add(new Individual[]{parent1, parent2});
+            tournament.select(population, randomPool, selectionPoolSize, matingPool, random);
+            tournament.select(population, randomPool, selectionPoolSize, matingPool, random);
         }
 
-        return pairs;
+        return matingPool;
     }
 
     /**
      * Genera un individuo aleatorio REAL con binario, valor real y adaptativo calculados correctamente.
      */
-    private Individual generateRealRandomIndividual(int generation) {
-        // Validar que los parámetros estén configurados
-        if (xmin == null || xmax == null || L == null || functionType == null) {
-            throw new IllegalStateException(
-                    "TournamentSelection no está configurado. Llama a configure() antes de usar.");
-        }
+    private void addRealRandomIndividual(Population target, RunContext context) {
+        int L = context.getL();
 
-        // 1. Generar binario aleatorio de L bits
-        StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < L; i++) {
-            sb.append(random.nextBoolean() ? '1' : '0');
-        }
-        String randomBinary = sb.toString();
+        // 1. Generar cromosoma aleatorio de L bits
+        Chromosome randomBinary = Chromosome.random(L, context.getRandom().selection());
 
-        // 2. Convertir binario a decimal
-        int decimal = binaryConverterService.convertBinaryToInt(randomBinary);
+        // 2. Convertir cromosoma a valor real
+        double real = realConverterService.toReal(randomBinary, context.getXmin(), context.getXmax(), L);
 
-        // 3. Convertir decimal a valor real
-        double real = realConverterService.toRealSingle(decimal, xmin, xmax, L);
+        // 3. Calcular adaptativo: tabla precalculada, caché de la ejecución o función directamente
+        LookupTable table = context.getLookupTable();
+        FitnessCache cache = context.getFitnessCache();
+        double adaptative = table != null
+                ? table.fitness(randomBinary.toLong())
+                : cache != null
+                ? cache.fitness(randomBinary.toLong(), real, context.getFunction())
+                : context.getFunction().evaluate(real);
 
-        // 4. Calcular adaptativo usando la función correcta
-        double adaptative = adaptiveFunctionService.toAdaptiveSingle(real, functionType);
+        target.add(randomBinary.toLong(), real, adaptative);
+    }
 
-        return new Individual(randomBinary, real, adaptative, generation);
+    @Override
+    public String getName() {
+        return "Selección por Torneo";
     }
 
-    private Individual selectTournament(List<Individual> selectionPool, int tournamentSize) {
-        List<Individual> tournament = new ArrayList<>();
-        for (int i = 0; i < tournamentSize; i++) {
-            tournament.add(selectionPool.get(random.nextInt(selectionPool.size())));
+    /**
+     * Torneo de k participantes sobre los índices de la población, sin copiar individuos: O(k) por
+     * selección (O(k²) en el peor caso sin reemplazo o con presión menor que 1, con k pequeño).
+     * Los búferes se reutilizan en todos los torneos de una generación.
+     */
+    private static final class Tournament {
+        private final int size;
+        private final boolean withoutReplacement;
+        private final double pressure;
+        private final int[] contestants;
+        private final double[] scores;
+
+        Tournament(int size, boolean withoutReplacement, double pressure) {
+            this.size = size;
+            this.withoutReplacement = withoutReplacement;
+            this.pressure = pressure;
+            this.contestants = new int[size];
+            this.scores = new double[size];
         }
 
-        return tournament.stream()
-                .max(Comparator.comparingDouble(Individual::getAdaptative))
-                .orElse(selectionPool.getFirst());
-    }
+        /**
+         * Ejecuta un torneo sobre la población (más el individuo aleatorio si existe) y añade
+         * el ganador a la población de apareamiento.
+         */
+        void select(Population population, Population randomPool, int selectionPoolSize,
+                    Population matingPool, RandomGenerator random) {
+            for (int i = 0; i < size; i++) {
+                int candidate = random.nextInt(selectionPoolSize);
+                while (withoutReplacement && isContestant(candidate, i)) {
+                    candidate = random.nextInt(selectionPoolSize);
+                }
+                contestants[i] = candidate;
+                scores[i] = candidate < population.size()
+                        ? population.fitness(candidate)
+                        : randomPool.fitness(0);
+            }
 
-    @Override
-    public String getName() {
-        return "Selección por Torneo";
+            int winner = pressure >= 1.0 ? best() : probabilisticWinner(random);
+            if (winner < population.size()) {
+                matingPool.addFrom(population, winner);
+            } else {
+                matingPool.addFrom(randomPool, 0);
+            }
+        }
+
+        private boolean isContestant(int candidate, int drawn) {
+            for (int j = 0; j < drawn; j++) {
+                if (contestants[j] == candidate) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Torneo determinista: gana el de mayor fitness (en empate, el primero sorteado).
+         */
+        private int best() {
+            int winner = contestants[0];
+            double winnerFitness = scores[0];
+            for (int i = 1; i < size; i++) {
+                if (scores[i] > winnerFitness) {
+                    winner = contestants[i];
+                    winnerFitness = scores[i];
+                }
+            }
+            return winner;
+        }
+
+        /**
+         * Torneo probabilístico: ordenados de mejor a peor, el i-ésimo gana con probabilidad
+         * p·(1-p)^i y el último se queda con la probabilidad restante.
+         */
+        private int probabilisticWinner(RandomGenerator random) {
+            // Ordenación por inserción estable (k es pequeño): en empate conserva el orden del sorteo
+            for (int i = 1; i < size; i++) {
+                int contestant = contestants[i];
+                double score = scores[i];
+                int j = i - 1;
+                while (j >= 0 && scores[j] < score) {
+                    contestants[j + 1] = contestants[j];
+                    scores[j + 1] = scores[j];
+                    j--;
+                }
+                contestants[j + 1] = contestant;
+                scores[j + 1] = score;
+            }
+            for (int i = 0; i < size - 1; i++) {
+                if (random.nextDouble() < pressure) {
+                    return contestants[i];
+                }
+            }
+            return contestants[size - 1];
+        }
     }
-}
\ No newline at end of file
+}
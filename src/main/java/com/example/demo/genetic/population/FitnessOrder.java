@@ -0,0 +1,100 @@
+package com.example.demo.genetic.population;
+
+/**
+ * Ordenación de índices por fitness descendente sin objetos ni comparadores.
+ *
+ * <p>Cada fitness se transforma en una clave {@code long} cuyo orden sin signo es el inverso de
+ * {@link Double#compare} (NaN primero, -0.0 detrás de 0.0) y se ordena por radix LSD de 8 bits.
+ * Es estable, así que los empates quedan por índice, igual que la ordenación por comparador
+ * que sustituye. Las pasadas en las que todas las claves comparten el byte se omiten: en una
+ * población los fitness suelen compartir signo y exponente.</p>
+ */
+final class FitnessOrder {
+
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int PASSES = Long.SIZE / RADIX_BITS;
+    // Por debajo de este tamaño la inserción es más barata que los histogramas
+    private static final int INSERTION_THRESHOLD = 48;
+
+    private FitnessOrder() {
+    }
+
+    /**
+     * Clave sin signo: a mayor fitness, menor clave.
+     */
+    static long descendingKey(double fitness) {
+        long bits = Double.doubleToLongBits(fitness);
+        long ascending = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        return ~ascending;
+    }
+
+    /**
+     * Escribe en {@code rank[0..size)} los índices ordenados por fitness descendente.
+     */
+    static void sortDescending(double[] fitness, int size, int[] rank) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = descendingKey(fitness[i]);
+            rank[i] = i;
+        }
+        if (size < INSERTION_THRESHOLD) {
+            insertionSort(keys, rank, size);
+            return;
+        }
+
+        int[][] counts = new int[PASSES][BUCKETS];
+        for (int i = 0; i < size; i++) {
+            long key = keys[i];
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & (BUCKETS - 1)]++;
+            }
+        }
+
+        long[] keyBuffer = new long[size];
+        int[] indexBuffer = new int[size];
+        long[] srcKeys = keys, dstKeys = keyBuffer;
+        int[] srcIdx = rank, dstIdx = indexBuffer;
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] count = counts[pass];
+            int shift = pass * RADIX_BITS;
+            if (count[(int) (srcKeys[0] >>> shift) & (BUCKETS - 1)] == size) {
+                continue;
+            }
+            int offset = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                int c = count[b];
+                count[b] = offset;
+                offset += c;
+            }
+            for (int i = 0; i < size; i++) {
+                long key = srcKeys[i];
+                int pos = count[(int) (key >>> shift) & (BUCKETS - 1)]++;
+                dstKeys[pos] = key;
+                dstIdx[pos] = srcIdx[i];
+            }
+            long[] tk = srcKeys; srcKeys = dstKeys; dstKeys = tk;
+            int[] ti = srcIdx; srcIdx = dstIdx; dstIdx = ti;
+        }
+
+        if (srcIdx != rank) {
+            System.arraycopy(srcIdx, 0, rank, 0, size);
+        }
+    }
+
+    private static void insertionSort(long[] keys, int[] rank, int size) {
+        for (int i = 1; i < size; i++) {
+            long key = keys[i];
+            int index = rank[i];
+            int j = i - 1;
+            while (j >= 0 && Long.compareUnsigned(keys[j], key) > 0) {
+                keys[j + 1] = keys[j];
+                rank[j + 1] = rank[j];
+                j--;
+            }
+            keys[j + 1] = key;
+            rank[j + 1] = index;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.demo.genetic.population;
+
+import com.example.demo.entities.Individual;
+import com.example.demo.genetic.chromosome.Chromosome;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Población almacenada por columnas (structure-of-arrays).
+ *
+ * <p>Cada individuo i ocupa la posición i de los arreglos primitivos {@code genes},
+ * {@code real} y {@code fitness}, por lo que una generación completa no crea objetos por
+ * individuo. {@code rank[k]} contiene el índice del k-ésimo mejor individuo una vez que se
+ * llama a {@link #rankByFitness()}. Los {@link Individual} solo se crean en la frontera con
+ * la UI mediante {@link #toIndividuals(int)}.</p>
+ *
+ * <p>El ranking completo solo se calcula cuando alguien lo pide. Mejor, media y mínimo se
+ * mantienen aparte: se actualizan al añadir individuos y, si los arreglos se modificaron
+ * directamente, se recalculan en un solo recorrido.</p>
+ */
+public final class Population {
+
+    private final int L;
+    private final long[] genes;
+    private final double[] real;
+    private final double[] fitness;
+    private final int[] rank;
+    private int size;
+    private boolean ranked;
+
+    // Estadísticas de fitness de los primeros size individuos (válidas si statsValid)
+    private boolean statsValid = true;
+    private int bestIndex = -1;
+    private double fitnessSum;
+    private double fitnessMin = Double.POSITIVE_INFINITY;
+
+    public Population(int capacity, int L) {
+        if (L <= 0 || L > Long.SIZE) {
+            throw new IllegalArgumentException("La población empaquetada soporta 1 ≤ L ≤ 64, recibido: " + L);
+        }
+        this.L = L;
+        this.genes = new long[capacity];
+        this.real = new double[capacity];
+        this.fitness = new double[capacity];
+        this.rank = new int[capacity];
+    }
+
+    /**
+     * Crea una población sin evaluar a partir de cromosomas (real y fitness quedan en 0).
+     */
+    public static Population of(List<Chromosome> chromosomes, int L) {
+        Population population = new Population(chromosomes.size(), L);
+        for (Chromosome chromosome : chromosomes) {
+            population.add(chromosome.toLong(), 0.0, 0.0);
+        }
+        return population;
+    }
+
+    public int size() { return size; }
+    public int capacity() { return genes.length; }
+    public int getL() { return L; }
+
+    public long genes(int i) { return genes[i]; }
+    public double real(int i) { return real[i]; }
+    public double fitness(int i) { return fitness[i]; }
+
+    /**
+     * Arreglos de respaldo para bucles críticos; solo las primeras {@link #size()} posiciones son válidas.
+     */
+    public long[] genesArray() { return genes; }
+    public double[] realArray() { return real; }
+    public double[] fitnessArray() { return fitness; }
+
+    public Chromosome chromosome(int i) {
+        return Chromosome.of(genes[i], L);
+    }
+
+    public int add(long genes, double real, double fitness) {
+        if (size == this.genes.length) {
+            throw new IllegalStateException("Población llena (capacidad " + this.genes.length + ")");
+        }
+        this.genes[size] = genes;
+        this.real[size] = real;
+        this.fitness[size] = fitness;
+        ranked = false;
+        if (statsValid) {
+            accumulate(size);
+        }
+        return size++;
+    }
+
+    public void set(int i, long genes, double real, double fitness) {
+        this.genes[i] = genes;
+        this.real[i] = real;
+        this.fitness[i] = fitness;
+        ranked = false;
+        statsValid = false;
+    }
+
+    /**
+     * Reemplaza solo los genes del individuo {@code i}; real y fitness quedan pendientes de evaluar.
+     */
+    public void setGenes(int i, long genes) {
+        this.genes[i] = genes;
+        ranked = false;
+    }
+
+    /**
+     * Copia el individuo {@code i} de otra población al final de esta.
+     */
+    public int addFrom(Population other, int i) {
+        return add(other.genes[i], other.real[i], other.fitness[i]);
+    }
+
+    /**
+     * Descarta los individuos a partir de {@code newSize}.
+     */
+    public void truncate(int newSize) {
+        if (newSize < size) {
+            size = newSize;
+            ranked = false;
+            statsValid = false;
+        }
+    }
+
+    /**
+     * Marca los valores de real/fitness como modificados externamente (p. ej. tras evaluar en bloque).
+     */
+    public void invalidateRanking() {
+        ranked = false;
+        statsValid = false;
+    }
+
+    /**
+     * Ordena los índices por fitness descendente en {@code rank} (radix sobre claves primitivas,
+     * estable: en empate va primero el índice menor).
+     */
+    public void rankByFitness() {
+        FitnessOrder.sortDescending(fitness, size, rank);
+        ranked = true;
+    }
+
+    /**
+     * Índices de los {@code k} mejores individuos, de mejor a peor, sin ordenar la población
+     * completa si aún no lo está (selección parcial O(n·k), pensada para k pequeño).
+     */
+    public int[] topK(int k) {
+        k = Math.min(k, size);
+        if (k <= 0) {
+            return new int[0];
+        }
+        if (ranked || k > 32) {
+            return Arrays.copyOf(rankArray(), k);
+        }
+        int[] top = new int[k];
+        long[] keys = new long[k];
+        int filled = 0;
+        for (int i = 0; i < size; i++) {
+            long key = FitnessOrder.descendingKey(fitness[i]);
+            if (filled == k && Long.compareUnsigned(key, keys[k - 1]) >= 0) {
+                continue;
+            }
+            // Inserción detrás de los iguales: en empate conserva el índice menor
+            int j = filled < k ? filled++ : k - 1;
+            while (j > 0 && Long.compareUnsigned(keys[j - 1], key) > 0) {
+                keys[j] = keys[j - 1];
+                top[j] = top[j - 1];
+                j--;
+            }
+            keys[j] = key;
+            top[j] = i;
+        }
+        return top;
+    }
+
+    private int[] rankArray() {
+        if (!ranked) {
+            rankByFitness();
+        }
+        return rank;
+    }
+
+    /**
+     * Declara que los individuos se añadieron en orden de fitness descendente: el ranking es la
+     * identidad y no hace falta volver a ordenar.
+     */
+    public void markRankedInOrder() {
+        for (int k = 0; k < size; k++) {
+            rank[k] = k;
+        }
+        ranked = true;
+    }
+
+    /**
+     * Índice del k-ésimo mejor individuo (0 = mejor).
+     */
+    public int rank(int k) {
+        if (!ranked) {
+            rankByFitness();
+        }
+        return rank[k];
+    }
+
+    /**
+     * Índice del mejor individuo (el mismo que {@code rank(0)}), sin ordenar la población.
+     */
+    public int best() {
+        if (ranked) {
+            return rank[0];
+        }
+        ensureStats();
+        if (bestIndex < 0) {
+            throw new IllegalStateException("La población está vacía");
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Fitness medio (suma en orden de índice).
+     */
+    public double meanFitness() {
+        ensureStats();
+        return size > 0 ? fitnessSum / size : Double.NaN;
+    }
+
+    public double minFitness() {
+        ensureStats();
+        return size > 0 ? fitnessMin : Double.NaN;
+    }
+
+    private void ensureStats() {
+        if (statsValid) {
+            return;
+        }
+        bestIndex = -1;
+        fitnessSum = 0.0;
+        fitnessMin = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            accumulate(i);
+        }
+        statsValid = true;
+    }
+
+    private void accumulate(int i) {
+        double f = fitness[i];
+        fitnessSum += f;
+        fitnessMin = Math.min(fitnessMin, f);
+        // Mismo criterio que el ranking: Double.compare y, en empate, el primero
+        if (bestIndex < 0 || Double.compare(f, fitness[bestIndex]) > 0) {
+            bestIndex = i;
+        }
+    }
+
+    /**
+     * Materializa la generación como entidades, en orden de fitness descendente.
+     */
+    public List<Individual> toIndividuals(int generation) {
+        List<Individual> individuals = new ArrayList<>(size);
+        for (int k = 0; k < size; k++) {
+            int i = rank(k);
+            individuals.add(new Individual(chromosome(i), real[i], fitness[i], generation));
+        }
+        return individuals;
+    }
+}
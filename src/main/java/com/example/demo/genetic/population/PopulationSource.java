@@ -1,8 +1,10 @@
 package com.example.demo.genetic.population;
 
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.chromosome.Chromosome;
 import java.util.List;
 
 public interface PopulationSource {
-    List<String> generatePopulation(int L);
+    List<Chromosome> generatePopulation(RunContext context);
     String getName();
 }
@@ -1,29 +1,21 @@
 package com.example.demo.genetic.population;
 
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.chromosome.Chromosome;
 import org.springframework.stereotype.Component;
+import java.util.random.RandomGenerator;
 import java.util.*;
 
 @Component("random")
 public class RandomPopulationSource implements PopulationSource {
 
-    private int populationSize;
-    private final Random random = new Random();
-
-    public RandomPopulationSource() {}
-
-    public void setPopulationSize(int populationSize) {
-        this.populationSize = populationSize;
-    }
-
     @Override
-    public List<String> generatePopulation(int L) {
-        List<String> population = new ArrayList<>();
+    public List<Chromosome> generatePopulation(RunContext context) {
+        int populationSize = context.getPopulationSize();
+        RandomGenerator random = context.getRandom().population();
+        List<Chromosome> population = new ArrayList<>(populationSize);
         for (int i = 0; i < populationSize; i++) {
-            StringBuilder sb = new StringBuilder();
-            for (int j = 0; j < L; j++) {
-                sb.append(random.nextBoolean() ? '1' : '0');
-            }
-            population.add(sb.toString());
+            population.add(Chromosome.random(context.getL(), random));
         }
         return population;
     }
@@ -0,0 +1,82 @@
+package com.example.demo.genetic.sweep;
+
+/**
+ * Estimación puntual con su intervalo de confianza del 95%.
+ */
+public final class ConfidenceInterval {
+
+    // Cuantil 0.975 de la t de Student para 1..30 grados de libertad
+    private static final double[] T_975 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042};
+    private static final double Z_975 = 1.959964;
+
+    private final double estimate;
+    private final double lower;
+    private final double upper;
+    private final int samples;
+
+    private ConfidenceInterval(double estimate, double lower, double upper, int samples) {
+        this.estimate = estimate;
+        this.lower = lower;
+        this.upper = upper;
+        this.samples = samples;
+    }
+
+    /**
+     * Media de las primeras {@code count} muestras con intervalo t de Student (NaN sin muestras;
+     * con una sola muestra el intervalo es el propio valor).
+     */
+    public static ConfidenceInterval ofMean(double[] values, int count) {
+        if (count == 0) {
+            return new ConfidenceInterval(Double.NaN, Double.NaN, Double.NaN, 0);
+        }
+        double mean = 0.0;
+        for (int i = 0; i < count; i++) {
+            mean += values[i];
+        }
+        mean /= count;
+        if (count == 1) {
+            return new ConfidenceInterval(mean, mean, mean, 1);
+        }
+        double squares = 0.0;
+        for (int i = 0; i < count; i++) {
+            double d = values[i] - mean;
+            squares += d * d;
+        }
+        double halfWidth = tQuantile(count - 1) * Math.sqrt(squares / (count - 1) / count);
+        return new ConfidenceInterval(mean, mean - halfWidth, mean + halfWidth, count);
+    }
+
+    /**
+     * Proporción {@code successes / trials} con intervalo de Wilson (correcto también con 0% o 100%).
+     */
+    public static ConfidenceInterval ofProportion(int successes, int trials) {
+        if (trials == 0) {
+            return new ConfidenceInterval(Double.NaN, Double.NaN, Double.NaN, 0);
+        }
+        double p = (double) successes / trials;
+        double z2 = Z_975 * Z_975;
+        double denominator = 1.0 + z2 / trials;
+        double center = (p + z2 / (2.0 * trials)) / denominator;
+        double halfWidth = Z_975 * Math.sqrt(p * (1.0 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new ConfidenceInterval(p, Math.max(0.0, center - halfWidth), Math.min(1.0, center + halfWidth), trials);
+    }
+
+    private static double tQuantile(int degreesOfFreedom) {
+        if (degreesOfFreedom <= T_975.length) {
+            return T_975[degreesOfFreedom - 1];
+        }
+        // Desarrollo de Cornish-Fisher de la t alrededor de la normal (error < 0.001 desde 31 grados)
+        double df = degreesOfFreedom;
+        double z3 = Z_975 * Z_975 * Z_975;
+        double z5 = z3 * Z_975 * Z_975;
+        return Z_975 + (z3 + Z_975) / (4.0 * df) + (5.0 * z5 + 16.0 * z3 + 3.0 * Z_975) / (96.0 * df * df);
+    }
+
+    public double getEstimate() { return estimate; }
+    public double getLower() { return lower; }
+    public double getUpper() { return upper; }
+    public int getSamples() { return samples; }
+}
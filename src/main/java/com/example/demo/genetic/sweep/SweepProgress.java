@@ -0,0 +1,42 @@
+package com.example.demo.genetic.sweep;
+
+import java.util.List;
+
+/**
+ * Estado de un barrido tal como lo consulta el cliente: progreso en ejecuciones y, cuando
+ * termina, las métricas agregadas por combinación.
+ */
+public final class SweepProgress {
+
+    private final String id;
+    private final String status;
+    private final boolean completed;
+    private final int completedRuns;
+    private final int totalRuns;
+    private final String error;
+    private final List<SweepResult> results;
+
+    public SweepProgress(String id, String status, boolean completed, int completedRuns, int totalRuns,
+                         String error, List<SweepResult> results) {
+        this.id = id;
+        this.status = status;
+        this.completed = completed;
+        this.completedRuns = completedRuns;
+        this.totalRuns = totalRuns;
+        this.error = error;
+        this.results = results;
+    }
+
+    public String getId() { return id; }
+    public String getStatus() { return status; }
+    public boolean isCompleted() { return completed; }
+    public int getCompletedRuns() { return completedRuns; }
+    public int getTotalRuns() { return totalRuns; }
+    public String getError() { return error; }
+
+    /**
+     * Una fila por combinación (null hasta que el barrido termina). Si se canceló o agotó su
+     * tiempo, cada fila agrega solo las ejecuciones que llegaron a completarse.
+     */
+    public List<SweepResult> getResults() { return results; }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.genetic.sweep;
+
+/**
+ * Métricas agregadas de una combinación del barrido sobre todas sus semillas.
+ */
+public final class SweepResult {
+
+    private final String selectionType;
+    private final String crossoverType;
+    private final String mutationType;
+    private final double mutationRate;
+    private final double crossoverRate;
+    private final int runs;
+    private final ConfidenceInterval convergenceRate;
+    private final ConfidenceInterval reached90Rate;
+    private final ConfidenceInterval generation90Percent;
+    private final ConfidenceInterval averageDiversity;
+    private final ConfidenceInterval bestFitness;
+    private final ConfidenceInterval generations;
+    private final double meanMillis;
+
+    public SweepResult(String selectionType, String crossoverType, String mutationType,
+                       double mutationRate, double crossoverRate, int runs,
+                       ConfidenceInterval convergenceRate, ConfidenceInterval reached90Rate,
+                       ConfidenceInterval generation90Percent, ConfidenceInterval averageDiversity,
+                       ConfidenceInterval bestFitness, ConfidenceInterval generations, double meanMillis) {
+        this.selectionType = selectionType;
+        this.crossoverType = crossoverType;
+        this.mutationType = mutationType;
+        this.mutationRate = mutationRate;
+        this.crossoverRate = crossoverRate;
+        this.runs = runs;
+        this.convergenceRate = convergenceRate;
+        this.reached90Rate = reached90Rate;
+        this.generation90Percent = generation90Percent;
+        this.averageDiversity = averageDiversity;
+        this.bestFitness = bestFitness;
+        this.generations = generations;
+        this.meanMillis = meanMillis;
+    }
+
+    public String getSelectionType() { return selectionType; }
+    public String getCrossoverType() { return crossoverType; }
+    public String getMutationType() { return mutationType; }
+    public double getMutationRate() { return mutationRate; }
+    public double getCrossoverRate() { return crossoverRate; }
+    public int getRuns() { return runs; }
+
+    /**
+     * Fracción de ejecuciones que se detuvieron por convergencia (≥80% de la población en el óptimo).
+     */
+    public ConfidenceInterval getConvergenceRate() { return convergenceRate; }
+
+    /**
+     * Fracción de ejecuciones en las que el mejor individuo alcanzó el 90% del óptimo.
+     */
+    public ConfidenceInterval getReached90Rate() { return reached90Rate; }
+
+    /**
+     * Generación en la que se alcanza el 90% del óptimo, solo entre las ejecuciones que lo alcanzan.
+     */
+    public ConfidenceInterval getGeneration90Percent() { return generation90Percent; }
+    public ConfidenceInterval getAverageDiversity() { return averageDiversity; }
+
+    /**
+     * Fitness del mejor individuo de la última generación.
+     */
+    public ConfidenceInterval getBestFitness() { return bestFitness; }
+    public ConfidenceInterval getGenerations() { return generations; }
+    public double getMeanMillis() { return meanMillis; }
+}
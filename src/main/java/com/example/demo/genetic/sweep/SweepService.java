@@ -0,0 +1,412 @@
+package com.example.demo.genetic.sweep;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.dto.SweepRequest;
+import com.example.demo.genetic.algorithm.EvolutionOutcome;
+import com.example.demo.genetic.algorithm.ExecutionStatus;
+import com.example.demo.genetic.algorithm.GeneticAlgorithmService;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.algorithm.RunScheduler;
+import com.example.demo.genetic.algorithm.TraceSampler;
+import com.example.demo.genetic.history.GenerationHistory;
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.history.SummaryHistorySink;
+import com.example.demo.genetic.metrics.MetricsService;
+import com.example.demo.genetic.operators.CrossoverStrategy;
+import com.example.demo.genetic.operators.MutationStrategy;
+import com.example.demo.genetic.operators.SelectionStrategy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Barridos de parámetros: muchas ejecuciones independientes agregadas por combinación.
+ *
+ * <p>Un barrido es un trabajo asíncrono: {@link #submit} valida la rejilla, lo admite a través
+ * de {@link RunScheduler} (mismos límites de cola que cualquier ejecución) y devuelve su
+ * identificador, con el que se consulta el progreso en {@link ExecutionStatus} y se cancela.
+ * Sus ejecuciones se reparten en un {@link ForkJoinPool} (robo de trabajo: los hilos que
+ * terminan sus ejecuciones cortas toman las pendientes de los demás), sin registro por
+ * generación ({@link TraceSampler#quiet()}), y guardan solo el resumen por generación, sin
+ * escribir individuos. Todas las combinaciones usan las mismas semillas, de modo que las
+ * diferencias no se deben a poblaciones iniciales distintas.</p>
+ *
+ * <p>La cancelación y el tiempo máximo ({@code genetic.sweep.max-seconds}) impiden que empiecen
+ * nuevas ejecuciones; las que están en curso terminan, limitadas al tiempo restante. Los
+ * resultados agregan entonces solo las ejecuciones completadas.</p>
+ */
+@Service
+public class SweepService {
+
+    private static final Logger log = LoggerFactory.getLogger(SweepService.class);
+
+    private final GeneticAlgorithmService geneticAlgorithmService;
+    private final MetricsService metricsService;
+    private final RunScheduler runScheduler;
+    private final ExecutionStatus executionStatus;
+    private final Map<String, SelectionStrategy> selectionStrategies;
+    private final Map<String, CrossoverStrategy> crossoverStrategies;
+    private final Map<String, MutationStrategy> mutationStrategies;
+    private final ForkJoinPool pool;
+    private final int maxRuns;
+    private final long maxSeconds;
+    private final int retained;
+    private final ConcurrentHashMap<String, Sweep> sweeps = new ConcurrentHashMap<>();
+
+    public SweepService(GeneticAlgorithmService geneticAlgorithmService,
+                        MetricsService metricsService,
+                        RunScheduler runScheduler,
+                        ExecutionStatus executionStatus,
+                        Map<String, SelectionStrategy> selectionStrategies,
+                        Map<String, CrossoverStrategy> crossoverStrategies,
+                        Map<String, MutationStrategy> mutationStrategies,
+                        @Value("${genetic.sweep.parallelism:0}") int parallelism,
+                        @Value("${genetic.sweep.max-runs:5000}") int maxRuns,
+                        @Value("${genetic.sweep.max-seconds:600}") long maxSeconds,
+                        @Value("${genetic.sweep.retained:20}") int retained) {
+        this.geneticAlgorithmService = geneticAlgorithmService;
+        this.metricsService = metricsService;
+        this.runScheduler = runScheduler;
+        this.executionStatus = executionStatus;
+        this.selectionStrategies = selectionStrategies;
+        this.crossoverStrategies = crossoverStrategies;
+        this.mutationStrategies = mutationStrategies;
+        this.maxRuns = maxRuns;
+        this.maxSeconds = maxSeconds;
+        this.retained = Math.max(1, retained);
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("ga-sweep-" + thread.getPoolIndex());
+            return thread;
+        }, null, true);
+    }
+
+    /**
+     * Valida el barrido y lo encola; los resultados se obtienen después con {@link #progress}.
+     *
+     * @throws IllegalArgumentException si algún tipo de operador no existe o el barrido supera
+     *         {@code genetic.sweep.max-runs} ejecuciones
+     * @throws RejectedExecutionException si el planificador no admite más trabajos
+     */
+    public SweepProgress submit(SweepRequest request) {
+        AlgorithmParameters base = request.getBase();
+        requireKnown("selección", axis(request.getSelectionTypes(), base.getSelectionType()), selectionStrategies);
+        requireKnown("cruce", axis(request.getCrossoverTypes(), base.getCrossoverType()), crossoverStrategies);
+        requireKnown("mutación", axis(request.getMutationTypes(), base.getMutationType()), mutationStrategies);
+        List<AlgorithmParameters> combinations = expand(request);
+        int seeds = request.getSeeds();
+        long totalRuns = (long) combinations.size() * seeds;
+        if (totalRuns > maxRuns) {
+            throw new IllegalArgumentException("El barrido tiene " + totalRuns + " ejecuciones (máximo " + maxRuns + ")");
+        }
+        long baseSeed = base.getSeed() != null ? base.getSeed() : new SplittableRandom().nextLong();
+
+        Sweep sweep = new Sweep("sweep-" + UUID.randomUUID(), combinations, seeds, baseSeed);
+        sweeps.put(sweep.id, sweep);
+        try {
+            runScheduler.submit(sweep.id, (int) totalRuns, () -> execute(sweep));
+        } catch (RejectedExecutionException e) {
+            sweeps.remove(sweep.id);
+            executionStatus.forget(sweep.id);
+            throw e;
+        }
+        log.info("📐 Barrido {}: {} combinaciones × {} semillas = {} ejecuciones en {} hilos (semilla base {})",
+                sweep.id, combinations.size(), seeds, totalRuns, pool.getParallelism(), baseSeed);
+        evictFinished();
+        return progress(sweep);
+    }
+
+    /**
+     * @return estado del barrido o null si no existe (o ya no se conserva)
+     */
+    public SweepProgress progress(String id) {
+        Sweep sweep = sweeps.get(id);
+        return sweep != null ? progress(sweep) : null;
+    }
+
+    /**
+     * Solicita la cancelación: no empiezan más ejecuciones y se agregan las ya completadas.
+     *
+     * @return estado del barrido o null si no existe
+     */
+    public SweepProgress cancel(String id) {
+        Sweep sweep = sweeps.get(id);
+        if (sweep == null) {
+            return null;
+        }
+        if (executionStatus.requestCancel(id)) {
+            log.info("📐 Cancelación solicitada para el barrido {}", id);
+        }
+        return progress(sweep);
+    }
+
+    private SweepProgress progress(Sweep sweep) {
+        return new SweepProgress(sweep.id, executionStatus.getStatus(sweep.id), executionStatus.isCompleted(sweep.id),
+                sweep.completedRuns.get(), sweep.totalRuns, executionStatus.getError(sweep.id), sweep.results);
+    }
+
+    /**
+     * Conserva como mucho {@code genetic.sweep.retained} barridos terminados (los más recientes).
+     */
+    private void evictFinished() {
+        List<Sweep> finished = new ArrayList<>();
+        for (Sweep sweep : sweeps.values()) {
+            if (executionStatus.isCompleted(sweep.id)) {
+                finished.add(sweep);
+            }
+        }
+        finished.sort(Comparator.comparingLong(sweep -> sweep.submittedAt));
+        for (int i = 0; i < finished.size() - retained; i++) {
+            String id = finished.get(i).id;
+            sweeps.remove(id);
+            executionStatus.forget(id);
+        }
+    }
+
+    /**
+     * Ejecuta el barrido en el hilo del planificador y deja los resultados en {@code sweep}.
+     * Devuelve como motivo de parada la cancelación o el tiempo máximo si quedaron ejecuciones
+     * sin completar.
+     */
+    private EvolutionOutcome execute(Sweep sweep) {
+        long start = System.nanoTime();
+        Instant deadline = maxSeconds > 0 ? Instant.now().plusSeconds(maxSeconds) : null;
+        List<AlgorithmParameters> combinations = sweep.combinations;
+        int seeds = sweep.seeds;
+
+        List<Callable<RunOutcome>> tasks = new ArrayList<>(sweep.totalRuns);
+        for (AlgorithmParameters combination : combinations) {
+            for (int s = 0; s < seeds; s++) {
+                AlgorithmParameters params = combination.copy();
+                params.setSeed(sweep.baseSeed + s);
+                tasks.add(() -> executeRun(sweep, params, deadline));
+            }
+        }
+
+        List<RunOutcome> outcomes = new ArrayList<>(tasks.size());
+        try {
+            for (Future<RunOutcome> future : pool.invokeAll(tasks)) {
+                outcomes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido esperando al barrido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Error en una ejecución del barrido", e.getCause());
+        }
+
+        List<SweepResult> results = new ArrayList<>(combinations.size());
+        for (int c = 0; c < combinations.size(); c++) {
+            List<RunOutcome> completed = new ArrayList<>(seeds);
+            for (RunOutcome outcome : outcomes.subList(c * seeds, (c + 1) * seeds)) {
+                if (outcome != null) {
+                    completed.add(outcome);
+                }
+            }
+            results.add(aggregate(combinations.get(c), completed));
+        }
+        sweep.results = results;
+
+        int completedRuns = sweep.completedRuns.get();
+        String stopReason = null;
+        if (completedRuns < sweep.totalRuns) {
+            stopReason = executionStatus.isCancelRequested(sweep.id)
+                    ? "cancelación solicitada"
+                    : "tiempo máximo del barrido (" + maxSeconds + " s)";
+        }
+        log.info("📐 Barrido {} terminado: {} de {} ejecuciones en {} ms{}", sweep.id, completedRuns, sweep.totalRuns,
+                (System.nanoTime() - start) / 1_000_000, stopReason != null ? " (" + stopReason + ")" : "");
+        return new EvolutionOutcome(false, stopReason, completedRuns);
+    }
+
+    /**
+     * Una ejecución del barrido, o null si no debe empezar (cancelado o sin tiempo) o si la
+     * detuvo el tiempo máximo del barrido y no la de sus propios parámetros.
+     */
+    private RunOutcome executeRun(Sweep sweep, AlgorithmParameters params, Instant deadline) {
+        if (executionStatus.isCancelRequested(sweep.id)) {
+            return null;
+        }
+        boolean capped = false;
+        if (deadline != null) {
+            long remaining = Duration.between(Instant.now(), deadline).toSeconds();
+            if (remaining <= 0) {
+                return null;
+            }
+            if (params.getMaxSeconds() == null || params.getMaxSeconds() > remaining) {
+                params.setMaxSeconds((int) Math.min(remaining, Integer.MAX_VALUE));
+                capped = true;
+            }
+        }
+        RunOutcome outcome = execute(params);
+        if (capped && outcome.stopped) {
+            return null;
+        }
+        executionStatus.updateGeneration(sweep.id, sweep.completedRuns.incrementAndGet());
+        return outcome;
+    }
+
+    private RunOutcome execute(AlgorithmParameters params) {
+        long start = System.nanoTime();
+        RunContext context = geneticAlgorithmService.createContext(params, TraceSampler.quiet());
+        try (GenerationHistory history = new GenerationHistory(new SummaryHistorySink())) {
+            EvolutionOutcome evolution = geneticAlgorithmService.runEvolution(context, history, context.getRunId(), null);
+            List<GenerationStats> stats = history.getStats();
+            double optimalValue = context.getFunction().getOptimalValue();
+            return new RunOutcome(evolution.isConverged(), evolution.isStopped(),
+                    metricsService.findGeneration90Percent(stats, optimalValue),
+                    metricsService.calculateAverageDiversity(stats),
+                    stats.isEmpty() ? Double.NaN : stats.get(stats.size() - 1).getBestFitness(),
+                    stats.size(),
+                    (System.nanoTime() - start) / 1_000_000.0);
+        }
+    }
+
+    private static SweepResult aggregate(AlgorithmParameters params, List<RunOutcome> outcomes) {
+        int runs = outcomes.size();
+        int converged = 0;
+        int reached90 = 0;
+        double[] generation90 = new double[runs];
+        double[] diversity = new double[runs];
+        double[] bestFitness = new double[runs];
+        double[] generations = new double[runs];
+        double millis = 0.0;
+        for (int i = 0; i < runs; i++) {
+            RunOutcome outcome = outcomes.get(i);
+            if (outcome.converged) {
+                converged++;
+            }
+            if (outcome.generation90Percent > 0) {
+                generation90[reached90++] = outcome.generation90Percent;
+            }
+            diversity[i] = outcome.averageDiversity;
+            bestFitness[i] = outcome.bestFitness;
+            generations[i] = outcome.generations;
+            millis += outcome.millis;
+        }
+        return new SweepResult(params.getSelectionType(), params.getCrossoverType(), params.getMutationType(),
+                params.getMutationRate(), params.getCrossoverRate(), runs,
+                ConfidenceInterval.ofProportion(converged, runs),
+                ConfidenceInterval.ofProportion(reached90, runs),
+                ConfidenceInterval.ofMean(generation90, reached90),
+                ConfidenceInterval.ofMean(diversity, runs),
+                ConfidenceInterval.ofMean(bestFitness, runs),
+                ConfidenceInterval.ofMean(generations, runs),
+                runs > 0 ? millis / runs : Double.NaN);
+    }
+
+    /**
+     * Producto cartesiano de los ejes sobre los parámetros base.
+     */
+    private static List<AlgorithmParameters> expand(SweepRequest request) {
+        AlgorithmParameters base = request.getBase();
+        List<AlgorithmParameters> combinations = new ArrayList<>();
+        for (String selection : axis(request.getSelectionTypes(), base.getSelectionType())) {
+            for (String crossover : axis(request.getCrossoverTypes(), base.getCrossoverType())) {
+                for (String mutation : axis(request.getMutationTypes(), base.getMutationType())) {
+                    for (Double mutationRate : axis(request.getMutationRates(), base.getMutationRate())) {
+                        for (Double crossoverRate : axis(request.getCrossoverRates(), base.getCrossoverRate())) {
+                            AlgorithmParameters params = base.copy();
+                            params.setSelectionType(selection);
+                            params.setCrossoverType(crossover);
+                            params.setMutationType(mutation);
+                            params.setMutationRate(mutationRate);
+                            params.setCrossoverRate(crossoverRate);
+                            combinations.add(params);
+                        }
+                    }
+                }
+            }
+        }
+        return combinations;
+    }
+
+    private static <T> List<T> axis(List<T> values, T baseValue) {
+        return values == null || values.isEmpty() ? Collections.singletonList(baseValue) : values;
+    }
+
+    /**
+     * Un eje con un tipo inexistente fallaría en cada ejecución (o, en el cruce, caería en
+     * silencio al cruce de un punto), así que se rechaza antes de encolar nada.
+     */
+    private static void requireKnown(String axis, List<String> values, Map<String, ?> strategies) {
+        for (String value : values) {
+            if (value == null || !strategies.containsKey(value)) {
+                throw new IllegalArgumentException("Tipo de " + axis + " desconocido: " + value
+                        + " (disponibles: " + new TreeSet<>(strategies.keySet()) + ")");
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Barrido admitido: su rejilla y, al terminar, los resultados agregados.
+     */
+    private static final class Sweep {
+        private final String id;
+        private final List<AlgorithmParameters> combinations;
+        private final int seeds;
+        private final long baseSeed;
+        private final int totalRuns;
+        private final long submittedAt = System.nanoTime();
+        private final AtomicInteger completedRuns = new AtomicInteger();
+        private volatile List<SweepResult> results;
+
+        Sweep(String id, List<AlgorithmParameters> combinations, int seeds, long baseSeed) {
+            this.id = id;
+            this.combinations = combinations;
+            this.seeds = seeds;
+            this.baseSeed = baseSeed;
+            this.totalRuns = combinations.size() * seeds;
+        }
+    }
+
+    private static final class RunOutcome {
+        private final boolean converged;
+        private final boolean stopped;
+        private final int generation90Percent;
+        private final double averageDiversity;
+        private final double bestFitness;
+        private final int generations;
+        private final double millis;
+
+        RunOutcome(boolean converged, boolean stopped, int generation90Percent, double averageDiversity,
+                   double bestFitness, int generations, double millis) {
+            this.converged = converged;
+            this.stopped = stopped;
+            this.generation90Percent = generation90Percent;
+            this.averageDiversity = averageDiversity;
+            this.bestFitness = bestFitness;
+            this.generations = generations;
+            this.millis = millis;
+        }
+    }
+}
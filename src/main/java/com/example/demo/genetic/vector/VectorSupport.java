@@ -0,0 +1,28 @@
+package com.example.demo.genetic.vector;
+
+/**
+ * Indica si los kernels SIMD de {@link VectorKernels} pueden usarse en esta JVM.
+ *
+ * <p>La Vector API sigue en incubación: solo está disponible si la JVM se arranca con
+ * {@code --add-modules jdk.incubator.vector}. Sin el módulo, {@link VectorKernels} no se llega a
+ * cargar y los llamadores usan su bucle escalar, que produce exactamente los mismos valores.</p>
+ */
+public final class VectorSupport {
+
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("genetic.vector.disabled");
+
+    private VectorSupport() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Descripción para los logs: ancho de vector en uso o motivo del modo escalar.
+     */
+    public static String describe() {
+        return AVAILABLE ? VectorKernels.describe() : "escalar (jdk.incubator.vector no cargado)";
+    }
+}
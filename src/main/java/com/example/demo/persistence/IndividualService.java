@@ -1,20 +1,39 @@
 package com.example.demo.persistence;
 
 import com.example.demo.entities.Individual;
+import com.example.demo.genetic.chromosome.Chromosome;
+import com.example.demo.genetic.population.Population;
+import com.example.demo.repository.GenerationAggregate;
 import com.example.demo.repository.IndividualRepository;
+import com.example.demo.repository.IndividualView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
 @Transactional
 public class IndividualService {
 
+    // BINARY y REAL son palabras reservadas en H2, por eso van entre comillas
+    private static final String INSERT_SQL =
+            "INSERT INTO individual (run_id, \"BINARY\", \"REAL\", adaptative, generation) VALUES (?, ?, ?, ?, ?)";
+
     private final IndividualRepository individualRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
 
-    public IndividualService(IndividualRepository individualRepository) {
+    public IndividualService(IndividualRepository individualRepository,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${genetic.persistence.batch-size:1000}") int batchSize) {
         this.individualRepository = individualRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
     }
 
     /**
@@ -25,15 +44,72 @@ public class IndividualService {
     }
 
     /**
-     * Obtiene todos los individuos ordenados por generación y adaptativo.
+     * Guarda una generación completa con inserciones JDBC por lotes.
+     *
+     * <p>No pasa por JPA: con {@code GenerationType.IDENTITY} Hibernate no agrupa inserciones y
+     * además habría que crear una entidad por individuo. Aquí se envían lotes de
+     * {@code genetic.persistence.batch-size} filas leyendo directamente de la población.</p>
+     *
+     * <p>Cada llamada es una transacción corta e independiente (una por generación).</p>
+     *
+     * @return número de individuos guardados
+     */
+    @Transactional
+    public int saveGeneration(String runId, int generation, Population population) {
+        int size = population.size();
+        int L = population.getL();
+        List<Object[]> batch = new ArrayList<>(Math.min(size, batchSize));
+        for (int i = 0; i < size; i++) {
+            batch.add(new Object[]{runId, Chromosome.of(population.genes(i), L).toBinaryString(),
+                    population.real(i), population.fitness(i), generation});
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        return size;
+    }
+
+    /**
+     * Obtiene todos los individuos ordenados por generación y adaptativo (orden en la base de datos).
      */
+    @Transactional(readOnly = true)
     public List<Individual> findAllOrdered() {
-        return individualRepository.findAll().stream()
-                .sorted((i1, i2) -> {
-                    int genComp = Integer.compare(i1.getGeneration(), i2.getGeneration());
-                    return genComp != 0 ? genComp : Double.compare(i2.getAdaptative(), i1.getAdaptative());
-                })
-                .toList();
+        return individualRepository.findAll(Sort.by(Sort.Order.asc("generation"), Sort.Order.desc("adaptative")));
+    }
+
+    /**
+     * Página de una generación guardada, de mayor a menor fitness.
+     */
+    @Transactional(readOnly = true)
+    public List<IndividualView> findGenerationPage(String runId, int generation, int page, int size) {
+        return individualRepository.findByRunIdAndGenerationOrderByAdaptativeDesc(
+                runId, generation, PageRequest.of(page, size)).getContent();
+    }
+
+    /**
+     * Página de una ejecución completa, por generación y fitness descendente.
+     */
+    @Transactional(readOnly = true)
+    public List<IndividualView> findRunPage(String runId, int page, int size) {
+        return individualRepository.findByRunIdOrderByGenerationAscAdaptativeDesc(
+                runId, PageRequest.of(page, size)).getContent();
+    }
+
+    /**
+     * Mejor, media y peor fitness de cada generación de una ejecución, agregados en SQL.
+     */
+    @Transactional(readOnly = true)
+    public List<GenerationAggregate> aggregateByGeneration(String runId) {
+        return individualRepository.aggregateByGeneration(runId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findRunIds() {
+        return individualRepository.findRunIds();
     }
 
     /**
@@ -46,6 +122,7 @@ public class IndividualService {
     /**
      * Encuentra todos los individuos de una generación específica.
      */
+    @Transactional(readOnly = true)
     public List<Individual> findByGeneration(int generation) {
         return individualRepository.findByGeneration(generation);
     }
@@ -0,0 +1,92 @@
+package com.example.demo.persistence;
+
+import com.example.demo.genetic.population.Population;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persiste las generaciones fuera del hilo de la evolución.
+ *
+ * <p>Un único hilo "ga-persist" consume una cola acotada y guarda cada generación con
+ * {@link IndividualService#saveGeneration}. Si la cola se llena, la evolución espera
+ * (contrapresión) en lugar de acumular generaciones en memoria. Se activa con
+ * {@code genetic.persistence.enabled=true}.</p>
+ *
+ * <p>{@link IndividualService} solo se obtiene si la persistencia está activa, así el servicio
+ * también funciona en contextos sin JPA (ejecución headless).</p>
+ */
+@Service
+public class RunPersistenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(RunPersistenceService.class);
+
+    private final IndividualService individualService;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+
+    public RunPersistenceService(ObjectProvider<IndividualService> individualService,
+                                 @Value("${genetic.persistence.enabled:false}") boolean enabled,
+                                 @Value("${genetic.persistence.queue-capacity:8}") int queueCapacity) {
+        this.individualService = enabled ? individualService.getIfAvailable() : null;
+        if (enabled && this.individualService == null) {
+            throw new IllegalStateException("genetic.persistence.enabled=true requiere la base de datos (JPA), no disponible en este contexto");
+        }
+        this.enabled = enabled;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                Thread.ofPlatform().name("ga-persist-", 1).daemon(true).factory(),
+                (task, pool) -> {
+                    try {
+                        pool.getQueue().put(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrumpido esperando la cola de persistencia", e);
+                    }
+                });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Encola la generación para guardarla; la población no debe modificarse después.
+     */
+    public void persist(String runId, int generation, Population population) {
+        if (!enabled) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                long start = System.nanoTime();
+                int saved = individualService.saveGeneration(runId, generation, population);
+                log.debug("Generación {} de la ejecución {} guardada: {} individuos en {} ms",
+                        generation + 1, runId, saved, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            } catch (RuntimeException e) {
+                log.error("No se pudo guardar la generación {} de la ejecución {}", generation + 1, runId, e);
+            }
+        });
+    }
+
+    /**
+     * Generaciones pendientes de guardar.
+     */
+    public int getPending() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("La persistencia no terminó a tiempo; {} generaciones descartadas", executor.shutdownNow().size());
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.repository;
+
+/**
+ * Estadísticas de una generación guardada, calculadas en SQL.
+ */
+public interface GenerationAggregate {
+    int getGeneration();
+    long getCount();
+    Double getBest();
+    Double getAverage();
+    Double getWorst();
+}
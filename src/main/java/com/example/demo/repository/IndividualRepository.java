@@ -1,11 +1,29 @@
 package com.example.demo.repository;
 
 import com.example.demo.entities.Individual;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface IndividualRepository extends JpaRepository<Individual, Long> {
     List<Individual> findByGeneration(int generation);
-}
\ No newline at end of file
+
+    // Página de una generación, ordenada por fitness en la base de datos (índice run_id, generation)
+    Slice<IndividualView> findByRunIdAndGenerationOrderByAdaptativeDesc(String runId, int generation, Pageable pageable);
+
+    // Página de toda la ejecución: generación ascendente y fitness descendente
+    Slice<IndividualView> findByRunIdOrderByGenerationAscAdaptativeDesc(String runId, Pageable pageable);
+
+    @Query("select i.generation as generation, count(i) as count, max(i.adaptative) as best, " +
+            "avg(i.adaptative) as average, min(i.adaptative) as worst " +
+            "from Individual i where i.runId = :runId group by i.generation order by i.generation")
+    List<GenerationAggregate> aggregateByGeneration(@Param("runId") String runId);
+
+    @Query("select distinct i.runId from Individual i where i.runId is not null")
+    List<String> findRunIds();
+}
@@ -0,0 +1,10 @@
+package com.example.demo.repository;
+
+/**
+ * Proyección ligera de un individuo guardado: solo id, genes y fitness.
+ */
+public interface IndividualView {
+    Long getId();
+    String getBinary();
+    Double getAdaptative();
+}
@@ -10,7 +10,6 @@ import java.awt.*;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Base64;
-import java.util.List;
 import java.util.Map;
 
 @Service
@@ -22,7 +21,7 @@ public class ChartService {
         this.fitnessFunctions = fitnessFunctions;
     }
 
-    public String generateAdaptativeChart(List<List<Double>> fitnessValuesByGeneration, String functionType) throws IOException {
+    public String generateAdaptativeChart(double[] bestFitnessByGeneration, String functionType) throws IOException {
         FitnessFunction function = fitnessFunctions.get(functionType);
         if (function == null) {
             throw new IllegalArgumentException("Función desconocida para gráfica: " + functionType);
@@ -35,16 +34,8 @@ public class ChartService {
         // Creamos la serie del mejor fitness por generación
         XYSeries bestFitnessSeries = new XYSeries("Mejor Adaptativo por Generación");
 
-        for (int i = 0; i < fitnessValuesByGeneration.size(); i++) {
-            List<Double> generationFitness = fitnessValuesByGeneration.get(i);
-            if (generationFitness.isEmpty()) continue;
-
-            double maxFitness = generationFitness.stream()
-                    .mapToDouble(Double::doubleValue)
-                    .max()
-                    .orElse(0.0);
-
-            bestFitnessSeries.add(i + 1, maxFitness);
+        for (int i = 0; i < bestFitnessByGeneration.length; i++) {
+            bestFitnessSeries.add(i + 1, bestFitnessByGeneration[i]);
         }
 
         XYSeriesCollection dataset = new XYSeriesCollection();
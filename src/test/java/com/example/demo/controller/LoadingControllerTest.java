@@ -0,0 +1,44 @@
+package com.example.demo.controller;
+
+import com.example.demo.genetic.algorithm.ExecutionStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cancelación desde el navegador: solo afecta a la ejecución de la propia sesión.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class LoadingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExecutionStatus executionStatus;
+
+    @Test
+    void cancelTargetsOnlyTheCallersSession() throws Exception {
+        MockHttpSession own = new MockHttpSession();
+        MockHttpSession other = new MockHttpSession();
+        executionStatus.startExecution(own.getId(), 100);
+        executionStatus.startExecution(other.getId(), 100);
+
+        mockMvc.perform(post("/api/execution-cancel").session(own))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("Cancelando..."))
+                .andExpect(jsonPath("$.completed").value(false));
+
+        assertTrue(executionStatus.isCancelRequested(own.getId()));
+        assertFalse(executionStatus.isCancelRequested(other.getId()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.genetic;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.algorithm.RandomStreams;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.algorithm.TraceSampler;
+import com.example.demo.genetic.function.Function5;
+import com.example.demo.genetic.population.Population;
+
+/**
+ * Contextos de ejecución para pruebas unitarias sin levantar Spring.
+ */
+public final class TestContexts {
+
+    private TestContexts() {
+    }
+
+    /**
+     * Parámetros mínimos: función 5 en [-3, 3], modo aleatorio, semilla 42.
+     */
+    public static AlgorithmParameters params(int L, int populationSize) {
+        AlgorithmParameters params = new AlgorithmParameters();
+        params.setMode("random");
+        params.setXmin(-3.0);
+        params.setXmax(3.0);
+        params.setL(L);
+        params.setPopulationSize(populationSize);
+        params.setSeed(42L);
+        return params;
+    }
+
+    public static RunContext context(AlgorithmParameters params) {
+        return new RunContext(params, new Function5(), null, RandomStreams.fromSeed(params.getSeed()),
+                new TraceSampler(true, 0, false), null, null);
+    }
+
+    /**
+     * Población de L bits cuyo gen i vale {@code base + i}, para reconocer de dónde viene cada
+     * individuo tras un reemplazo o una migración.
+     */
+    public static Population population(int L, long base, double... fitness) {
+        Population population = new Population(fitness.length, L);
+        for (int i = 0; i < fitness.length; i++) {
+            population.add(base + i, 0.0, fitness[i]);
+        }
+        return population;
+    }
+}
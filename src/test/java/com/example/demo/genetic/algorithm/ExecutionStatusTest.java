@@ -0,0 +1,63 @@
+package com.example.demo.genetic.algorithm;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Estado por sesión: cancelación y liberación cuando la sesión expira.
+ */
+class ExecutionStatusTest {
+
+    @Test
+    void releasingAFinishedSessionForgetsItsState() {
+        ExecutionStatus status = new ExecutionStatus(120);
+        status.startExecution("s1", 10);
+        status.startIslands("s1", 4);
+        status.markCompleted("s1");
+
+        status.release("s1");
+
+        assertNull(status.getStatus("s1"));
+        assertEquals(0, status.getTotalGenerations("s1"));
+        assertTrue(status.getIslands("s1").isEmpty());
+    }
+
+    @Test
+    void releasingARunningSessionCancelsAndForgetsOnFinalState() {
+        ExecutionStatus status = new ExecutionStatus(120);
+        status.startExecution("s1", 10);
+
+        status.release("s1");
+        assertTrue(status.isCancelRequested("s1"));
+        assertEquals(10, status.getTotalGenerations("s1"));
+
+        status.markCancelled("s1", "cancelación solicitada");
+        assertNull(status.getStatus("s1"));
+        assertFalse(status.isCancelRequested("s1"));
+    }
+
+    @Test
+    void otherSessionsAreUntouched() {
+        ExecutionStatus status = new ExecutionStatus(120);
+        status.startExecution("s1", 10);
+        status.startExecution("s2", 20);
+        status.markCompleted("s1");
+        status.markCompleted("s2");
+
+        status.release("s1");
+
+        assertEquals("Completado", status.getStatus("s2"));
+        assertEquals(20, status.getTotalGenerations("s2"));
+    }
+
+    @Test
+    void cancelIsRefusedOnceCompleted() {
+        ExecutionStatus status = new ExecutionStatus(120);
+        status.startExecution("s1", 10);
+
+        assertTrue(status.requestCancel("s1"));
+        status.markCancelled("s1", "cancelación solicitada");
+        assertFalse(status.requestCancel("s1"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.genetic.algorithm;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.history.GenerationHistory;
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.history.SummaryHistorySink;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Validación del contexto de ejecución y condiciones de paro de {@code runEvolution}: cada
+ * condición que se cumple al registrar una generación detiene la ejecución en esa misma
+ * generación.
+ */
+@SpringBootTest
+class GeneticAlgorithmServiceTest {
+
+    private static final String SESSION = "sesion-de-prueba";
+    private static final int MAX_GENERATIONS = 1000;
+
+    @Autowired
+    private GeneticAlgorithmService geneticAlgorithmService;
+
+    @Test
+    void elitesMustLeaveRoomForOnePairOfOffspring() {
+        AlgorithmParameters params = TestContexts.params(12, 10);
+        params.setEliteCount(8);
+        assertNotNull(geneticAlgorithmService.createContext(params));
+
+        params.setEliteCount(9);
+        assertThrows(IllegalArgumentException.class, () -> geneticAlgorithmService.createContext(params));
+        params.setEliteCount(10);
+        assertThrows(IllegalArgumentException.class, () -> geneticAlgorithmService.createContext(params));
+    }
+
+    @Test
+    void elitesAreCheckedAgainstTheSmallestIsland() {
+        AlgorithmParameters params = TestContexts.params(12, 40);
+        params.setIslands(4);
+        params.setEliteCount(8);
+        assertNotNull(geneticAlgorithmService.createContext(params));
+
+        params.setEliteCount(9);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> geneticAlgorithmService.createContext(params));
+        assertTrue(e.getMessage().contains("islas de 10"), e.getMessage());
+    }
+
+    @Test
+    void cancellationStopsInTheGenerationItIsRequested() {
+        ExecutionStatus status = new ExecutionStatus(0);
+        status.startExecution(SESSION, MAX_GENERATIONS);
+
+        EvolutionOutcome outcome = run(params(), status, stats -> {
+            if (stats.getGeneration() == 4) {
+                status.requestCancel(SESSION);
+            }
+        });
+
+        assertEquals("cancelación solicitada", outcome.getStopReason());
+        assertEquals(5, outcome.getGenerations());
+        assertFalse(outcome.isConverged());
+    }
+
+    @Test
+    void abandonedClientStopsTheRun() {
+        ExecutionStatus status = new ExecutionStatus(1);
+        status.startExecution(SESSION, MAX_GENERATIONS);
+
+        EvolutionOutcome outcome = run(params(), status, stats -> {
+            if (stats.getGeneration() < 2) {
+                status.touch(SESSION);
+            } else if (stats.getGeneration() == 2) {
+                sleep(1100);
+            }
+        });
+
+        assertEquals("cliente inactivo", outcome.getStopReason());
+        assertEquals(3, outcome.getGenerations());
+    }
+
+    @Test
+    void deadlineStopsTheRun() {
+        AlgorithmParameters params = params();
+        params.setMaxSeconds(1);
+
+        EvolutionOutcome outcome = run(params, null, stats -> {
+            if (stats.getGeneration() == 2) {
+                sleep(1100);
+            }
+        });
+
+        assertEquals("tiempo máximo (1 s)", outcome.getStopReason());
+        assertEquals(3, outcome.getGenerations());
+    }
+
+    @Test
+    void maxEvaluationsStopsTheRun() {
+        AlgorithmParameters params = params();
+        params.setMaxEvaluations(100L);
+
+        EvolutionOutcome outcome = run(params, null, stats -> { });
+
+        // 20 evaluaciones iniciales + 20 hijos por generación: 100 al registrar la quinta
+        assertEquals("máximo de evaluaciones (100)", outcome.getStopReason());
+        assertEquals(5, outcome.getGenerations());
+    }
+
+    @Test
+    void withoutStopConditionsTheRunUsesAllGenerations() {
+        AlgorithmParameters params = params();
+        params.setNumGenerations(8);
+
+        EvolutionOutcome outcome = run(params, null, stats -> { });
+
+        assertNull(outcome.getStopReason());
+        assertEquals(8, outcome.getGenerations());
+    }
+
+    /**
+     * Mutación muy alta: la población no converge y solo la detienen las condiciones de paro.
+     */
+    private static AlgorithmParameters params() {
+        AlgorithmParameters params = TestContexts.params(12, 20);
+        params.setNumGenerations(MAX_GENERATIONS);
+        params.setMutationRate(0.5);
+        return params;
+    }
+
+    private EvolutionOutcome run(AlgorithmParameters params, ExecutionStatus status, Consumer<GenerationStats> listener) {
+        RunContext context = geneticAlgorithmService.createContext(params, TraceSampler.quiet());
+        try (GenerationHistory history = new GenerationHistory(new SummaryHistorySink(), listener)) {
+            return geneticAlgorithmService.runEvolution(context, history, SESSION, status);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.genetic.algorithm;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.history.GenerationHistory;
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.history.SummaryHistorySink;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * El modelo de islas con varios hilos reproduce la ejecución con la misma semilla, también
+ * migrando en cada generación.
+ */
+@SpringBootTest(properties = "genetic.islands.parallelism=3")
+class IslandReproducibilityTest {
+
+    @Autowired
+    private GeneticAlgorithmService geneticAlgorithmService;
+
+    @Test
+    void sameSeedGivesSameHistoryWithSeveralIslandThreads() {
+        List<GenerationStats> first = run();
+        for (int attempt = 0; attempt < 3; attempt++) {
+            List<GenerationStats> again = run();
+            assertEquals(first.size(), again.size());
+            for (int gen = 0; gen < first.size(); gen++) {
+                GenerationStats expected = first.get(gen);
+                GenerationStats actual = again.get(gen);
+                assertEquals(expected.getBestGenes(), actual.getBestGenes(), "generación " + gen);
+                assertEquals(expected.getBestFitness(), actual.getBestFitness(), "generación " + gen);
+                assertEquals(expected.getMeanFitness(), actual.getMeanFitness(), "generación " + gen);
+                assertEquals(expected.getMinFitness(), actual.getMinFitness(), "generación " + gen);
+                assertEquals(expected.getDiversity(), actual.getDiversity(), "generación " + gen);
+            }
+        }
+    }
+
+    private List<GenerationStats> run() {
+        AlgorithmParameters params = TestContexts.params(16, 400);
+        params.setSeed(7L);
+        params.setNumGenerations(40);
+        params.setMutationRate(0.05);
+        params.setIslands(8);
+        params.setMigrationTopology("full");
+        params.setMigrationInterval(1);
+        params.setMigrantCount(20);
+
+        RunContext context = geneticAlgorithmService.createContext(params, TraceSampler.quiet());
+        try (GenerationHistory history = new GenerationHistory(new SummaryHistorySink())) {
+            geneticAlgorithmService.runEvolution(context, history, context.getRunId(), null);
+            return history.getStats();
+        }
+    }
+}
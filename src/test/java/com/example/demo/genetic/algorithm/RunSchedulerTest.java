@@ -0,0 +1,117 @@
+package com.example.demo.genetic.algorithm;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Planificador con un solo hilo y una posición de cola: rechazo por cola llena, límite por
+ * sesión y estado final de cada ejecución.
+ */
+class RunSchedulerTest {
+
+    private final ExecutionStatus status = new ExecutionStatus(0);
+    private final RunScheduler scheduler = new RunScheduler(status, 1, 1, 1, false);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void fullQueueIsRejectedAndMarkedAsFailed() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> running = scheduler.submit("s1", 10, blocking(started));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        Future<?> queued = scheduler.submit("s2", 10, completed());
+        assertEquals("En cola", status.getStatus("s2"));
+
+        RejectedExecutionException e = assertThrows(RejectedExecutionException.class,
+                () -> scheduler.submit("s3", 10, completed()));
+        assertTrue(e.getMessage().contains("ocupado"), e.getMessage());
+        assertEquals("Error: Servidor ocupado", status.getStatus("s3"));
+        assertTrue(status.isCompleted("s3"));
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        queued.get(10, TimeUnit.SECONDS);
+        assertEquals("Completado", status.getStatus("s2"));
+    }
+
+    @Test
+    void sessionCannotExceedItsConcurrentRuns() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> running = scheduler.submit("s1", 10, blocking(started));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        assertThrows(RejectedExecutionException.class, () -> scheduler.submit("s1", 10, completed()));
+        assertEquals("Ejecutando", status.getStatus("s1"));
+
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        // Terminada la ejecución, la sesión vuelve a admitir otra
+        scheduler.submit("s1", 10, completed()).get(10, TimeUnit.SECONDS);
+        assertEquals("Completado", status.getStatus("s1"));
+    }
+
+    @Test
+    void finalStateFollowsTheOutcome() throws Exception {
+        scheduler.submit("done", 10, completed()).get(10, TimeUnit.SECONDS);
+        scheduler.submit("stopped", 10, () -> new EvolutionOutcome(false, "tiempo máximo (5 s)", 4))
+                .get(10, TimeUnit.SECONDS);
+        scheduler.submit("failed", 10, () -> {
+            throw new IllegalStateException("fallo de prueba");
+        }).get(10, TimeUnit.SECONDS);
+
+        assertEquals("Completado", status.getStatus("done"));
+        assertEquals("Cancelado: tiempo máximo (5 s)", status.getStatus("stopped"));
+        assertEquals("Error: fallo de prueba", status.getStatus("failed"));
+        assertEquals("fallo de prueba", status.getError("failed"));
+        assertTrue(status.isCompleted("done") && status.isCompleted("stopped") && status.isCompleted("failed"));
+    }
+
+    @Test
+    void cancelWhileQueuedNeverRunsTheJob() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        Future<?> running = scheduler.submit("s1", 10, blocking(started));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        boolean[] ran = {false};
+        Future<?> queued = scheduler.submit("s2", 10, () -> {
+            ran[0] = true;
+            return new EvolutionOutcome(true, null, 1);
+        });
+
+        assertTrue(status.requestCancel("s2"));
+        release.countDown();
+        running.get(10, TimeUnit.SECONDS);
+        queued.get(10, TimeUnit.SECONDS);
+
+        assertFalse(ran[0]);
+        assertEquals("Cancelado: cancelación solicitada antes de iniciar", status.getStatus("s2"));
+    }
+
+    private Supplier<EvolutionOutcome> blocking(CountDownLatch started) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new EvolutionOutcome(true, null, 1);
+        };
+    }
+
+    private static Supplier<EvolutionOutcome> completed() {
+        return () -> new EvolutionOutcome(true, null, 1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.genetic.chromosome;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChromosomeTest {
+
+    @Test
+    void parseKeepsMostSignificantBitFirst() {
+        Chromosome chromosome = Chromosome.parse("1011");
+
+        assertEquals(4, chromosome.length());
+        assertEquals(11L, chromosome.toLong());
+        assertTrue(chromosome.get(0));
+        assertFalse(chromosome.get(1));
+        assertEquals("1011", chromosome.toBinaryString());
+    }
+
+    @Test
+    void ofMasksBitsAboveLength() {
+        Chromosome chromosome = Chromosome.of(0xFFL, 4);
+
+        assertEquals(15L, chromosome.toLong());
+        assertEquals(Chromosome.parse("1111"), chromosome);
+    }
+
+    @Test
+    void sixtyFourBitsDecodeAsUnsigned() {
+        Chromosome chromosome = Chromosome.parse("1".repeat(64));
+
+        assertEquals(-1L, chromosome.toLong());
+        assertEquals(Math.pow(2, 64) - 1, chromosome.decimalValue());
+    }
+
+    @Test
+    void randomStaysWithinLength() {
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < 1000; i++) {
+            long value = Chromosome.random(10, random).toLong();
+            assertTrue(value >= 0 && value < 1024, "fuera de rango: " + value);
+        }
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> Chromosome.parse("10a1"));
+        assertThrows(IllegalArgumentException.class, () -> Chromosome.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> Chromosome.of(1L, 65));
+        assertThrows(IllegalArgumentException.class, () -> Chromosome.parse("1".repeat(65)));
+        assertThrows(IndexOutOfBoundsException.class, () -> Chromosome.parse("101").get(3));
+    }
+}
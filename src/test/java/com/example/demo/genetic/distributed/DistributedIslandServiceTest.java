@@ -0,0 +1,48 @@
+package com.example.demo.genetic.distributed;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.algorithm.EvolutionOutcome;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ejecución completa de tres nodos en esta JVM con {@link InProcessTransport}.
+ */
+@SpringBootTest
+class DistributedIslandServiceTest {
+
+    private static final int MAX_GENERATIONS = 300;
+
+    @Autowired
+    private DistributedIslandService distributedIslandService;
+
+    @Test
+    void firstConvergenceStopsTheWholeCluster() {
+        AlgorithmParameters params = TestContexts.params(15, 60);
+        params.setSelectionType("tournament");
+        params.setNumGenerations(MAX_GENERATIONS);
+        params.setMigrationInterval(2);
+        params.setMigrantCount(3);
+
+        List<NodeResult> results = distributedIslandService.runInProcess(params, 3);
+
+        assertEquals(3, results.size());
+        NodeResult coordinator = results.get(0);
+        assertTrue(coordinator.isAllNodesFinished());
+        assertNotNull(coordinator.getGlobalBest());
+        for (NodeResult result : results) {
+            EvolutionOutcome outcome = result.getOutcome();
+            assertTrue(result.getHistory().size() > 0);
+            // Cada nodo converge por sí mismo o recibe la orden de parada del coordinador
+            assertTrue(outcome.isConverged() || outcome.getStopReason().startsWith("convergencia en el nodo"),
+                    "nodo " + result.getNodeId() + ": " + outcome.getStopReason());
+            assertTrue(outcome.getGenerations() < MAX_GENERATIONS);
+        }
+    }
+}
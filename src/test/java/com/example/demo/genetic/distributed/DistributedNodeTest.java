@@ -0,0 +1,103 @@
+package com.example.demo.genetic.distributed;
+
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.history.GenerationStats;
+import com.example.demo.genetic.island.Island;
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tres nodos conectados con {@link InProcessTransport}.
+ */
+class DistributedNodeTest {
+
+    private static final int L = 8;
+    private final List<DistributedNode> nodes = new ArrayList<>();
+
+    private void cluster(int count) {
+        for (InProcessTransport transport : InProcessTransport.cluster(count)) {
+            nodes.add(new DistributedNode(nodes.size(), transport));
+        }
+    }
+
+    @AfterEach
+    void close() {
+        nodes.forEach(DistributedNode::close);
+    }
+
+    private static GenerationStats stats(long bestGenes, double bestFitness) {
+        return new GenerationStats(0, 1, bestGenes, 0.0, bestFitness, bestFitness, bestFitness, 0.0);
+    }
+
+    @Test
+    void migrantsTravelAlongTheRing() {
+        cluster(3);
+        List<Island> first = List.of(new Island(0, null, TestContexts.population(L, 0, 9, 8, 7)));
+        List<Island> second = List.of(new Island(0, null, TestContexts.population(L, 10, 1, 2, 3)));
+
+        nodes.get(0).emigrate(first, 3, 2);
+        nodes.get(1).deliver(second);
+        // Nada llega al nodo 2: el anillo solo envía al siguiente
+        List<Island> third = List.of(new Island(0, null, TestContexts.population(L, 20, 1, 2, 3)));
+        nodes.get(2).deliver(third);
+
+        assertEquals(2, second.get(0).immigrate());
+        Population population = second.get(0).getPopulation();
+        assertEquals(0L, population.genes(0));
+        assertEquals(1L, population.genes(1));
+        assertEquals(12L, population.genes(2));
+        assertEquals(0, third.get(0).immigrate());
+    }
+
+    @Test
+    void lastNodeClosesTheRing() {
+        cluster(3);
+        List<Island> last = List.of(new Island(0, null, TestContexts.population(L, 20, 5)), new Island(1, null, TestContexts.population(L, 30, 6)));
+        List<Island> coordinator = List.of(new Island(0, null, TestContexts.population(L, 0, 1)));
+
+        nodes.get(2).emigrate(last, 1, 1);
+        nodes.get(0).deliver(coordinator);
+
+        assertEquals(1, coordinator.get(0).immigrate());
+        // Emigra la última isla del nodo
+        assertEquals(30L, coordinator.get(0).getPopulation().genes(0));
+    }
+
+    @Test
+    void convergenceReportStopsEveryNode() {
+        cluster(3);
+        nodes.get(1).report(4, stats(7L, 10.0), false);
+        assertTrue(nodes.stream().allMatch(node -> node.getStopReason() == null));
+
+        nodes.get(2).report(5, stats(9L, 64.0), true);
+
+        for (DistributedNode node : nodes) {
+            assertNotNull(node.getStopReason(), "nodo " + node.getNodeId());
+            assertTrue(node.getStopReason().contains("nodo 2"));
+        }
+        NodeMessage best = nodes.get(0).getBestSoFar();
+        assertEquals(2, best.getSourceNode());
+        assertEquals(9L, best.getBestGenes());
+        assertNull(nodes.get(1).getBestSoFar());
+    }
+
+    @Test
+    void coordinatorWaitsForEveryDone() {
+        cluster(3);
+        DistributedNode coordinator = nodes.get(0);
+
+        nodes.get(1).finish(8, stats(3L, 20.0));
+        assertFalse(coordinator.awaitNodes(Duration.ofMillis(50)));
+
+        nodes.get(2).finish(9, stats(4L, 30.0));
+        assertTrue(coordinator.awaitNodes(Duration.ofSeconds(1)));
+        assertEquals(4L, coordinator.getBestSoFar().getBestGenes());
+    }
+}
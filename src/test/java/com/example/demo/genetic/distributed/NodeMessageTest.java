@@ -0,0 +1,84 @@
+package com.example.demo.genetic.distributed;
+
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeMessageTest {
+
+    private static NodeMessage roundTrip(NodeMessage message) {
+        ByteBuffer encoded = message.encode();
+        NodeMessage decoded = NodeMessage.decode(encoded);
+        assertFalse(encoded.hasRemaining(), "quedaron bytes sin leer");
+        return decoded;
+    }
+
+    @Test
+    void migrantsKeepEveryColumn() {
+        Population migrants = new Population(3, 64);
+        migrants.add(-1L, 2.5, 64.0);
+        migrants.add(0L, -3.0, Double.NEGATIVE_INFINITY);
+        migrants.add(Long.MIN_VALUE, 0.25, Double.NaN);
+
+        NodeMessage decoded = roundTrip(NodeMessage.migrants(2, 17, migrants));
+
+        assertEquals(NodeMessage.Type.MIGRANTS, decoded.getType());
+        assertEquals(2, decoded.getSourceNode());
+        assertEquals(17, decoded.getGeneration());
+        Population copy = decoded.getMigrants();
+        assertEquals(64, copy.getL());
+        assertEquals(3, copy.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(migrants.genes(i), copy.genes(i));
+            assertEquals(migrants.real(i), copy.real(i));
+            assertEquals(migrants.fitness(i), copy.fitness(i));
+        }
+        assertNull(decoded.getReason());
+    }
+
+    @Test
+    void emptyMigrantBatch() {
+        NodeMessage decoded = roundTrip(NodeMessage.migrants(1, 0, new Population(0, 5)));
+
+        assertEquals(0, decoded.getMigrants().size());
+        assertEquals(5, decoded.getMigrants().getL());
+    }
+
+    @Test
+    void reportAndDoneCarryTheBestIndividual() {
+        NodeMessage report = roundTrip(NodeMessage.report(3, 42, 0x7FFFL, 63.5, true));
+        NodeMessage done = roundTrip(NodeMessage.done(1, 99, 12L, -1.0));
+
+        assertEquals(NodeMessage.Type.REPORT, report.getType());
+        assertEquals(3, report.getSourceNode());
+        assertEquals(42, report.getGeneration());
+        assertEquals(0x7FFFL, report.getBestGenes());
+        assertEquals(63.5, report.getBestFitness());
+        assertTrue(report.isConverged());
+        assertNull(report.getMigrants());
+
+        assertEquals(NodeMessage.Type.DONE, done.getType());
+        assertEquals(99, done.getGeneration());
+        assertEquals(12L, done.getBestGenes());
+        assertFalse(done.isConverged());
+    }
+
+    @Test
+    void stopKeepsUtf8Reason() {
+        NodeMessage decoded = roundTrip(NodeMessage.stop(0, "convergencia en el nodo 2 (generación 7) ✅"));
+
+        assertEquals(NodeMessage.Type.STOP, decoded.getType());
+        assertEquals("convergencia en el nodo 2 (generación 7) ✅", decoded.getReason());
+    }
+
+    @Test
+    void rejectsUnknownType() {
+        ByteBuffer encoded = NodeMessage.stop(0, "x").encode();
+        encoded.put(0, (byte) 9);
+
+        assertThrows(IllegalArgumentException.class, () -> NodeMessage.decode(encoded));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.genetic.distributed;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SocketTransportTest {
+
+    private static List<InetSocketAddress> localNodes(int count) throws IOException {
+        InetSocketAddress[] addresses = new InetSocketAddress[count];
+        for (int i = 0; i < count; i++) {
+            try (ServerSocket probe = new ServerSocket(0)) {
+                addresses[i] = new InetSocketAddress("127.0.0.1", probe.getLocalPort());
+            }
+        }
+        return List.of(addresses);
+    }
+
+    @Test
+    void sendReturnsImmediatelyAndDeliversOnceThePeerStarts() throws Exception {
+        List<InetSocketAddress> nodes = localNodes(2);
+        SocketTransport sender = new SocketTransport(nodes, Duration.ofSeconds(10));
+        SocketTransport receiver = new SocketTransport(nodes, Duration.ofSeconds(10));
+        BlockingQueue<NodeMessage> received = new LinkedBlockingQueue<>();
+        try {
+            sender.open(0, message -> { });
+
+            long start = System.nanoTime();
+            sender.send(1, NodeMessage.stop(0, "prueba"));
+            sender.send(1, NodeMessage.report(0, 3, 5L, 9.0, true));
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "send bloqueó esperando al destino");
+
+            // El destino arranca después: el hilo de envío sigue reintentando
+            Thread.sleep(300);
+            receiver.open(1, received::add);
+
+            NodeMessage first = received.poll(10, TimeUnit.SECONDS);
+            NodeMessage second = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(first);
+            assertEquals(NodeMessage.Type.STOP, first.getType());
+            assertEquals("prueba", first.getReason());
+            assertNotNull(second);
+            assertEquals(NodeMessage.Type.REPORT, second.getType());
+        } finally {
+            sender.close();
+            receiver.close();
+        }
+    }
+
+    @Test
+    void unreachablePeerIsDroppedWithoutBlockingClose() throws Exception {
+        List<InetSocketAddress> nodes = localNodes(2);
+        SocketTransport transport = new SocketTransport(nodes, Duration.ofMillis(300));
+        try {
+            transport.open(0, message -> { });
+            transport.send(1, NodeMessage.stop(0, "nadie escucha"));
+        } finally {
+            long start = System.nanoTime();
+            transport.close();
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+        }
+        // Tras cerrar, los envíos se ignoran
+        transport.send(1, NodeMessage.stop(0, "cerrado"));
+    }
+
+    @Test
+    void parsesNodeList() {
+        List<InetSocketAddress> nodes = SocketTransport.parseNodes("a:1, b:2,");
+
+        assertEquals(2, nodes.size());
+        assertEquals(2, nodes.get(1).getPort());
+        assertThrows(IllegalArgumentException.class, () -> SocketTransport.parseNodes("sinpuerto"));
+        assertThrows(IllegalArgumentException.class, () -> SocketTransport.parseNodes("a:x"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.genetic.function.FitnessFunction;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FitnessCacheTest {
+
+    /**
+     * f(x) = 2x que cuenta sus evaluaciones.
+     */
+    private static final class CountingFunction implements FitnessFunction {
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public double evaluate(double x) {
+            calls.incrementAndGet();
+            return 2 * x;
+        }
+
+        @Override public String getName() { return "contador"; }
+        @Override public double getOptimalValue() { return 0; }
+        @Override public double getTargetX() { return 0; }
+    }
+
+    @Test
+    void repeatedGenotypeIsEvaluatedOnce() {
+        CountingFunction function = new CountingFunction();
+        FitnessCache cache = new FitnessCache(128);
+
+        assertEquals(6.0, cache.fitness(7L, 3.0, function));
+        assertEquals(6.0, cache.fitness(7L, 3.0, function));
+        assertEquals(8.0, cache.fitness(9L, 4.0, function));
+
+        assertEquals(2, function.calls.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(100.0 / 3, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void memoryStaysBoundedAndEvictedEntriesAreRecomputed() {
+        CountingFunction function = new CountingFunction();
+        FitnessCache cache = new FitnessCache(16);
+        int distinct = 10 * cache.getCapacity();
+
+        for (long genes = 0; genes < distinct; genes++) {
+            assertEquals(2.0 * genes, cache.fitness(genes, genes, function));
+        }
+
+        assertTrue(cache.getEvictions() >= distinct - cache.getCapacity(), "desalojos: " + cache.getEvictions());
+        // Un valor desalojado se vuelve a evaluar y sigue siendo correcto
+        assertEquals(0.0, cache.fitness(0L, 0.0, function));
+        assertEquals(cache.getMisses(), function.calls.get());
+    }
+
+    @Test
+    void capacityIsRoundedToSegmentsAndRejectsNonPositive() {
+        assertTrue(new FitnessCache(1000).getCapacity() >= 1000);
+        assertEquals(0.0, new FitnessCache(1).getHitRate());
+        assertThrows(IllegalArgumentException.class, () -> new FitnessCache(0));
+    }
+
+    @Test
+    void concurrentLookupsReturnConsistentValues() throws Exception {
+        CountingFunction function = new CountingFunction();
+        FitnessCache cache = new FitnessCache(4096);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < 50; round++) {
+                        for (long genes = 0; genes < 200; genes++) {
+                            assertEquals(2.0 * genes, cache.fitness(genes, genes, function));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(4 * 50 * 200, cache.getHits() + cache.getMisses());
+        // Como mucho una evaluación por hilo y genotipo antes de que quede guardado
+        assertTrue(function.calls.get() <= 4 * 200, "evaluaciones: " + function.calls.get());
+    }
+}
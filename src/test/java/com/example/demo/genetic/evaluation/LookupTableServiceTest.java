@@ -0,0 +1,85 @@
+package com.example.demo.genetic.evaluation;
+
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.function.Function5;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Caché de tablas precalculadas: construcción fuera del cerrojo y desalojo LRU.
+ */
+class LookupTableServiceTest {
+
+    private static final int L = 8;
+
+    @Test
+    void cachedTableIsNotBlockedByAnotherBuild() throws Exception {
+        LookupTableService service = new LookupTableService(new RealConverterService(), "always", 20, 4);
+        FitnessFunction fast = new Function5();
+        LookupTable cached = service.tableFor("f5", fast, -3.0, 3.0, L, 0);
+
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FitnessFunction slow = new Function5() {
+            @Override
+            public void evaluate(double[] in, double[] out) {
+                building.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.evaluate(in, out);
+            }
+        };
+        CompletableFuture<LookupTable> slowBuild = CompletableFuture.supplyAsync(
+                () -> service.tableFor("lenta", slow, -3.0, 3.0, L, 0));
+        assertTrue(building.await(10, TimeUnit.SECONDS));
+
+        // Otra clave ya calculada responde mientras la construcción lenta sigue en curso
+        CompletableFuture<LookupTable> other = CompletableFuture.supplyAsync(
+                () -> service.tableFor("f5", fast, -3.0, 3.0, L, 0));
+        assertSame(cached, other.get(10, TimeUnit.SECONDS));
+        assertFalse(slowBuild.isDone());
+
+        release.countDown();
+        assertNotNull(slowBuild.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void leastRecentlyUsedTableIsEvicted() {
+        LookupTableService service = new LookupTableService(new RealConverterService(), "auto", 20, 2);
+        FitnessFunction function = new Function5();
+        long enough = 1L << L;
+
+        LookupTable first = service.tableFor("f5", function, -3.0, 3.0, L, enough);
+        LookupTable second = service.tableFor("f5", function, -2.0, 2.0, L, enough);
+        assertSame(first, service.tableFor("f5", function, -3.0, 3.0, L, 0));
+        service.tableFor("f5", function, -1.0, 1.0, L, enough);
+
+        // Sin evaluaciones suficientes solo se devuelven tablas que siguen en caché
+        assertSame(first, service.tableFor("f5", function, -3.0, 3.0, L, 0));
+        assertNull(service.tableFor("f5", function, -2.0, 2.0, L, 0));
+        assertNotSame(second, service.tableFor("f5", function, -2.0, 2.0, L, enough));
+    }
+
+    @Test
+    void failedBuildIsNotCached() {
+        LookupTableService service = new LookupTableService(new RealConverterService(), "always", 20, 2);
+        FitnessFunction failing = new Function5() {
+            @Override
+            public void evaluate(double[] in, double[] out) {
+                throw new IllegalStateException("fallo de prueba");
+            }
+        };
+
+        assertThrows(IllegalStateException.class, () -> service.tableFor("f5", failing, -3.0, 3.0, L, 0));
+        assertNotNull(service.tableFor("f5", new Function5(), -3.0, 3.0, L, 0));
+    }
+}
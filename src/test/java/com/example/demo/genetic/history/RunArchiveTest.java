@@ -0,0 +1,91 @@
+package com.example.demo.genetic.history;
+
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunArchiveTest {
+
+    private static final int L = 8;
+
+    @TempDir
+    Path directory;
+
+    private static Population generation(double... fitness) {
+        Population population = new Population(fitness.length, L);
+        for (int i = 0; i < fitness.length; i++) {
+            population.add(i + 1, 0.0, fitness[i]);
+        }
+        return population;
+    }
+
+    private RunArchive create(boolean deleteOnClose) {
+        return RunArchive.create(directory, L, -3.0, 3.0, new RealConverterService(), deleteOnClose);
+    }
+
+    @Test
+    void readsGenerationsRanked() {
+        RunArchive archive = create(true);
+        try {
+            archive.write(0, generation(1.0, 5.0, 3.0));
+
+            Population read = archive.read(0);
+            assertEquals(3, read.size());
+            assertEquals(1, read.best());
+            assertEquals(2L, read.genes(read.rank(0)));
+            assertEquals(3L, read.genes(read.rank(1)));
+            assertEquals(1.0, read.fitness(read.rank(2)));
+            assertEquals(new RealConverterService().toRealSingle(2L, -3.0, 3.0, L), read.real(read.rank(0)));
+            assertNull(archive.read(1));
+        } finally {
+            archive.close();
+        }
+    }
+
+    @Test
+    void generationsWrittenAfterAReadAreVisible() {
+        RunArchive archive = create(true);
+        try {
+            archive.write(0, generation(2.0, 1.0));
+            assertEquals(2, archive.read(0).size());
+
+            archive.write(1, generation(4.0, 6.0, 5.0));
+            archive.finish();
+
+            Population second = archive.read(1);
+            assertEquals(6.0, second.fitness(second.best()));
+            assertEquals(4.0, second.fitness(0));
+            assertEquals(2.0, archive.read(0).fitness(0));
+            assertEquals(2, archive.getGenerationCount());
+        } finally {
+            archive.close();
+        }
+    }
+
+    @Test
+    void rejectsOutOfOrderWritesAndReadsAfterClose() {
+        RunArchive archive = create(true);
+        archive.write(0, generation(1.0));
+
+        assertThrows(IllegalStateException.class, () -> archive.write(2, generation(1.0)));
+        archive.close();
+        assertThrows(IllegalStateException.class, () -> archive.read(0));
+        assertFalse(Files.exists(archive.getFile()));
+    }
+
+    @Test
+    void keepsFileWhenRequested() {
+        RunArchive archive = create(false);
+        archive.write(0, generation(1.0));
+        archive.finish();
+        archive.close();
+
+        assertTrue(Files.exists(archive.getFile()));
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.genetic.island;
+
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IslandMigrationTest {
+
+    private static final int L = 8;
+
+    private static Island island(int index, Population population) {
+        return new Island(index, null, population);
+    }
+
+    @Test
+    void emigrantsAreCopiesOfTheBestFirst() {
+        Island island = island(0, TestContexts.population(L, 0, 3, 9, 1, 7));
+
+        Population migrants = island.emigrants(2);
+
+        assertEquals(2, migrants.size());
+        assertEquals(1L, migrants.genes(0));
+        assertEquals(3L, migrants.genes(1));
+        migrants.set(0, 99L, 0.0, 0.0);
+        assertEquals(1L, island.getPopulation().genes(1));
+    }
+
+    @Test
+    void immigrantsReplaceTheWorst() {
+        Island island = island(1, TestContexts.population(L, 0, 3, 9, 1, 7));
+        island.receive(0, TestContexts.population(L, 100, 20, 10));
+
+        assertEquals(2, island.immigrate());
+
+        Population population = island.getPopulation();
+        assertEquals(100L, population.genes(2));
+        assertEquals(101L, population.genes(0));
+        assertEquals(1L, population.genes(1));
+        assertEquals(3L, population.genes(3));
+        assertEquals(20.0, population.fitness(population.best()));
+        assertEquals(2, island.getImmigrants());
+        assertEquals(0, island.immigrate());
+    }
+
+    @Test
+    void batchesAreIntegratedBySourceRegardlessOfArrival() {
+        Island arrivedInOrder = island(0, TestContexts.population(L, 0, 1, 2, 3, 4));
+        Island arrivedReversed = island(0, TestContexts.population(L, 0, 1, 2, 3, 4));
+        Population fromOne = TestContexts.population(L, 100, 50);
+        Population fromTwo = TestContexts.population(L, 200, 60);
+
+        arrivedInOrder.receive(1, fromOne);
+        arrivedInOrder.receive(2, fromTwo);
+        arrivedReversed.receive(2, fromTwo);
+        arrivedReversed.receive(1, fromOne);
+        arrivedInOrder.immigrate();
+        arrivedReversed.immigrate();
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(arrivedInOrder.getPopulation().genes(i), arrivedReversed.getPopulation().genes(i));
+        }
+        // La isla 1 ocupa el peor hueco, la 2 el siguiente
+        assertEquals(100L, arrivedInOrder.getPopulation().genes(0));
+        assertEquals(200L, arrivedInOrder.getPopulation().genes(1));
+    }
+
+    @Test
+    void immigrationNeverExceedsPopulationSize() {
+        Island island = island(0, TestContexts.population(L, 0, 1, 2));
+        island.receive(1, TestContexts.population(L, 100, 5, 6, 7));
+
+        assertEquals(2, island.immigrate());
+        assertEquals(2, island.getPopulation().size());
+    }
+
+    @Test
+    void emigrateSharesOneBatchWithEveryTarget() {
+        Island source = island(0, TestContexts.population(L, 0, 1, 5));
+        Island a = island(1, TestContexts.population(L, 10, 0, 0));
+        Island b = island(2, TestContexts.population(L, 20, 0, 0));
+
+        source.emigrate(List.of(a, b), 1);
+        a.immigrate();
+        b.immigrate();
+
+        assertEquals(1L, a.getPopulation().genes(1));
+        assertEquals(1L, b.getPopulation().genes(1));
+    }
+
+    @Test
+    void topologiesNeverTargetTheSource() {
+        assertArrayEquals(new int[]{0}, new RingMigration().targets(3, 4));
+        assertArrayEquals(new int[0], new RingMigration().targets(0, 1));
+        assertArrayEquals(new int[]{0, 1, 3}, new FullyConnectedMigration().targets(2, 4));
+        assertArrayEquals(new int[0], new FullyConnectedMigration().targets(0, 1));
+    }
+}
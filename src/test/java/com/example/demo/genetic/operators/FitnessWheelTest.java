@@ -0,0 +1,107 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ruleta acumulada: la búsqueda binaria elige el mismo individuo que el recorrido lineal y,
+ * con fitness total no positivo, la ruleta cae en la selección al azar.
+ */
+class FitnessWheelTest {
+
+    private static final int L = 8;
+
+    @Test
+    void boundaryPointsPickTheFirstIndividualReachingThem() {
+        // Acumulados 0, 2, 2, 2, 5: los fitness 0 no pueden salir salvo en el punto 0
+        FitnessWheel wheel = FitnessWheel.of(TestContexts.population(L, 0, 0.0, 2.0, 0.0, 0.0, 3.0));
+
+        assertEquals(5.0, wheel.total());
+        assertEquals(0, wheel.spin(0.0));
+        assertEquals(1, wheel.spin(1e-9));
+        assertEquals(1, wheel.spin(2.0));
+        assertEquals(4, wheel.spin(2.0 + 1e-9));
+        assertEquals(4, wheel.spin(5.0));
+        assertEquals(-1, wheel.spin(5.0 + 1e-9));
+        assertEquals(4, wheel.last());
+    }
+
+    @Test
+    void binarySearchMatchesLinearScan() {
+        SplittableRandom random = new SplittableRandom(11);
+        double[] fitness = new double[50];
+        for (int i = 0; i < fitness.length; i++) {
+            // Uno de cada cuatro a cero para forzar acumulados repetidos
+            fitness[i] = random.nextInt(4) == 0 ? 0.0 : random.nextDouble() * 10;
+        }
+        FitnessWheel wheel = FitnessWheel.of(TestContexts.population(L, 0, fitness));
+
+        for (int n = 0; n < 10_000; n++) {
+            double point = random.nextDouble() * wheel.total();
+            assertEquals(linearSpin(fitness, point), wheel.spin(point), "punto " + point);
+        }
+    }
+
+    @Test
+    void negativeFitnessFallsBackToLinearScan() {
+        // Acumulados 3, 2, 4: no monótonos, gana el primero cuyo acumulado alcanza el punto
+        double[] fitness = {3.0, -1.0, 2.0};
+        FitnessWheel wheel = FitnessWheel.of(TestContexts.population(L, 0, fitness));
+
+        assertEquals(4.0, wheel.total());
+        for (double point : new double[]{0.0, 2.0, 2.5, 3.0, 3.5, 4.0}) {
+            assertEquals(linearSpin(fitness, point), wheel.spin(point), "punto " + point);
+        }
+        assertEquals(0, wheel.spin(2.5));
+        assertEquals(2, wheel.spin(3.5));
+    }
+
+    @Test
+    void rouletteWithNonPositiveTotalPicksAtRandom() {
+        Population population = TestContexts.population(L, 0, 1.0, -2.0, 0.0, -1.0);
+        assertTrue(FitnessWheel.of(population).total() <= 0);
+
+        int[] picks = picks(new RouletteSelection().selectPairs(population, 200, context(5)), population.size());
+        int[] again = picks(new RouletteSelection().selectPairs(population, 200, context(5)), population.size());
+
+        assertArrayEquals(picks, again, "misma semilla, misma selección");
+        for (int i = 0; i < population.size(); i++) {
+            assertTrue(picks[i] > 0, "el individuo " + i + " debe poder salir al azar");
+        }
+    }
+
+    private static int linearSpin(double[] fitness, double point) {
+        double running = 0.0;
+        for (int i = 0; i < fitness.length; i++) {
+            running += fitness[i];
+            if (running >= point) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static RunContext context(long seed) {
+        AlgorithmParameters params = TestContexts.params(L, 4);
+        params.setSeed(seed);
+        return TestContexts.context(params);
+    }
+
+    /**
+     * Número de veces que aparece cada individuo (gen i = i) en el grupo de cruce.
+     */
+    static int[] picks(Population matingPool, int populationSize) {
+        int[] counts = new int[populationSize];
+        for (int i = 0; i < matingPool.size(); i++) {
+            counts[(int) matingPool.genes(i)]++;
+        }
+        return counts;
+    }
+}
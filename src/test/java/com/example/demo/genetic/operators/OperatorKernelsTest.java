@@ -0,0 +1,86 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.algorithm.RunContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Núcleos empaquetados de cruce y mutación (posición 0 = bit más significativo).
+ */
+class OperatorKernelsTest {
+
+    private static final int L = 15;
+
+    private static RunContext context(double mutationRate) {
+        AlgorithmParameters params = TestContexts.params(L, 10);
+        params.setMutationRate(mutationRate);
+        return TestContexts.context(params);
+    }
+
+    @Test
+    void singlePointMaskIsANonEmptySuffix() {
+        RunContext context = context(0.0);
+        SinglePointCrossoverStrategy single = new SinglePointCrossoverStrategy();
+        for (int i = 0; i < 500; i++) {
+            long mask = single.crossoverMask(L, context);
+            // Sufijo contiguo de bits bajos, sin llegar a cubrir todo el cromosoma
+            assertTrue(mask > 0 && mask < (1L << (L - 1)), "máscara: " + Long.toBinaryString(mask));
+            assertEquals(0, mask & (mask + 1));
+        }
+    }
+
+    @Test
+    void doublePointMaskCoversPositionsThreeToEight() {
+        long mask = new DoublePointCrossoverStrategy().crossoverMask(L, context(0.0));
+
+        assertEquals(0b000111111000000L, mask);
+        assertThrows(IllegalArgumentException.class, () -> new DoublePointCrossoverStrategy().crossoverMask(8, context(0.0)));
+    }
+
+    @Test
+    void uniformMaskStaysWithinLength() {
+        RunContext context = context(0.0);
+        UniformCrossoverStrategy uniform = new UniformCrossoverStrategy();
+        for (int i = 0; i < 500; i++) {
+            assertEquals(0, uniform.crossoverMask(L, context) >>> L);
+        }
+    }
+
+    @Test
+    void simpleMutationFlipsEveryBitAtRateOne() {
+        long genes = 0b101010101010101L;
+
+        assertEquals(genes ^ ((1L << L) - 1), new SimpleMutation(true).mutate(genes, L, context(1.0)));
+        assertEquals(genes, new SimpleMutation(true).mutate(genes, L, context(0.0)));
+    }
+
+    @Test
+    void swapMutationPreservesBitCount() {
+        RunContext context = context(1.0);
+        SwapMutation swap = new SwapMutation();
+        long genes = 0b110000000000011L;
+        for (int i = 0; i < 500; i++) {
+            long mutated = swap.mutate(genes, L, context);
+            assertEquals(Long.bitCount(genes), Long.bitCount(mutated));
+            int changed = Long.bitCount(genes ^ mutated);
+            assertTrue(changed == 0 || changed == 2, "bits cambiados: " + changed);
+        }
+    }
+
+    @Test
+    void inversiveMutationReversesAContiguousSegment() {
+        RunContext context = context(1.0);
+        InversiveMutation inversive = new InversiveMutation();
+        long genes = 0b100000000000000L;
+        for (int i = 0; i < 500; i++) {
+            long mutated = inversive.mutate(genes, L, context);
+            assertEquals(Long.bitCount(genes), Long.bitCount(mutated));
+            assertEquals(0, mutated >>> L);
+        }
+        // Con tasa 0 no consume más que el sorteo de aplicación y no cambia nada
+        assertEquals(genes, inversive.mutate(genes, L, context(0.0)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplacementStrategyTest {
+
+    private static final int L = 8;
+
+    private static RunContext context(int eliteCount, double steadyStateRate) {
+        AlgorithmParameters params = TestContexts.params(L, 6);
+        params.setEliteCount(eliteCount);
+        params.setSteadyStateRate(steadyStateRate);
+        return TestContexts.context(params);
+    }
+
+    private static long[] genes(Population population) {
+        long[] genes = new long[population.size()];
+        for (int k = 0; k < genes.length; k++) {
+            genes[k] = population.genes(population.rank(k));
+        }
+        return genes;
+    }
+
+    @Test
+    void generationalBreedsOnlyForNonElitePlaces() {
+        GenerationalReplacement generational = new GenerationalReplacement();
+
+        assertEquals(6, generational.offspringCount(6, context(0, 0.1)));
+        assertEquals(4, generational.offspringCount(6, context(2, 0.1)));
+        assertEquals(0, generational.offspringCount(6, context(9, 0.1)));
+    }
+
+    @Test
+    void generationalKeepsElitesAheadOfOffspring() {
+        Population parents = TestContexts.population(L, 0, 1, 6, 2, 5, 3, 4);
+        Population offspring = TestContexts.population(L, 100, 0.5, 0.5, 0.5, 0.5);
+
+        Population next = new GenerationalReplacement().replace(parents, offspring, context(2, 0.1));
+
+        assertEquals(6, next.size());
+        assertEquals(1L, next.genes(0));
+        assertEquals(3L, next.genes(1));
+        for (int i = 2; i < 6; i++) {
+            assertEquals(100L + i - 2, next.genes(i));
+        }
+    }
+
+    @Test
+    void generationalWithoutElitesReusesOffspring() {
+        Population parents = TestContexts.population(L, 0, 1, 2, 3, 4, 5, 6);
+        Population offspring = TestContexts.population(L, 100, 1, 1, 1, 1, 1, 1, 1);
+
+        Population next = new GenerationalReplacement().replace(parents, offspring, context(0, 0.1));
+
+        assertSame(offspring, next);
+        assertEquals(6, next.size());
+    }
+
+    @Test
+    void muPlusLambdaKeepsTheBestOfBoth() {
+        Population parents = TestContexts.population(L, 0, 1, 6, 2, 5, 3, 4);
+        Population offspring = TestContexts.population(L, 100, 7, 0, 5.5, 0, 0, 0);
+        parents.rankByFitness();
+
+        MuPlusLambdaReplacement muPlusLambda = new MuPlusLambdaReplacement();
+        Population next = muPlusLambda.replace(parents, offspring, context(0, 0.1));
+
+        assertEquals(6, muPlusLambda.offspringCount(6, context(0, 0.1)));
+        // Fusión ordenada: 7 (hijo), 6, 5.5 (hijo), 5, 4, 3
+        assertArrayEquals(new long[]{100, 1, 102, 3, 5, 4}, genes(next));
+        assertEquals(100L, next.genes(0));
+    }
+
+    @Test
+    void steadyStateReplacesOnlyTheWorstParents() {
+        Population parents = TestContexts.population(L, 0, 1, 6, 2, 5, 3, 4);
+        Population offspring = TestContexts.population(L, 100, 0.5, 10);
+        parents.rankByFitness();
+        RunContext context = context(0, 0.34);
+
+        SteadyStateReplacement steadyState = new SteadyStateReplacement();
+        Population next = steadyState.replace(parents, offspring, context);
+
+        assertEquals(2, steadyState.offspringCount(6, context));
+        assertEquals(2, steadyState.offspringCount(6, context(0, 0.0)));
+        assertEquals(6, steadyState.offspringCount(6, context(0, 1.0)));
+        // Sobreviven los 4 mejores padres; los 2 hijos entran aunque uno sea peor que todos
+        assertArrayEquals(new long[]{101, 1, 3, 5, 4, 100}, genes(next));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mutación de la generación completa por salto geométrico ({@code genetic.mutation.skip-ahead}).
+ */
+class SkipAheadMutationTest {
+
+    private static final int L = 20;
+    private static final int SIZE = 2000;
+
+    private static RunContext context(double mutationRate) {
+        AlgorithmParameters params = TestContexts.params(L, SIZE);
+        params.setMutationRate(mutationRate);
+        return TestContexts.context(params);
+    }
+
+    private static Population zeros() {
+        Population population = new Population(SIZE, L);
+        for (int i = 0; i < SIZE; i++) {
+            population.add(0L, 0.0, 0.0);
+        }
+        return population;
+    }
+
+    @Test
+    void rateZeroLeavesGenerationUntouched() {
+        Population generation = zeros();
+        int[] calls = new int[1];
+
+        new SimpleMutation(true).mutateGeneration(generation, context(0.0), (i, before, after) -> calls[0]++);
+
+        assertEquals(0, calls[0]);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(0L, generation.genes(i));
+        }
+    }
+
+    @Test
+    void rateOneFlipsEveryBit() {
+        Population generation = zeros();
+
+        new SimpleMutation(true).mutateGeneration(generation, context(1.0), (i, before, after) -> { });
+
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals((1L << L) - 1, generation.genes(i));
+        }
+    }
+
+    @Test
+    void listenerSeesEveryChangedIndividualOnce() {
+        Population generation = zeros();
+        long[] seen = new long[SIZE];
+        int[] calls = new int[SIZE];
+
+        new SimpleMutation(true).mutateGeneration(generation, context(0.01), (i, before, after) -> {
+            assertEquals(0L, before);
+            assertNotEquals(before, after);
+            seen[i] = after;
+            calls[i]++;
+        });
+
+        int changed = 0;
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(seen[i], generation.genes(i));
+            assertTrue(calls[i] <= 1);
+            changed += calls[i];
+        }
+        assertTrue(changed > 0);
+    }
+
+    @Test
+    void flipRateMatchesBitByBitMutation() {
+        double p = 0.05;
+        long expected = Math.round(p * SIZE * L);
+        // Binomial(40000, 0.05): desviación típica ≈ 44 bits
+        double tolerance = 5 * Math.sqrt(SIZE * L * p * (1 - p));
+
+        for (boolean skipAhead : new boolean[]{true, false}) {
+            Population generation = zeros();
+            long[] perPosition = new long[L];
+            new SimpleMutation(skipAhead).mutateGeneration(generation, context(p), (i, before, after) -> { });
+
+            long flipped = 0;
+            for (int i = 0; i < SIZE; i++) {
+                long genes = generation.genes(i);
+                flipped += Long.bitCount(genes);
+                for (int b = 0; b < L; b++) {
+                    perPosition[b] += (genes >>> b) & 1;
+                }
+            }
+            assertEquals(expected, flipped, tolerance, "saltos=" + skipAhead);
+            // Ninguna posición queda sin mutar ni concentra los cambios
+            for (int b = 0; b < L; b++) {
+                assertEquals(p * SIZE, perPosition[b], 5 * Math.sqrt(SIZE * p * (1 - p)), "bit " + b);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.demo.genetic.operators;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.algorithm.RunContext;
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Muestreo universal estocástico: cada individuo recibe ⌊e⌋ o ⌈e⌉ copias, la selección es
+ * reproducible con la misma semilla y las parejas no repiten individuo si hay alternativa.
+ */
+class StochasticUniversalSamplingTest {
+
+    private static final int L = 8;
+
+    private static RunContext context(long seed) {
+        AlgorithmParameters params = TestContexts.params(L, 5);
+        params.setSeed(seed);
+        return TestContexts.context(params);
+    }
+
+    @Test
+    void copiesStayWithinFloorAndCeilingOfExpected() {
+        double[] fitness = {1.0, 0.0, 2.5, 4.0, 0.5};
+        Population population = TestContexts.population(L, 0, fitness);
+        int numPairs = 7;
+        double total = 8.0;
+
+        for (long seed = 0; seed < 50; seed++) {
+            int[] copies = FitnessWheelTest.picks(
+                    new StochasticUniversalSampling().selectPairs(population, numPairs, context(seed)), population.size());
+
+            for (int i = 0; i < fitness.length; i++) {
+                double expected = fitness[i] / total * numPairs * 2;
+                assertTrue(copies[i] >= Math.floor(expected) && copies[i] <= Math.ceil(expected),
+                        "semilla " + seed + ": individuo " + i + " con " + copies[i] + " copias, esperadas " + expected);
+            }
+        }
+    }
+
+    @Test
+    void sameSeedSelectsTheSamePairs() {
+        Population population = TestContexts.population(L, 0, 1.0, 2.0, 3.0, 4.0, 5.0);
+
+        Population first = new StochasticUniversalSampling().selectPairs(population, 10, context(3));
+        Population second = new StochasticUniversalSampling().selectPairs(population, 10, context(3));
+
+        assertEquals(20, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.genes(i), second.genes(i));
+        }
+    }
+
+    @Test
+    void pairsAvoidTheSameIndividualWhenPossible() {
+        // Esperadas 4 copias de cada uno: sin reparar, el barajado deja a menudo parejas repetidas
+        Population population = TestContexts.population(L, 0, 1.0, 1.0, 1.0);
+
+        for (long seed = 0; seed < 50; seed++) {
+            Population pool = new StochasticUniversalSampling().selectPairs(population, 6, context(seed));
+            for (int i = 0; i < pool.size(); i += 2) {
+                assertNotEquals(pool.genes(i), pool.genes(i + 1), "semilla " + seed + ", pareja " + i / 2);
+            }
+        }
+    }
+
+    @Test
+    void nonPositiveTotalPicksAtRandom() {
+        Population population = TestContexts.population(L, 0, 0.0, -1.0, 0.0, -3.0);
+
+        int[] copies = FitnessWheelTest.picks(
+                new StochasticUniversalSampling().selectPairs(population, 200, context(9)), population.size());
+
+        assertEquals(400, copies[0] + copies[1] + copies[2] + copies[3]);
+        for (int i = 0; i < population.size(); i++) {
+            assertTrue(copies[i] > 0, "el individuo " + i + " debe poder salir al azar");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.genetic.population;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * El radix y la selección parcial deben coincidir con la ordenación por comparador que sustituyen.
+ */
+class FitnessOrderTest {
+
+    private static final double[] SPECIAL = {
+            0.0, -0.0, 1.0, -1.0, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, 1e-300, 64.0, 64.0};
+
+    private static double[] fitness(int size, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] fitness = new double[size];
+        for (int i = 0; i < size; i++) {
+            fitness[i] = switch (random.nextInt(3)) {
+                case 0 -> SPECIAL[random.nextInt(SPECIAL.length)];
+                // Pocos valores distintos: muchos empates
+                case 1 -> random.nextInt(5);
+                default -> random.nextDouble(-100, 100);
+            };
+        }
+        return fitness;
+    }
+
+    private static int[] byComparator(double[] fitness) {
+        return IntStream.range(0, fitness.length).boxed()
+                .sorted(Comparator.comparing((Integer i) -> fitness[i], (a, b) -> Double.compare(b, a))
+                        .thenComparing(i -> i))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    @Test
+    void radixMatchesComparatorAcrossSizes() {
+        for (int size : new int[]{1, 2, 47, 48, 49, 300, 5000}) {
+            double[] fitness = fitness(size, size);
+            int[] rank = new int[size];
+
+            FitnessOrder.sortDescending(fitness, size, rank);
+
+            assertArrayEquals(byComparator(fitness), rank, "tamaño " + size);
+        }
+    }
+
+    @Test
+    void descendingKeyReversesDoubleCompare() {
+        for (double a : SPECIAL) {
+            for (double b : SPECIAL) {
+                int expected = Integer.signum(Double.compare(b, a));
+                int actual = Integer.signum(Long.compareUnsigned(FitnessOrder.descendingKey(a), FitnessOrder.descendingKey(b)));
+                assertEquals(expected, actual, a + " vs " + b);
+            }
+        }
+    }
+
+    @Test
+    void topKMatchesFullRanking() {
+        double[] fitness = fitness(500, 7);
+        int[] expected = byComparator(fitness);
+
+        for (int k : new int[]{1, 5, 32, 33, 500, 600}) {
+            Population population = new Population(fitness.length, 8);
+            for (double f : fitness) {
+                population.add(0L, 0.0, f);
+            }
+            int[] top = population.topK(k);
+            assertArrayEquals(Arrays.copyOf(expected, Math.min(k, fitness.length)), top, "k = " + k);
+        }
+    }
+
+    @Test
+    void bestAgreesWithRankZero() {
+        double[] fitness = fitness(200, 11);
+        Population population = new Population(fitness.length, 8);
+        for (double f : fitness) {
+            population.add(0L, 0.0, f);
+        }
+
+        int best = population.best();
+        population.rankByFitness();
+
+        assertEquals(population.rank(0), best);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.demo.genetic.population;
+
+import com.example.demo.entities.Individual;
+import com.example.demo.genetic.chromosome.Chromosome;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PopulationTest {
+
+    private static Population sample() {
+        Population population = new Population(5, 4);
+        population.add(0b0001L, 1.0, 4.0);
+        population.add(0b0010L, 2.0, 9.0);
+        population.add(0b0011L, 3.0, 1.0);
+        population.add(0b0100L, 4.0, 9.0);
+        return population;
+    }
+
+    @Test
+    void statsFollowAdds() {
+        Population population = sample();
+
+        assertEquals(4, population.size());
+        assertEquals(5, population.capacity());
+        assertEquals(1, population.best());
+        assertEquals(23.0 / 4, population.meanFitness(), 1e-12);
+        assertEquals(1.0, population.minFitness());
+    }
+
+    @Test
+    void statsAreRecomputedAfterSet() {
+        Population population = sample();
+        population.set(2, 0b1111L, 15.0, 20.0);
+
+        assertEquals(2, population.best());
+        assertEquals(42.0 / 4, population.meanFitness(), 1e-12);
+        assertEquals(4.0, population.minFitness());
+        assertEquals(Chromosome.parse("1111"), population.chromosome(2));
+    }
+
+    @Test
+    void truncateDropsTailAndStats() {
+        Population population = sample();
+        population.truncate(1);
+
+        assertEquals(1, population.size());
+        assertEquals(0, population.best());
+        assertEquals(4.0, population.meanFitness());
+        population.truncate(3);
+        assertEquals(1, population.size());
+    }
+
+    @Test
+    void addFromCopiesAllColumns() {
+        Population source = sample();
+        Population target = new Population(2, 4);
+        target.addFrom(source, 3);
+
+        assertEquals(0b0100L, target.genes(0));
+        assertEquals(4.0, target.real(0));
+        assertEquals(9.0, target.fitness(0));
+    }
+
+    @Test
+    void fullPopulationRejectsAdd() {
+        Population population = new Population(1, 4);
+        population.add(1L, 0.0, 0.0);
+
+        assertThrows(IllegalStateException.class, () -> population.add(2L, 0.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new Population(1, 65));
+        assertThrows(IllegalStateException.class, () -> new Population(1, 4).best());
+    }
+
+    @Test
+    void toIndividualsIsSortedWithStableTies() {
+        List<Individual> individuals = sample().toIndividuals(7);
+
+        assertEquals(List.of(9.0, 9.0, 4.0, 1.0), individuals.stream().map(Individual::getAdaptative).toList());
+        assertEquals(2.0, individuals.get(0).getReal());
+        assertEquals(4.0, individuals.get(1).getReal());
+    }
+
+    @Test
+    void markRankedInOrderTrustsInsertionOrder() {
+        Population population = new Population(3, 4);
+        population.add(1L, 0.0, 5.0);
+        population.add(2L, 0.0, 3.0);
+        population.add(3L, 0.0, 1.0);
+        population.markRankedInOrder();
+
+        assertEquals(0, population.best());
+        assertEquals(2, population.rank(2));
+    }
+}
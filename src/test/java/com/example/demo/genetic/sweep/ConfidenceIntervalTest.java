@@ -0,0 +1,97 @@
+package com.example.demo.genetic.sweep;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Intervalos de Wilson en los extremos y continuidad del cuantil t entre la tabla y el desarrollo
+ * de Cornish-Fisher.
+ */
+class ConfidenceIntervalTest {
+
+    private static final double Z2 = 1.959964 * 1.959964;
+
+    @Test
+    void wilsonWithNoSuccessesStaysInsideZeroToOne() {
+        int n = 10;
+        ConfidenceInterval interval = ConfidenceInterval.ofProportion(0, n);
+
+        assertEquals(0.0, interval.getEstimate());
+        assertEquals(0.0, interval.getLower(), 1e-12);
+        // Con p = 0 el límite superior de Wilson es z² / (n + z²)
+        assertEquals(Z2 / (n + Z2), interval.getUpper(), 1e-9);
+        assertEquals(n, interval.getSamples());
+    }
+
+    @Test
+    void wilsonWithAllSuccessesMirrorsNoSuccesses() {
+        int n = 10;
+        ConfidenceInterval none = ConfidenceInterval.ofProportion(0, n);
+        ConfidenceInterval all = ConfidenceInterval.ofProportion(n, n);
+
+        assertEquals(1.0, all.getEstimate());
+        assertEquals(1.0, all.getUpper(), 1e-12);
+        assertEquals(1.0 - none.getUpper(), all.getLower(), 1e-12);
+        assertTrue(all.getLower() < 1.0);
+    }
+
+    @Test
+    void noTrialsOrSamplesGiveNaN() {
+        assertTrue(Double.isNaN(ConfidenceInterval.ofProportion(0, 0).getEstimate()));
+        assertTrue(Double.isNaN(ConfidenceInterval.ofMean(new double[0], 0).getLower()));
+        assertEquals(0, ConfidenceInterval.ofMean(new double[0], 0).getSamples());
+    }
+
+    @Test
+    void singleSampleIsItsOwnInterval() {
+        ConfidenceInterval interval = ConfidenceInterval.ofMean(new double[]{3.5, 99.0}, 1);
+
+        assertEquals(3.5, interval.getEstimate());
+        assertEquals(3.5, interval.getLower());
+        assertEquals(3.5, interval.getUpper());
+    }
+
+    @Test
+    void tQuantileIsContinuousAcrossTableBoundary() {
+        double t30 = impliedT(31);
+        double t31 = impliedT(32);
+
+        // Valores de referencia de la t de Student: t(0.975; 30) = 2.0423, t(0.975; 31) = 2.0395
+        assertEquals(2.0423, t30, 1e-3);
+        assertEquals(2.0395, t31, 1e-3);
+        assertTrue(t31 < t30, t31 + " >= " + t30);
+    }
+
+    @Test
+    void tQuantileTendsToNormalForManySamples() {
+        // t(0.975; 999) = 1.9623
+        assertEquals(1.9623, impliedT(1000), 1e-3);
+        assertTrue(impliedT(1000) > 1.959964);
+    }
+
+    /**
+     * Cuantil t usado por {@link ConfidenceInterval#ofMean} con {@code n} muestras, despejado de
+     * la semianchura del intervalo.
+     */
+    private static double impliedT(int n) {
+        double[] values = new double[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i % 3 - 1.0 + i * 0.01;
+        }
+        double mean = 0.0;
+        for (double value : values) {
+            mean += value;
+        }
+        mean /= n;
+        double squares = 0.0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        double standardError = Math.sqrt(squares / (n - 1) / n);
+
+        ConfidenceInterval interval = ConfidenceInterval.ofMean(values, n);
+        assertEquals(mean, interval.getEstimate(), 1e-12);
+        return (interval.getUpper() - interval.getEstimate()) / standardError;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.genetic.sweep;
+
+import com.example.demo.dto.AlgorithmParameters;
+import com.example.demo.dto.SweepRequest;
+import com.example.demo.genetic.TestContexts;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Barridos asíncronos: validación de la rejilla, admisión, progreso consultable, cancelación y
+ * límite de ejecuciones.
+ */
+@SpringBootTest
+class SweepServiceTest {
+
+    @Autowired
+    private SweepService sweepService;
+
+    @Autowired
+    private Validator validator;
+
+    @Test
+    void sweepRunsInTheBackgroundAndAggregatesEveryCombination() throws InterruptedException {
+        SweepRequest request = request(20, 2);
+        request.setSelectionTypes(List.of("tournament", "roulette"));
+
+        SweepProgress submitted = sweepService.submit(request);
+        assertTrue(submitted.getId().startsWith("sweep-"));
+        assertEquals(4, submitted.getTotalRuns());
+
+        SweepProgress done = awaitCompletion(submitted.getId());
+        assertEquals("Completado", done.getStatus());
+        assertEquals(4, done.getCompletedRuns());
+        assertEquals(2, done.getResults().size());
+        for (SweepResult result : done.getResults()) {
+            assertEquals(2, result.getRuns());
+        }
+    }
+
+    @Test
+    void cancelledSweepStopsStartingRuns() throws InterruptedException {
+        SweepRequest request = request(300, 200);
+        request.getBase().setMutationRate(0.0);
+
+        SweepProgress submitted = sweepService.submit(request);
+        assertNotNull(sweepService.cancel(submitted.getId()));
+
+        SweepProgress done = awaitCompletion(submitted.getId());
+        assertTrue(done.getStatus().startsWith("Cancelado"), done.getStatus());
+        assertTrue(done.getCompletedRuns() < done.getTotalRuns());
+    }
+
+    @Test
+    void tooManyRunsAreRejectedBeforeScheduling() {
+        SweepRequest request = request(20, 1000);
+        request.setMutationRates(List.of(0.01, 0.02, 0.05, 0.1, 0.2, 0.3));
+
+        assertThrows(IllegalArgumentException.class, () -> sweepService.submit(request));
+    }
+
+    @Test
+    void unknownOperatorKeysAreRejectedBeforeScheduling() {
+        SweepRequest crossover = request(20, 1);
+        crossover.setCrossoverTypes(List.of("single", "tres-puntos"));
+        SweepRequest selection = request(20, 1);
+        selection.setSelectionTypes(List.of("ruleta"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> sweepService.submit(crossover));
+        assertTrue(e.getMessage().contains("tres-puntos"), e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> sweepService.submit(selection));
+    }
+
+    @Test
+    void ratesOutsideZeroToOneFailValidation() {
+        SweepRequest valid = request(20, 1);
+        valid.setMutationRates(List.of(0.0, 0.5, 1.0));
+        SweepRequest mutation = request(20, 1);
+        mutation.setMutationRates(List.of(0.01, 1.5));
+        SweepRequest crossover = request(20, 1);
+        crossover.setCrossoverRates(List.of(-0.1));
+
+        assertTrue(validator.validate(valid).isEmpty());
+        assertEquals(1, validator.validate(mutation).size());
+        assertEquals(1, validator.validate(crossover).size());
+    }
+
+    @Test
+    void unknownSweepHasNoProgress() {
+        assertNull(sweepService.progress("sweep-inexistente"));
+        assertNull(sweepService.cancel("sweep-inexistente"));
+    }
+
+    private static SweepRequest request(int generations, int seeds) {
+        AlgorithmParameters base = TestContexts.params(12, 30);
+        base.setNumGenerations(generations);
+        SweepRequest request = new SweepRequest();
+        request.setBase(base);
+        request.setSeeds(seeds);
+        return request;
+    }
+
+    private SweepProgress awaitCompletion(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        SweepProgress progress = sweepService.progress(id);
+        while (!progress.isCompleted()) {
+            assertTrue(System.nanoTime() < deadline, "el barrido no terminó: " + progress.getStatus());
+            Thread.sleep(20);
+            progress = sweepService.progress(id);
+        }
+        return progress;
+    }
+}
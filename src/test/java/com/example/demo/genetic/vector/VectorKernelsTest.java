@@ -0,0 +1,97 @@
+package com.example.demo.genetic.vector;
+
+import com.example.demo.conversion.RealConverterService;
+import com.example.demo.genetic.function.FitnessFunction;
+import com.example.demo.genetic.function.Function2;
+import com.example.demo.genetic.function.Function5;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Los kernels SIMD y las evaluaciones por lotes dan lo mismo que la versión escalar, también en
+ * las posiciones finales que no llenan un vector completo y sin tocar nada fuera de [from, to).
+ */
+class VectorKernelsTest {
+
+    private static final double TOLERANCE = 1e-12;
+    // Cubre varios vectores completos más todos los restos posibles hasta 512 bits (8 doubles)
+    private static final int MAX_LENGTH = 40;
+
+    @Test
+    void vectorApiIsEnabledInTests() {
+        assertTrue(VectorSupport.isAvailable(), "Las pruebas se ejecutan con --add-modules jdk.incubator.vector");
+    }
+
+    @Test
+    void function2BatchMatchesScalar() {
+        assertBatchMatchesScalar(new Function2(), 2.0, 12.0);
+    }
+
+    @Test
+    void function5BatchMatchesScalar() {
+        assertBatchMatchesScalar(new Function5(), -3.0, 3.0);
+    }
+
+    @Test
+    void decodeMatchesScalarConversion() {
+        RealConverterService converter = new RealConverterService();
+        SplittableRandom random = new SplittableRandom(3);
+        int L = 20;
+        for (int from : new int[]{0, 3}) {
+            for (int length = 0; length <= MAX_LENGTH; length++) {
+                long[] genes = new long[from + length + 2];
+                for (int i = 0; i < genes.length; i++) {
+                    genes[i] = random.nextLong(1L << L);
+                }
+                double[] out = filledWithNaN(genes.length);
+
+                converter.toReal(genes, out, from, from + length, -3.0, 3.0, L);
+
+                for (int i = 0; i < out.length; i++) {
+                    if (i < from || i >= from + length) {
+                        assertTrue(Double.isNaN(out[i]), "posición " + i + " fuera del rango modificada");
+                    } else {
+                        assertClose(converter.toRealSingle(genes[i], -3.0, 3.0, L), out[i], "gen " + genes[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void assertBatchMatchesScalar(FitnessFunction function, double xmin, double xmax) {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int from : new int[]{0, 3}) {
+            for (int length = 0; length <= MAX_LENGTH; length++) {
+                double[] in = new double[from + length + 2];
+                for (int i = 0; i < in.length; i++) {
+                    in[i] = xmin + random.nextDouble() * (xmax - xmin);
+                }
+                double[] out = filledWithNaN(in.length);
+
+                function.evaluate(in, out, from, from + length);
+
+                for (int i = 0; i < out.length; i++) {
+                    if (i < from || i >= from + length) {
+                        assertTrue(Double.isNaN(out[i]), "posición " + i + " fuera del rango modificada");
+                    } else {
+                        assertClose(function.evaluate(in[i]), out[i], "x = " + in[i] + ", longitud " + length);
+                    }
+                }
+            }
+        }
+    }
+
+    private static double[] filledWithNaN(int length) {
+        double[] values = new double[length];
+        Arrays.fill(values, Double.NaN);
+        return values;
+    }
+
+    private static void assertClose(double expected, double actual, String message) {
+        assertEquals(expected, actual, TOLERANCE * Math.max(1.0, Math.abs(expected)), message);
+    }
+}
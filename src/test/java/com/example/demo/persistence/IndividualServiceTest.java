@@ -0,0 +1,69 @@
+package com.example.demo.persistence;
+
+import com.example.demo.genetic.TestContexts;
+import com.example.demo.genetic.population.Population;
+import com.example.demo.repository.IndividualView;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Inserción por lotes JDBC contra el esquema que genera Hibernate en H2: fija los nombres de
+ * columna entrecomillados ({@code "BINARY"}, {@code "REAL"}) que usa {@link IndividualService}.
+ */
+@DataJpaTest
+@Import(IndividualService.class)
+@TestPropertySource(properties = "genetic.persistence.batch-size=3")
+class IndividualServiceTest {
+
+    private static final int L = 8;
+
+    @Autowired
+    private IndividualService individualService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generationRoundTripsAcrossSeveralBatches() {
+        // 7 individuos con lotes de 3: dos lotes completos y uno parcial
+        Population population = TestContexts.population(L, 10, 0.5, 2.5, 1.5, 4.0, 3.0, 0.0, 3.5);
+
+        assertEquals(7, individualService.saveGeneration("run-1", 4, population));
+
+        List<IndividualView> page = individualService.findGenerationPage("run-1", 4, 0, 10);
+        assertEquals(7, page.size());
+        assertEquals("00001101", page.get(0).getBinary());
+        assertEquals(4.0, page.get(0).getAdaptative());
+        assertEquals("00001111", page.get(6).getBinary());
+        assertEquals(0.0, page.get(6).getAdaptative());
+    }
+
+    @Test
+    void quotedColumnsMatchTheGeneratedSchema() {
+        Population population = new Population(1, L);
+        population.add(0b1010_0101L, -1.25, 7.5);
+        individualService.saveGeneration("run-2", 0, population);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT run_id, \"BINARY\", \"REAL\", adaptative, generation FROM individual WHERE run_id = ?", "run-2");
+        assertEquals("10100101", row.get("BINARY"));
+        assertEquals(-1.25, ((Number) row.get("REAL")).doubleValue());
+        assertEquals(7.5, ((Number) row.get("ADAPTATIVE")).doubleValue());
+        assertEquals(0, ((Number) row.get("GENERATION")).intValue());
+    }
+
+    @Test
+    void emptyGenerationWritesNothing() {
+        assertEquals(0, individualService.saveGeneration("run-3", 0, new Population(0, L)));
+        assertTrue(individualService.findGenerationPage("run-3", 0, 0, 10).isEmpty());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.persistence;
+
+import com.example.demo.genetic.population.Population;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cola de persistencia asíncrona: con la cola llena quien persiste espera (contrapresión) y
+ * las generaciones se guardan en orden.
+ */
+class RunPersistenceServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstStarted = new CountDownLatch(1);
+    private final List<Integer> saved = new CopyOnWriteArrayList<>();
+    private RunPersistenceService service;
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void fullQueueBlocksTheCallerUntilThereIsRoom() throws Exception {
+        service = service(1);
+        service.persist("run", 0, new Population(0, 8));
+        assertTrue(firstStarted.await(10, TimeUnit.SECONDS));
+        service.persist("run", 1, new Population(0, 8));
+
+        Thread producer = new Thread(() -> service.persist("run", 2, new Population(0, 8)));
+        producer.start();
+        producer.join(300);
+        assertTrue(producer.isAlive(), "con la cola llena persist debe esperar");
+        assertEquals(2, service.getPending());
+
+        release.countDown();
+        producer.join(10_000);
+        assertFalse(producer.isAlive());
+        service.shutdown();
+        assertEquals(List.of(0, 1, 2), saved);
+    }
+
+    @Test
+    void interruptedWhileWaitingIsRejected() throws Exception {
+        service = service(1);
+        service.persist("run", 0, new Population(0, 8));
+        assertTrue(firstStarted.await(10, TimeUnit.SECONDS));
+        service.persist("run", 1, new Population(0, 8));
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                service.persist("run", 2, new Population(0, 8));
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        producer.start();
+        producer.join(300);
+        producer.interrupt();
+        producer.join(10_000);
+
+        assertInstanceOf(RejectedExecutionException.class, failure.get());
+        release.countDown();
+        service.shutdown();
+        assertEquals(List.of(0, 1), saved);
+    }
+
+    @Test
+    void disabledServiceDoesNothing() {
+        service = new RunPersistenceService(new StaticListableBeanFactory().getBeanProvider(IndividualService.class),
+                false, 1);
+        service.persist("run", 0, new Population(0, 8));
+
+        assertFalse(service.isEnabled());
+        assertEquals(0, service.getPending());
+    }
+
+    private RunPersistenceService service(int queueCapacity) {
+        IndividualService individuals = new IndividualService(null, null, 1) {
+            @Override
+            public int saveGeneration(String runId, int generation, Population population) {
+                firstStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                saved.add(generation);
+                return population.size();
+            }
+        };
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(Map.of("individualService", individuals));
+        return new RunPersistenceService(beans.getBeanProvider(IndividualService.class), true, queueCapacity);
+    }
+}
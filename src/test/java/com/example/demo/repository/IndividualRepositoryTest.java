@@ -0,0 +1,99 @@
+package com.example.demo.repository;
+
+import com.example.demo.entities.Individual;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Consultas paginadas con proyección y agregados por generación calculados en SQL.
+ */
+@DataJpaTest
+class IndividualRepositoryTest {
+
+    @Autowired
+    private IndividualRepository individualRepository;
+
+    @BeforeEach
+    void seed() {
+        List<Individual> individuals = new ArrayList<>();
+        // Generación 0: fitness 1..5 en orden desordenado; generación 1: 10, 20, 30
+        double[][] fitness = {{3.0, 1.0, 5.0, 2.0, 4.0}, {20.0, 10.0, 30.0}};
+        for (int gen = 0; gen < fitness.length; gen++) {
+            for (int i = 0; i < fitness[gen].length; i++) {
+                individuals.add(individual("run-a", gen, i, fitness[gen][i]));
+            }
+        }
+        individuals.add(individual("run-b", 0, 0, 99.0));
+        individualRepository.saveAll(individuals);
+    }
+
+    @Test
+    void generationPageIsSortedByFitnessDescendingWithinBounds() {
+        Slice<IndividualView> first = individualRepository.findByRunIdAndGenerationOrderByAdaptativeDesc(
+                "run-a", 0, PageRequest.of(0, 2));
+        Slice<IndividualView> last = individualRepository.findByRunIdAndGenerationOrderByAdaptativeDesc(
+                "run-a", 0, PageRequest.of(2, 2));
+
+        assertEquals(List.of(5.0, 4.0), fitness(first));
+        assertTrue(first.hasNext());
+        assertEquals(List.of(1.0), fitness(last));
+        assertFalse(last.hasNext());
+        assertTrue(individualRepository.findByRunIdAndGenerationOrderByAdaptativeDesc(
+                "run-a", 0, PageRequest.of(3, 2)).getContent().isEmpty());
+    }
+
+    @Test
+    void runPageOrdersByGenerationThenFitness() {
+        Slice<IndividualView> page = individualRepository.findByRunIdOrderByGenerationAscAdaptativeDesc(
+                "run-a", PageRequest.of(1, 4));
+
+        // Posiciones 4..7: el último de la generación 0 y los tres de la generación 1
+        assertEquals(List.of(1.0, 30.0, 20.0, 10.0), fitness(page));
+        assertFalse(page.hasNext());
+        assertEquals("00000010", page.getContent().get(1).getBinary());
+    }
+
+    @Test
+    void aggregatesBestAverageAndWorstPerGeneration() {
+        List<GenerationAggregate> aggregates = individualRepository.aggregateByGeneration("run-a");
+
+        assertEquals(2, aggregates.size());
+        GenerationAggregate first = aggregates.get(0);
+        assertEquals(0, first.getGeneration());
+        assertEquals(5, first.getCount());
+        assertEquals(5.0, first.getBest());
+        assertEquals(3.0, first.getAverage(), 1e-12);
+        assertEquals(1.0, first.getWorst());
+        GenerationAggregate second = aggregates.get(1);
+        assertEquals(1, second.getGeneration());
+        assertEquals(3, second.getCount());
+        assertEquals(30.0, second.getBest());
+        assertEquals(20.0, second.getAverage(), 1e-12);
+        assertEquals(10.0, second.getWorst());
+    }
+
+    @Test
+    void runIdsAreDistinct() {
+        assertEquals(List.of("run-a", "run-b"), individualRepository.findRunIds().stream().sorted().toList());
+    }
+
+    private static Individual individual(String runId, int generation, int index, double fitness) {
+        Individual individual = new Individual(String.format("%8s", Integer.toBinaryString(index)).replace(' ', '0'),
+                (double) index, fitness, generation);
+        individual.setRunId(runId);
+        return individual;
+    }
+
+    private static List<Double> fitness(Slice<IndividualView> slice) {
+        return slice.getContent().stream().map(IndividualView::getAdaptative).toList();
+    }
+}